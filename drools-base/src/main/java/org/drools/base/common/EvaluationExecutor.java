@@ -0,0 +1,270 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.base.common;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.drools.util.ObjectPool;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
+import org.kie.internal.conf.EvaluationExecutorOption;
+
+/**
+ * The executor used by a KieBase to run its parallel evaluations.
+ */
+public interface EvaluationExecutor {
+
+    /**
+     * Invokes the given task once for each index between 0 (inclusive) and tasksNr (exclusive), possibly in parallel,
+     * and returns when all the invocations completed. An exception thrown by any invocation is rethrown to the caller.
+     */
+    void invokeAll(int tasksNr, IntConsumer task);
+
+    /**
+     * Returns an executor able to run at the same time one long running fireUntilHalt task for each partition.
+     * It must be given back through {@link #offerFireUntilHaltExecutor(ExecutorService)} when the fireUntilHalt terminates.
+     * The fireUntilHalt tasks block their thread until the session is halted, so they never run on the evaluation
+     * executor itself: they would starve a ForkJoinPool or a bounded pool of the threads needed by the evaluations.
+     */
+    default ExecutorService borrowFireUntilHaltExecutor() {
+        return FireUntilHaltExecutorsPoolHolder.POOL.borrow();
+    }
+
+    default void offerFireUntilHaltExecutor(ExecutorService executor) {
+        FireUntilHaltExecutorsPoolHolder.POOL.offer(executor);
+    }
+
+    EvaluationExecutorStats getStats();
+
+    /**
+     * Releases the threads owned by this executor, if any. An executor shared by all the KieBases or supplied by the
+     * caller is left untouched.
+     */
+    void shutdown();
+
+    static EvaluationExecutor create(EvaluationExecutorOption option) {
+        switch (option.getType()) {
+            case FORK_JOIN:
+                return new ForkJoinEvaluationExecutor(option.getParallelism() > 0 ? new ForkJoinPool(option.getParallelism()) : new ForkJoinPool());
+            case VIRTUAL_THREADS:
+                return new ExecutorServiceEvaluationExecutor(VirtualThreadsHolder.newVirtualThreadPerTaskExecutor(), true);
+            case CUSTOM:
+                // the supplied executor is not serialized, so it is missing from a deserialized configuration
+                return option.getExecutorService() != null ?
+                        new ExecutorServiceEvaluationExecutor(option.getExecutorService(), false) :
+                        ForkJoinEvaluationExecutor.SHARED;
+            default:
+                return ForkJoinEvaluationExecutor.SHARED;
+        }
+    }
+
+    class FireUntilHaltExecutorsPoolHolder {
+        private static final ObjectPool<ExecutorService> POOL = ObjectPool.newLockFreePool( () -> ExecutorProviderFactory.getExecutorProvider().newFixedThreadPool(PartitionsManager.MAX_PARALLEL_THRESHOLD));
+    }
+
+    class ForkJoinEvaluationExecutor implements EvaluationExecutor {
+
+        static final ForkJoinEvaluationExecutor SHARED = new ForkJoinEvaluationExecutor(new ForkJoinPool()); // avoid common pool
+
+        private final ForkJoinPool pool;
+
+        private final AtomicLong invocations = new AtomicLong();
+
+        ForkJoinEvaluationExecutor(ForkJoinPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public void invokeAll(int tasksNr, IntConsumer task) {
+            invocations.incrementAndGet();
+            if (ForkJoinTask.getPool() == pool) {
+                // already on a worker of this pool, like a parallel join inside the evaluation of a partition:
+                // the parallel stream forks on the same pool and the worker helps running the tasks while waiting
+                IntStream.range(0, tasksNr).parallel().forEach(task);
+            } else {
+                pool.submit( () -> IntStream.range(0, tasksNr).parallel().forEach(task) ).join();
+            }
+        }
+
+        @Override
+        public EvaluationExecutorStats getStats() {
+            return new EvaluationExecutorStats(pool.getParallelism(), pool.getPoolSize(), pool.getActiveThreadCount(),
+                                               pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount(), pool.getStealCount(), invocations.get());
+        }
+
+        @Override
+        public void shutdown() {
+            if (this != SHARED) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Runs the parallel evaluations on an ExecutorService, like the one of the virtual threads or one supplied by the caller.
+     * An evaluation started by a task of this executor, like a parallel join inside the evaluation of a partition,
+     * is run sequentially by that task, and the caller runs itself the tasks that no thread of the executor started yet,
+     * so a bounded executor cannot deadlock waiting for its own threads.
+     */
+    class ExecutorServiceEvaluationExecutor implements EvaluationExecutor {
+
+        private static final ThreadLocal<ExecutorServiceEvaluationExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+        private final ExecutorService executor;
+
+        // false when the executor is supplied, and then shut down, by the caller
+        private final boolean owned;
+
+        private final AtomicLong invocations = new AtomicLong();
+        private final AtomicLong submittedTasks = new AtomicLong();
+        private final AtomicLong startedTasks = new AtomicLong();
+        private final AtomicLong completedTasks = new AtomicLong();
+
+        ExecutorServiceEvaluationExecutor(ExecutorService executor, boolean owned) {
+            this.executor = executor;
+            this.owned = owned;
+        }
+
+        @Override
+        public void invokeAll(int tasksNr, IntConsumer task) {
+            invocations.incrementAndGet();
+            if (tasksNr == 1 || CURRENT_EXECUTOR.get() == this) {
+                for (int i = 0; i < tasksNr; i++) {
+                    task.accept(i);
+                }
+                return;
+            }
+
+            submittedTasks.addAndGet(tasksNr);
+            ClaimedTasks claimedTasks = new ClaimedTasks(task, tasksNr);
+            for (int i = 1; i < tasksNr; i++) {
+                executor.execute( claimedTasks::runUnclaimed );
+            }
+
+            // the caller thread runs the tasks not yet claimed by a thread of the executor, so it only waits
+            // for the ones already running and never for a task queued behind a busy, or saturated, executor
+            claimedTasks.runUnclaimed();
+            claimedTasks.await();
+        }
+
+        private class ClaimedTasks {
+            private final IntConsumer task;
+            private final int tasksNr;
+            private final AtomicInteger nextIndex = new AtomicInteger();
+            private final CountDownLatch completed;
+            private final AtomicReference<RuntimeException> error = new AtomicReference<>();
+
+            private ClaimedTasks(IntConsumer task, int tasksNr) {
+                this.task = task;
+                this.tasksNr = tasksNr;
+                this.completed = new CountDownLatch(tasksNr);
+            }
+
+            private void runUnclaimed() {
+                for (int index = nextIndex.getAndIncrement(); index < tasksNr; index = nextIndex.getAndIncrement()) {
+                    try {
+                        runTask(task, index);
+                    } catch (RuntimeException e) {
+                        error.compareAndSet(null, e);
+                    } finally {
+                        completed.countDown();
+                    }
+                }
+            }
+
+            private void await() {
+                try {
+                    completed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+                if (error.get() != null) {
+                    throw error.get();
+                }
+            }
+        }
+
+        private void runTask(IntConsumer task, int index) {
+            startedTasks.incrementAndGet();
+            ExecutorServiceEvaluationExecutor previous = CURRENT_EXECUTOR.get();
+            CURRENT_EXECUTOR.set(this);
+            try {
+                task.accept(index);
+            } finally {
+                CURRENT_EXECUTOR.set(previous);
+                completedTasks.incrementAndGet();
+            }
+        }
+
+        @Override
+        public EvaluationExecutorStats getStats() {
+            if (executor instanceof ThreadPoolExecutor) {
+                ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+                return new EvaluationExecutorStats(threadPool.getMaximumPoolSize(), threadPool.getPoolSize(), threadPool.getActiveCount(),
+                                                   threadPool.getQueue().size(), 0, invocations.get());
+            }
+            long started = startedTasks.get();
+            int active = (int) (started - completedTasks.get());
+            return new EvaluationExecutorStats(-1, active, active, submittedTasks.get() - started, 0, invocations.get());
+        }
+
+        @Override
+        public void shutdown() {
+            if (owned) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    class VirtualThreadsHolder {
+        private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+        private static MethodHandle findNewVirtualThreadPerTaskExecutor() {
+            try {
+                return MethodHandles.publicLookup().findStatic(java.util.concurrent.Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        static ExecutorService newVirtualThreadPerTaskExecutor() {
+            if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+                throw new UnsupportedOperationException("An evaluation executor based on virtual threads requires Java 21 or later");
+            }
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+}
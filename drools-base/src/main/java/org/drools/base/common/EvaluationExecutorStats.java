@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.base.common;
+
+/**
+ * A snapshot of the state of the {@link EvaluationExecutor} of a KieBase. Note that the shared executor is
+ * also used by all the other KieBases of the JVM configured with it.
+ */
+public class EvaluationExecutorStats {
+
+    private final int parallelism;
+    private final int poolSize;
+    private final int activeWorkers;
+    private final long queueDepth;
+    private final long stealCount;
+    private final long invocations;
+
+    public EvaluationExecutorStats(int parallelism, int poolSize, int activeWorkers, long queueDepth, long stealCount, long invocations) {
+        this.parallelism = parallelism;
+        this.poolSize = poolSize;
+        this.activeWorkers = activeWorkers;
+        this.queueDepth = queueDepth;
+        this.stealCount = stealCount;
+        this.invocations = invocations;
+    }
+
+    /**
+     * The target number of threads of the executor, or -1 if it is unbounded
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads currently started by the executor
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * The number of threads currently running an evaluation task
+     */
+    public int getActiveWorkers() {
+        return activeWorkers;
+    }
+
+    /**
+     * The number of tasks submitted to the executor and not yet started
+     */
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * The number of tasks stolen by a thread from the queue of another one, only tracked by a ForkJoinPool
+     */
+    public long getStealCount() {
+        return stealCount;
+    }
+
+    /**
+     * The number of parallel evaluations requested by the KieBase to this executor
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationExecutorStats{" +
+                "parallelism=" + parallelism +
+                ", poolSize=" + poolSize +
+                ", activeWorkers=" + activeWorkers +
+                ", queueDepth=" + queueDepth +
+                ", stealCount=" + stealCount +
+                ", invocations=" + invocations +
+                '}';
+    }
+}
@@ -18,12 +18,7 @@
  */
 package org.drools.base.common;
 
-import org.drools.util.ObjectPool;
-import org.kie.internal.concurrent.ExecutorProviderFactory;
-
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
+import org.kie.internal.conf.EvaluationExecutorOption;
 
 public class PartitionsManager {
 
@@ -34,6 +29,10 @@ public class PartitionsManager {
 
     private int parallelEvaluationSlotsCount = -1;
 
+    private EvaluationExecutorOption evaluationExecutorOption = EvaluationExecutorOption.SHARED;
+
+    private volatile EvaluationExecutor evaluationExecutor;
+
     public RuleBasePartitionId createNewPartitionId() {
         return new RuleBasePartitionId(this, ++partitionCounter);
     }
@@ -50,27 +49,35 @@ public class PartitionsManager {
         this.parallelEvaluationSlotsCount = Math.min(partitionCounter, MAX_PARALLEL_THRESHOLD);
     }
 
-    private static class ForkJoinPoolHolder {
-        private static final ForkJoinPool RULES_EVALUATION_POOL = new ForkJoinPool(); // avoid common pool
-    }
-
-    public static void doOnForkJoinPool(Runnable task) {
-        ForkJoinPoolHolder.RULES_EVALUATION_POOL.submit( task ).join();
-    }
-
-    public static <T> T doOnForkJoinPool(Callable<T> task) {
-        return ForkJoinPoolHolder.RULES_EVALUATION_POOL.submit( task ).join();
-    }
-
-    private static class FireUntilHaltExecutorsPoolHolder {
-        private static final ObjectPool<ExecutorService> POOL = ObjectPool.newLockFreePool( () -> ExecutorProviderFactory.getExecutorProvider().newFixedThreadPool(MAX_PARALLEL_THRESHOLD));
+    public void setEvaluationExecutorOption(EvaluationExecutorOption evaluationExecutorOption) {
+        this.evaluationExecutorOption = evaluationExecutorOption;
     }
 
-    public static ExecutorService borrowFireUntilHaltExecutors() {
-        return FireUntilHaltExecutorsPoolHolder.POOL.borrow();
+    /**
+     * Returns the executor of this KieBase, lazily creating it at the first parallel evaluation so a KieBase
+     * never evaluated in parallel doesn't start any thread.
+     */
+    public EvaluationExecutor getEvaluationExecutor() {
+        EvaluationExecutor executor = evaluationExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = evaluationExecutor;
+                if (executor == null) {
+                    executor = EvaluationExecutor.create(evaluationExecutorOption);
+                    evaluationExecutor = executor;
+                }
+            }
+        }
+        return executor;
     }
 
-    public static void offerFireUntilHaltExecutors(ExecutorService executor) {
-        FireUntilHaltExecutorsPoolHolder.POOL.offer(executor);
+    /**
+     * Shuts down the executor of this KieBase, if it has been created. A later parallel evaluation creates a new one.
+     */
+    public synchronized void shutdownEvaluationExecutor() {
+        if (evaluationExecutor != null) {
+            evaluationExecutor.shutdown();
+            evaluationExecutor = null;
+        }
     }
 }
@@ -26,14 +26,22 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class BayesInstance<T> {
     private static final SecureRandom randomGenerator = new SecureRandom();
 
+    // the minimum number of potentials of a subtree for its messages to be computed in a separate fork-join task,
+    // below it the cost of forking the task outweighs the one of the projections and absorptions
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
     private Graph<BayesVariable>       graph;
     private JunctionTree               tree;
     private Map<String, BayesVariable> variables;
@@ -42,6 +50,16 @@ public class BayesInstance<T> {
     private long                       dirty;
     private long                       decided;
 
+    // the variables whose likelihood has been set since the last global update, that can be propagated incrementally
+    private final BitSet newEvidence = new BitSet();
+    // a likelihood has been changed or removed since the last global update, so the potentials have to be recomputed
+    private boolean retracted;
+    private boolean calibrated;
+
+    private boolean parallel;
+    private int[]   subtreeSizes;
+    int             parallelThreshold = PARALLEL_THRESHOLD;
+
     private CliqueState[]        cliqueStates;
     private SeparatorState[]     separatorStates;
     private BayesVariableState[] varStates;
@@ -83,6 +101,18 @@ public class BayesInstance<T> {
             variables.put(var.getName(), var);
             varStates[var.getId()] = var.createState();
         }
+
+        subtreeSizes = new int[cliqueStates.length];
+        computeSubtreeSizes(tree.getRoot());
+    }
+
+    private int computeSubtreeSizes(JunctionTreeClique clique) {
+        int size = clique.getPotentials().length;
+        for ( JunctionTreeSeparator sep : clique.getChildren() ) {
+            size += computeSubtreeSizes(sep.getChild());
+        }
+        subtreeSizes[clique.getId()] = size;
+        return size;
     }
 
     public void reset() {
@@ -99,6 +129,7 @@ public class BayesInstance<T> {
             BayesVariableState varState =  varStates[var.getId()];
             varState.setDistribution( new double[ varState.getDistribution().length]);
         }
+        calibrated = false;
     }
 
     public void setTargetClass(Class<T> targetClass) {
@@ -171,6 +202,18 @@ public class BayesInstance<T> {
         this.passMessageListener = passMessageListener;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * When enabled the messages of the independent subtrees of the junction tree are computed in parallel by the
+     * common fork-join pool. The propagation remains sequential while a PassMessageListener is set.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     public Map<String, BayesVariable> getVariables() {
         return variables;
     }
@@ -210,6 +253,9 @@ public class BayesInstance<T> {
 
     public void unsetLikelyhood(BayesVariable var) {
         int id = var.getId();
+        if ( this.likelyhoods[id] != null ) {
+            retracted = true;
+        }
         this.likelyhoods[id] = null;
         dirty = BitMaskUtil.set(dirty, id);
     }
@@ -227,6 +273,11 @@ public class BayesInstance<T> {
         if ( old == null || !old.equals( likelyhood ) ) {
             this.likelyhoods[likelyhood.getVariable().getId()] = likelyhood;
             dirty = BitMaskUtil.set(dirty, id);
+            if ( old == null ) {
+                newEvidence.set(id);
+            } else {
+                retracted = true;
+            }
         }
     }
 
@@ -234,12 +285,22 @@ public class BayesInstance<T> {
         if ( !isDecided() ) {
             throw new IllegalStateException("Cannot perform global upset, while one ore more variables are undecided" );
         }
-        if ( isDirty() ) {
-            reset();
+        if ( calibrated && !retracted ) {
+            // the tree is consistent with the previous evidence, so only the new one has to be propagated
+            if ( !newEvidence.isEmpty() ) {
+                propagate( applyNewEvidence() );
+            }
+        } else {
+            if ( isDirty() ) {
+                reset();
+            }
+            applyEvidence();
+            //recurseGlobalUpdate(tree.getRoot());
+            propagate( null );
         }
-        applyEvidence();
-        //recurseGlobalUpdate(tree.getRoot());
-        globalUpdate(tree.getRoot());
+        calibrated = true;
+        retracted = false;
+        newEvidence.clear();
         dirty = 0;
     }
 
@@ -247,15 +308,123 @@ public class BayesInstance<T> {
         for ( int i = 0; i < likelyhoods.length; i++ ) {
             BayesLikelyhood l = likelyhoods[i];
             if ( l != null ) {
-                int family = likelyhoods[i].getVariable().getFamily();
-                JunctionTreeClique node = tree.getJunctionTreeNodes()[family];
-                likelyhoods[i].multiplyInto(cliqueStates[family].getPotentials());
-                BayesAbsorption.normalize(cliqueStates[family].getPotentials());
+                applyEvidence( l );
             }
         }
 
     }
 
+    private int applyEvidence(BayesLikelyhood likelyhood) {
+        int family = likelyhood.getVariable().getFamily();
+        likelyhood.multiplyInto(cliqueStates[family].getPotentials());
+        BayesAbsorption.normalize(cliqueStates[family].getPotentials());
+        return family;
+    }
+
+    /**
+     * Multiplies the new evidence into the potentials of its cliques and returns the cliques that have to collect
+     * evidence: those cliques and their ancestors. The other subtrees are consistent with their parent separators,
+     * so the messages they would pass leave the potentials unchanged.
+     */
+    private boolean[] applyNewEvidence() {
+        boolean[] changed = new boolean[cliqueStates.length];
+        List<JunctionTreeClique> evidenceCliques = new ArrayList<>();
+        for ( int i = newEvidence.nextSetBit(0); i >= 0; i = newEvidence.nextSetBit(i + 1) ) {
+            int family = applyEvidence( likelyhoods[i] );
+            if ( !changed[family] ) {
+                changed[family] = true;
+                evidenceCliques.add( tree.getJunctionTreeNodes()[family] );
+            }
+        }
+        for ( JunctionTreeClique clique : evidenceCliques ) {
+            // stops at the first ancestor already marked, whose own ancestors are or will be marked too
+            for ( JunctionTreeSeparator sep = clique.getParentSeparator(); sep != null && !changed[sep.getParent().getId()]; sep = sep.getParent().getParentSeparator() ) {
+                changed[sep.getParent().getId()] = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Collects the evidence of the given cliques, or of all of them when null, into the root and then distributes it
+     * back to the whole tree, in the same order of globalUpdate(JunctionTreeClique) when it is done sequentially.
+     */
+    private void propagate(boolean[] changed) {
+        JunctionTreeClique root = tree.getRoot();
+        if ( globalUpdateListener != null ) {
+            globalUpdateListener.beforeGlobalUpdate(cliqueStates[root.getId()]);
+        }
+        if ( parallel && passMessageListener == null && subtreeSizes[root.getId()] >= parallelThreshold ) {
+            ForkJoinPool.commonPool().invoke( ForkJoinTask.adapt( () -> {
+                collectChangedEvidence( root, changed, true );
+                distributeEvidence( root, true );
+            } ) );
+        } else {
+            collectChangedEvidence( root, changed, false );
+            distributeEvidence( root, false );
+        }
+        if ( globalUpdateListener != null ) {
+            globalUpdateListener.afterGlobalUpdate(cliqueStates[root.getId()]);
+        }
+    }
+
+    private void collectChangedEvidence(JunctionTreeClique clique, boolean[] changed, boolean parallel) {
+        List<JunctionTreeSeparator> seps = clique.getChildren();
+        List<ForkJoinTask<?>> forked = null;
+        for ( JunctionTreeSeparator sep : seps ) {
+            JunctionTreeClique child = sep.getChild();
+            if ( changed != null && !changed[child.getId()] ) {
+                continue;
+            }
+            if ( parallel && subtreeSizes[child.getId()] >= parallelThreshold ) {
+                if ( forked == null ) {
+                    forked = new ArrayList<>();
+                }
+                forked.add( ForkJoinTask.adapt( () -> collectChangedEvidence( child, changed, true ) ).fork() );
+            } else {
+                collectChangedEvidence( child, changed, parallel );
+                if ( !parallel ) {
+                    passMessage( child, sep, clique );
+                }
+            }
+        }
+
+        if ( parallel ) {
+            if ( forked != null ) {
+                forked.forEach( ForkJoinTask::join );
+            }
+            // the messages absorbed by this clique are passed sequentially, once all its subtrees have been collected
+            for ( JunctionTreeSeparator sep : seps ) {
+                if ( changed == null || changed[sep.getChild().getId()] ) {
+                    passMessage( sep.getChild(), sep, clique );
+                }
+            }
+        }
+    }
+
+    private void distributeEvidence(JunctionTreeClique clique, boolean parallel) {
+        List<ForkJoinTask<?>> forked = null;
+        for ( JunctionTreeSeparator sep : clique.getChildren() ) {
+            JunctionTreeClique child = sep.getChild();
+            if ( parallel && subtreeSizes[child.getId()] >= parallelThreshold ) {
+                if ( forked == null ) {
+                    forked = new ArrayList<>();
+                }
+                // the parent potentials are only read while distributing, so its children can be updated concurrently
+                forked.add( ForkJoinTask.adapt( () -> {
+                    passMessage( clique, sep, child );
+                    distributeEvidence( child, true );
+                } ).fork() );
+            } else {
+                passMessage( clique, sep, child );
+                distributeEvidence( child, parallel );
+            }
+        }
+        if ( forked != null ) {
+            forked.forEach( ForkJoinTask::join );
+        }
+    }
+
     public void globalUpdate(JunctionTreeClique clique) {
         if ( globalUpdateListener != null ) {
             globalUpdateListener.beforeGlobalUpdate(cliqueStates[clique.getId()]);
@@ -371,47 +540,30 @@ public class BayesInstance<T> {
         double[] sepPots = separatorStates[sep.getId()].getPotentials();
         double[] oldSepPots = Arrays.copyOf(sepPots, sepPots.length);
 
-        BayesVariable[] sepVars = sep.getValues().toArray(new BayesVariable[sep.getValues().size()]);
-
         if ( passMessageListener != null ) {
             passMessageListener.beforeProjectAndAbsorb(sourceClique, sep, targetClique, oldSepPots);
         }
 
-        project(sepVars, cliqueStates[sourceClique.getId()], separatorStates[sep.getId()]);
+        project(sep, cliqueStates[sourceClique.getId()], separatorStates[sep.getId()]);
         if ( passMessageListener != null ) {
             passMessageListener.afterProject(sourceClique, sep, targetClique, oldSepPots);
         }
 
-        absorb(sepVars, cliqueStates[targetClique.getId()], separatorStates[sep.getId()], oldSepPots);
+        absorb(sep, cliqueStates[targetClique.getId()], separatorStates[sep.getId()], oldSepPots);
         if ( passMessageListener != null ) {
             passMessageListener.afterAbsorb(sourceClique, sep, targetClique, oldSepPots);
         }
     }
 
-    //private static void project(BayesVariable[] sepVars, JunctionTreeNode node, JunctionTreeSeparator sep) {
-    private static void project(BayesVariable[] sepVars, CliqueState clique, SeparatorState separator) {
-        //JunctionTreeNode node, JunctionTreeSeparator sep
-        BayesVariable[] vars = clique.getJunctionTreeClique().getValues().toArray(new BayesVariable[clique.getJunctionTreeClique().getValues().size()]);
-        int[] sepVarPos = PotentialMultiplier.createSubsetVarPos(vars, sepVars);
-
-        int sepVarNumberOfStates = PotentialMultiplier.createNumberOfStates(sepVars);
-        int[] sepVarMultipliers = PotentialMultiplier.createIndexMultipliers(sepVars, sepVarNumberOfStates);
-
-        BayesProjection p = new BayesProjection(vars, clique.getPotentials(), sepVarPos, sepVarMultipliers, separator.getPotentials());
+    private static void project(JunctionTreeSeparator sep, CliqueState clique, SeparatorState separator) {
+        JunctionTreeClique jtClique = clique.getJunctionTreeClique();
+        BayesProjection p = new BayesProjection(jtClique.getVariables(), clique.getPotentials(), sep.getVarPos(jtClique), sep.getVarMultipliers(), separator.getPotentials());
         p.project();
     }
 
-    //private static void absorb(BayesVariable[] sepVars, JunctionTreeNode node, JunctionTreeSeparator sep, double[] oldSepPots ) {
-    private static void absorb(BayesVariable[] sepVars, CliqueState clique, SeparatorState separator, double[] oldSepPots ) {
-        //BayesVariable[] vars = node.getValues().toArray( new BayesVariable[node.getValues().size()] );
-        BayesVariable[] vars = clique.getJunctionTreeClique().getValues().toArray(new BayesVariable[clique.getJunctionTreeClique().getValues().size()]);
-
-        int[] sepVarPos = PotentialMultiplier.createSubsetVarPos(vars, sepVars);
-
-        int sepVarNumberOfStates = PotentialMultiplier.createNumberOfStates(sepVars);
-        int[] sepVarMultipliers = PotentialMultiplier.createIndexMultipliers(sepVars, sepVarNumberOfStates);
-
-        BayesAbsorption p = new BayesAbsorption(sepVarPos, oldSepPots, separator.getPotentials(), sepVarMultipliers, vars, clique.getPotentials());
+    private static void absorb(JunctionTreeSeparator sep, CliqueState clique, SeparatorState separator, double[] oldSepPots ) {
+        JunctionTreeClique jtClique = clique.getJunctionTreeClique();
+        BayesAbsorption p = new BayesAbsorption(sep.getVarPos(jtClique), oldSepPots, separator.getPotentials(), sep.getVarMultipliers(), jtClique.getVariables(), clique.getPotentials());
         p.absorb();
     }
 
@@ -479,7 +631,7 @@ public class BayesInstance<T> {
     public void marginalize(BayesVariableState varState) {
         CliqueState cliqueState = cliqueStates[varState.getVariable().getFamily()];
         JunctionTreeClique jtNode = cliqueState.getJunctionTreeClique();
-        new Marginalizer(jtNode.getValues().toArray( new BayesVariable[jtNode.getValues().size()]), cliqueState.getPotentials(), varState.getVariable(), varState.getDistribution() );
+        new Marginalizer(jtNode.getVariables(), cliqueState.getPotentials(), varState.getVariable(), varState.getDistribution() );
 //        System.out.print( varState.getVariable().getName() + " " );
 //        for ( double d : varState.getDistribution() ) {
 //            System.out.print(d);
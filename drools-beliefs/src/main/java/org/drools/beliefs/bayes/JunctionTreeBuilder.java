@@ -314,7 +314,7 @@ public class JunctionTreeBuilder {
                 // connection made, remove from the graph, before recursion
                 sepGraph[set.getId1()][set.getId2()] = null;
                 sepGraph[set.getId2()][set.getId1()] = null;
-                createJunctionTreeGraph(sepGraph, child, jtNodes, jtSeps, i);
+                i = createJunctionTreeGraph(sepGraph, child, jtNodes, jtSeps, i);
             }
         }
         return i;
@@ -334,7 +334,7 @@ public class JunctionTreeBuilder {
             GraphNode<BayesVariable> varNode = graph.getNode( i );
 
             // Get OpenBitSet for parents
-            OpenBitSet parents = new OpenBitSet();
+            OpenBitSet parents = new OpenBitSet(graph.size());
             int count = 0;
             for ( Edge edge : varNode.getInEdges() ) {
                 parents.set( edge.getOutGraphNode().getId() );
@@ -379,7 +379,7 @@ public class JunctionTreeBuilder {
         for ( int i = clique.nextSetBit(0); i >= 0; i = clique.nextSetBit( i + 1 ) ) {
              OpenBitSet cliques = nodeToCliques[i];
             if ( cliques == null ) {
-                cliques = new OpenBitSet();
+                cliques = new OpenBitSet(nodeToCliques.length);
                 nodeToCliques[i] = cliques;
             }
             cliques.set(id);
@@ -29,6 +29,7 @@ public class JunctionTreeClique {
     private int                         id;
     private OpenBitSet bitSet;
     private List<BayesVariable>         values;
+    private BayesVariable[]             variables;
     private JunctionTreeSeparator       parentSeparator;
     private List<JunctionTreeSeparator> children;
 
@@ -44,6 +45,7 @@ public class JunctionTreeClique {
         for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit( i + 1 ) ) {
             values.add(graph.getNode(i).getContent());
         }
+        variables = values.toArray(new BayesVariable[values.size()]);
 
         int numberOfStates = PotentialMultiplier.createNumberOfStates(values);
         potentials = new double[numberOfStates];
@@ -67,6 +69,13 @@ public class JunctionTreeClique {
         return values;
     }
 
+    /**
+     * Returns the values of this clique as an array, in the order used to index its potentials
+     */
+    public BayesVariable[] getVariables() {
+        return variables;
+    }
+
     public List<BayesVariable> getFamily() {
         return family;
     }
@@ -31,6 +31,12 @@ public class JunctionTreeSeparator {
     private List<BayesVariable> values;
     private JunctionTreeClique  parent;
     private JunctionTreeClique  child;
+
+    // the index maps of the separator potentials into the potentials of its cliques, used by every message passed through it
+    private BayesVariable[]     variables;
+    private int[]               parentVarPos;
+    private int[]               childVarPos;
+    private int[]               varMultipliers;
     //private double[]            potentials;
 
 
@@ -47,6 +53,11 @@ public class JunctionTreeSeparator {
         for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
             values.add(graph.getNode(i).getContent());
         }
+
+        variables = values.toArray(new BayesVariable[values.size()]);
+        parentVarPos = PotentialMultiplier.createSubsetVarPos(parent.getVariables(), variables);
+        childVarPos = PotentialMultiplier.createSubsetVarPos(child.getVariables(), variables);
+        varMultipliers = PotentialMultiplier.createIndexMultipliers(variables, PotentialMultiplier.createNumberOfStates(variables));
     }
 
     public OpenBitSet getBitSet() {
@@ -80,6 +91,22 @@ public class JunctionTreeSeparator {
         return values;
     }
 
+    public BayesVariable[] getVariables() {
+        return variables;
+    }
+
+    /**
+     * Returns the positions of the variables of this separator in the variables of the given clique,
+     * which is either its parent or its child
+     */
+    public int[] getVarPos(JunctionTreeClique clique) {
+        return clique == child ? childVarPos : parentVarPos;
+    }
+
+    public int[] getVarMultipliers() {
+        return varMultipliers;
+    }
+
     @Override
     public String toString() {
         return "JunctionTreeSeparator{" +
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.beliefs.bayes;
+
+import java.util.Random;
+
+import org.drools.beliefs.graph.Graph;
+import org.drools.beliefs.graph.GraphNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.drools.beliefs.bayes.example.SprinkerTest.connectParentToChildren;
+
+/**
+ * Checks that the evidence propagated incrementally, or in parallel, produces the same marginals of a global update
+ * computed from scratch, on a tree shaped network whose subtrees are large enough to be collected in parallel
+ * once the threshold is lowered.
+ */
+public class IncrementalGlobalUpdateTest {
+
+    private static final int VARIABLES = 127;
+    private static final String[] OUTCOMES = new String[] { "a", "b", "c", "d" };
+
+    private JunctionTree jTree;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(0);
+        Graph<BayesVariable> graph = new BayesNetwork();
+        GraphNode<BayesVariable>[] nodes = new GraphNode[VARIABLES];
+        for ( int i = 0; i < VARIABLES; i++ ) {
+            nodes[i] = graph.addNode();
+            if ( i > 0 ) {
+                connectParentToChildren( nodes[(i - 1) / 2], nodes[i] );
+            }
+            double[][] probabilities = new double[i > 0 ? OUTCOMES.length : 1][];
+            for ( int j = 0; j < probabilities.length; j++ ) {
+                probabilities[j] = randomDistribution( random );
+            }
+            nodes[i].setContent( new BayesVariable<String>( "V" + i, nodes[i].getId(), OUTCOMES, probabilities ) );
+        }
+        jTree = new JunctionTreeBuilder( graph ).build();
+    }
+
+    @Test
+    public void testIncrementalEvidence() {
+        BayesInstance<?> incremental = new BayesInstance<>( jTree );
+        incremental.globalUpdate();
+        incremental.setLikelyhood( "V100", new double[] { 1.0, 0.0, 0.0, 0.0 } );
+        incremental.globalUpdate();
+        incremental.setLikelyhood( "V7", new double[] { 0.2, 0.3, 0.1, 0.4 } );
+        incremental.setLikelyhood( "V120", new double[] { 0.0, 0.5, 0.5, 0.0 } );
+        incremental.globalUpdate();
+
+        BayesInstance<?> full = new BayesInstance<>( jTree );
+        full.setLikelyhood( "V100", new double[] { 1.0, 0.0, 0.0, 0.0 } );
+        full.setLikelyhood( "V7", new double[] { 0.2, 0.3, 0.1, 0.4 } );
+        full.setLikelyhood( "V120", new double[] { 0.0, 0.5, 0.5, 0.0 } );
+        full.globalUpdate();
+
+        assertSameMarginals( full, incremental );
+    }
+
+    @Test
+    public void testRetractedEvidence() {
+        BayesInstance<?> instance = new BayesInstance<>( jTree );
+        instance.setLikelyhood( "V100", new double[] { 1.0, 0.0, 0.0, 0.0 } );
+        instance.setLikelyhood( "V7", new double[] { 0.2, 0.3, 0.1, 0.4 } );
+        instance.globalUpdate();
+        instance.unsetLikelyhood( instance.getVariables().get( "V100" ) );
+        instance.globalUpdate();
+
+        BayesInstance<?> full = new BayesInstance<>( jTree );
+        full.setLikelyhood( "V7", new double[] { 0.2, 0.3, 0.1, 0.4 } );
+        full.globalUpdate();
+
+        assertSameMarginals( full, instance );
+    }
+
+    @Test
+    public void testParallelGlobalUpdate() {
+        BayesInstance<?> parallel = new BayesInstance<>( jTree );
+        parallel.setParallel( true );
+        parallel.parallelThreshold = 256;
+        parallel.setLikelyhood( "V64", new double[] { 0.0, 0.0, 1.0, 0.0 } );
+        parallel.globalUpdate();
+        parallel.setLikelyhood( "V3", new double[] { 0.1, 0.1, 0.4, 0.4 } );
+        parallel.setLikelyhood( "V126", new double[] { 0.0, 1.0, 0.0, 0.0 } );
+        parallel.globalUpdate();
+
+        BayesInstance<?> sequential = new BayesInstance<>( jTree );
+        sequential.setLikelyhood( "V64", new double[] { 0.0, 0.0, 1.0, 0.0 } );
+        sequential.setLikelyhood( "V3", new double[] { 0.1, 0.1, 0.4, 0.4 } );
+        sequential.setLikelyhood( "V126", new double[] { 0.0, 1.0, 0.0, 0.0 } );
+        sequential.globalUpdate();
+
+        assertSameMarginals( sequential, parallel );
+    }
+
+    private static void assertSameMarginals(BayesInstance<?> expected, BayesInstance<?> actual) {
+        for ( int i = 0; i < VARIABLES; i++ ) {
+            double[] distribution = expected.marginalize( "V" + i ).getDistribution().clone();
+            assertThat( actual.marginalize( "V" + i ).getDistribution() ).containsExactly( distribution, within( 1e-9 ) );
+        }
+    }
+
+    private static double[] randomDistribution(Random random) {
+        double[] distribution = new double[OUTCOMES.length];
+        double sum = 0;
+        for ( int i = 0; i < distribution.length; i++ ) {
+            distribution[i] = 0.1 + random.nextDouble();
+            sum += distribution[i];
+        }
+        for ( int i = 0; i < distribution.length; i++ ) {
+            distribution[i] /= sum;
+        }
+        return distribution;
+    }
+}
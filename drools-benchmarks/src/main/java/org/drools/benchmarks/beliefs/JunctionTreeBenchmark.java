@@ -0,0 +1,129 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.beliefs;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.beliefs.bayes.BayesInstance;
+import org.drools.beliefs.bayes.BayesNetwork;
+import org.drools.beliefs.bayes.BayesVariable;
+import org.drools.beliefs.bayes.JunctionTree;
+import org.drools.beliefs.bayes.JunctionTreeBuilder;
+import org.drools.beliefs.graph.GraphNode;
+import org.drools.beliefs.graph.impl.EdgeImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the global update of a randomly generated Bayesian network after a piece of evidence is entered, either
+ * on a variable without evidence, that is propagated incrementally, or replacing the evidence of a variable, that
+ * requires the potentials to be recomputed from scratch.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JunctionTreeBenchmark {
+
+    private static final String[] OUTCOMES = new String[] { "low", "medium", "high" };
+
+    @Param({"200"})
+    private int variablesNumber;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private JunctionTree junctionTree;
+    private BayesInstance<?> instance;
+    private int evidenceCounter;
+
+    @Setup(Level.Trial)
+    public void buildJunctionTree() {
+        Random random = new Random(0);
+        BayesNetwork network = new BayesNetwork();
+        GraphNode<BayesVariable>[] nodes = new GraphNode[variablesNumber];
+        for (int i = 0; i < variablesNumber; i++) {
+            nodes[i] = network.addNode();
+            // every variable depends on up to two of the few variables preceding it, keeping the cliques small
+            int parentsNumber = Math.min(i, 1 + random.nextInt(2));
+            int rows = 1;
+            for (int p = 1; p <= parentsNumber; p++) {
+                EdgeImpl edge = new EdgeImpl();
+                edge.setOutGraphNode(nodes[Math.max(0, i - p - random.nextInt(3))]);
+                edge.setInGraphNode(nodes[i]);
+                rows *= OUTCOMES.length;
+            }
+            double[][] probabilities = new double[rows][];
+            for (int r = 0; r < rows; r++) {
+                probabilities[r] = randomDistribution(random);
+            }
+            nodes[i].setContent(new BayesVariable<>("V" + i, nodes[i].getId(), OUTCOMES, probabilities));
+        }
+        junctionTree = new JunctionTreeBuilder(network).build();
+    }
+
+    @Setup(Level.Invocation)
+    public void createInstance() {
+        instance = new BayesInstance<>(junctionTree);
+        instance.setParallel(parallel);
+        instance.setLikelyhood("V0", new double[] { 1.0, 0.0, 0.0 });
+        instance.globalUpdate();
+    }
+
+    @Benchmark
+    public BayesInstance<?> newEvidence() {
+        int variable = 1 + (evidenceCounter++ % (variablesNumber - 1));
+        instance.setLikelyhood("V" + variable, new double[] { 0.0, 1.0, 0.0 });
+        instance.globalUpdate();
+        return instance;
+    }
+
+    @Benchmark
+    public BayesInstance<?> changedEvidence() {
+        instance.setLikelyhood("V0", new double[] { 0.0, 0.0, 1.0 });
+        instance.globalUpdate();
+        return instance;
+    }
+
+    private static double[] randomDistribution(Random random) {
+        double[] distribution = new double[OUTCOMES.length];
+        double sum = 0;
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] = 0.1 + random.nextDouble();
+            sum += distribution[i];
+        }
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] /= sum;
+        }
+        return distribution;
+    }
+}
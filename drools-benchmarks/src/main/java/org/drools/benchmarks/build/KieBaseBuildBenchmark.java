@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.build;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.base.definitions.rule.impl.RuleImpl;
+import org.drools.base.rule.LogicTransformer;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.drools.benchmarks.domain.Transaction;
+import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.impl.RuleBaseFactory;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the startup cost of assembling the network of a large KieBase out of already compiled packages,
+ * next to the cost of transforming the left hand sides of its rules alone. The transformation is the only
+ * step of the build that doesn't depend on the nodes already in the network, so its share of the whole build
+ * bounds what building the network concurrently could save while keeping node sharing deterministic.
+ * The packages are compiled again before each iteration, because packages already used by another KieBase
+ * would be cloned instead of being added as they are.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KieBaseBuildBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rulesNumber;
+
+    private String drl;
+
+    private Collection<KiePackage> packages;
+
+    @Setup(Level.Trial)
+    public void generateRules() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package org.drools.benchmarks.build;\n");
+        sb.append("import ").append(Customer.class.getCanonicalName()).append(";\n");
+        sb.append("import ").append(Account.class.getCanonicalName()).append(";\n");
+        sb.append("import ").append(Transaction.class.getCanonicalName()).append(";\n");
+        for (int i = 0; i < rulesNumber; i++) {
+            sb.append("rule R").append(i).append(" when\n");
+            sb.append("    $c : Customer( category == \"C").append(i % 100).append("\", score > ").append(i).append(" )\n");
+            sb.append("    $a : Account( customerId == $c.id, balance > ").append(i % 1000).append(" )\n");
+            sb.append("    not Transaction( accountId == $a.id, amount > ").append(i).append(" ) or Customer( score == ").append(i).append(" )\n");
+            sb.append("then end\n");
+        }
+        drl = sb.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void compilePackages() {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add(ResourceFactory.newByteArrayResource(drl.getBytes(StandardCharsets.UTF_8)), ResourceType.DRL);
+        if (kbuilder.hasErrors()) {
+            throw new IllegalStateException("Unable to build benchmark rules: " + kbuilder.getErrors());
+        }
+        packages = kbuilder.getKnowledgePackages();
+    }
+
+    @Benchmark
+    public InternalRuleBase buildKieBase() {
+        InternalRuleBase kBase = RuleBaseFactory.newRuleBase(RuleBaseFactory.newKnowledgeBaseConfiguration());
+        kBase.addPackages(packages);
+        return kBase;
+    }
+
+    @Benchmark
+    public void transformRules(Blackhole blackhole) {
+        for (KiePackage pkg : packages) {
+            for (Rule rule : pkg.getRules()) {
+                blackhole.consume(((RuleImpl) rule).getTransformedLhs(LogicTransformer.getInstance(), Collections.emptyMap()));
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.common;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieBaseModel;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+
+public final class BenchmarkUtil {
+
+    private static final String KBASE_NAME = "benchmarkKBase";
+
+    private static int releaseCounter = 0;
+
+    private BenchmarkUtil() { }
+
+    public static KieBase buildKieBase(BuildType buildType, String... drls) {
+        return buildKieBase(buildType, EventProcessingOption.CLOUD, drls);
+    }
+
+    public static KieBase buildKieBase(BuildType buildType, EventProcessingOption eventProcessingOption, String... drls) {
+        final KieServices kieServices = KieServices.get();
+        final ReleaseId releaseId = kieServices.newReleaseId("org.drools.benchmarks", "benchmark-kjar", nextVersion());
+
+        final KieModuleModel kieModuleModel = kieServices.newKieModuleModel();
+        final KieBaseModel kieBaseModel = kieModuleModel.newKieBaseModel(KBASE_NAME)
+                .setDefault(true)
+                .setEventProcessingMode(eventProcessingOption);
+        kieBaseModel.addPackage("*");
+
+        final KieFileSystem kfs = kieServices.newKieFileSystem();
+        kfs.generateAndWritePomXML(releaseId);
+        kfs.writeKModuleXML(kieModuleModel.toXML());
+        for (int i = 0; i < drls.length; i++) {
+            kfs.write("src/main/resources/org/drools/benchmarks/rules" + i + ".drl", drls[i]);
+        }
+
+        final KieBuilder kieBuilder = kieServices.newKieBuilder(kfs).buildAll(buildType.getProjectClass());
+        final List<Message> errors = kieBuilder.getResults().getMessages(Message.Level.ERROR);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Unable to build benchmark rules: " +
+                                            errors.stream().map(Message::toString).collect(Collectors.joining(", ")));
+        }
+
+        return kieServices.newKieContainer(releaseId).getKieBase(KBASE_NAME);
+    }
+
+    public static KieSession newPseudoClockSession(KieBase kieBase) {
+        final KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        return kieBase.newKieSession(conf, null);
+    }
+
+    private static synchronized String nextVersion() {
+        return "1.0." + releaseCounter++;
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractSessionBenchmark;
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures accumulates, both global and grouped by a joined fact, while their source facts are inserted and
+ * then partially retracted. Grouping is expressed as an accumulate nested under a customer pattern,
+ * which is the form both the DRL and the executable model build paths support.
+ */
+public class AccumulateBenchmark extends AbstractSessionBenchmark {
+
+    private static final String DRL =
+            "import " + Customer.class.getCanonicalName() + ";\n" +
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "rule TotalBalance when\n" +
+            "    accumulate( Account( $b : balance ); $sum : sum( $b ), $min : min( $b ), $max : max( $b ) )\n" +
+            "then end\n" +
+            "rule BalancePerCustomer when\n" +
+            "    $c : Customer( $id : id )\n" +
+            "    accumulate( Account( customerId == $id, $b : balance ); $sum : sum( $b ), $count : count( $b ) )\n" +
+            "then end\n";
+
+    @Param({"100"})
+    private int customersNumber;
+
+    @Param({"10", "100"})
+    private int accountsPerCustomer;
+
+    @Override
+    protected KieBase createKieBase() {
+        return BenchmarkUtil.buildKieBase(buildType, DRL);
+    }
+
+    @Override
+    protected void populateSession() {
+        for (int i = 0; i < customersNumber; i++) {
+            kieSession.insert(new Customer(i, "GOLD", i));
+        }
+    }
+
+    @Benchmark
+    public int accumulateAndRetract() {
+        List<FactHandle> accountHandles = new ArrayList<>(customersNumber * accountsPerCustomer);
+        long accountId = 0;
+        for (int i = 0; i < customersNumber; i++) {
+            for (int j = 0; j < accountsPerCustomer; j++) {
+                accountHandles.add(kieSession.insert(new Account(accountId, i, accountId)));
+                accountId++;
+            }
+        }
+        int fired = kieSession.fireAllRules();
+        for (int i = 0; i < accountHandles.size(); i += 2) {
+            kieSession.delete(accountHandles.get(i));
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import org.drools.benchmarks.common.AbstractSessionBenchmark;
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.domain.Customer;
+import org.kie.api.KieBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the propagation of facts through a wide alpha network where many alpha nodes constrain
+ * the same field, exercising the hashed and range indexed sinks of the object type node.
+ */
+public class AlphaNetworkBenchmark extends AbstractSessionBenchmark {
+
+    public enum ConstraintType {
+        EQUALITY, RANGE
+    }
+
+    @Param({"10", "100", "1000"})
+    private int rulesNumber;
+
+    @Param({"EQUALITY", "RANGE"})
+    private ConstraintType constraintType;
+
+    @Param({"10000"})
+    private int factsNumber;
+
+    @Override
+    protected KieBase createKieBase() {
+        StringBuilder drl = new StringBuilder();
+        drl.append("import ").append(Customer.class.getCanonicalName()).append(";\n");
+        for (int i = 0; i < rulesNumber; i++) {
+            drl.append("rule R").append(i).append(" when\n");
+            if (constraintType == ConstraintType.EQUALITY) {
+                drl.append("    Customer( category == \"C").append(i).append("\" )\n");
+            } else {
+                drl.append("    Customer( score >= ").append(i * 10).append(", score < ").append(i * 10 + 10).append(" )\n");
+            }
+            drl.append("then end\n");
+        }
+        return BenchmarkUtil.buildKieBase(buildType, drl.toString());
+    }
+
+    @Benchmark
+    public int insertAlphaOnly() {
+        for (int i = 0; i < factsNumber; i++) {
+            kieSession.insert(new Customer(i, "C" + (i % rulesNumber), (i * 10) % (rulesNumber * 10)));
+        }
+        return kieSession.fireAllRules();
+    }
+}
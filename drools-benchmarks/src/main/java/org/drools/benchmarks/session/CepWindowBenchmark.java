@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractSessionBenchmark;
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.domain.Transaction;
+import org.kie.api.KieBase;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.time.SessionPseudoClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures sliding time and length windows in stream mode, advancing a pseudo clock so that events
+ * continuously enter and expire from the windows.
+ */
+public class CepWindowBenchmark extends AbstractSessionBenchmark {
+
+    private static final String DRL =
+            "import " + Transaction.class.getCanonicalName() + ";\n" +
+            "rule TimeWindowSum when\n" +
+            "    accumulate( Transaction( $a : amount ) over window:time( 10s ); $sum : sum( $a ) )\n" +
+            "then end\n" +
+            "rule LengthWindowMax when\n" +
+            "    accumulate( Transaction( amount > 0, $a : amount ) over window:length( 100 ); $max : max( $a ) )\n" +
+            "then end\n";
+
+    @Param({"10000"})
+    private int eventsNumber;
+
+    @Param({"10"})
+    private long millisBetweenEvents;
+
+    @Override
+    protected KieBase createKieBase() {
+        return BenchmarkUtil.buildKieBase(buildType, EventProcessingOption.STREAM, DRL);
+    }
+
+    @Override
+    protected KieSession createKieSession() {
+        return BenchmarkUtil.newPseudoClockSession(kieBase);
+    }
+
+    @Benchmark
+    public int slidingWindows() {
+        SessionPseudoClock clock = kieSession.getSessionClock();
+        int fired = 0;
+        for (int i = 0; i < eventsNumber; i++) {
+            kieSession.insert(new Transaction(i % 100, i, clock.getCurrentTime()));
+            clock.advanceTime(millisBetweenEvents, TimeUnit.MILLISECONDS);
+            if (i % 100 == 0) {
+                fired += kieSession.fireAllRules();
+            }
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractSessionBenchmark;
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the insert, update and delete churn of facts flowing through alpha and join nodes.
+ */
+public class InsertUpdateDeleteBenchmark extends AbstractSessionBenchmark {
+
+    public enum Operation {
+        INSERT, INSERT_ALL, UPDATE, UPDATE_ALL, DELETE
+    }
+
+    private static final String DRL =
+            "import " + Customer.class.getCanonicalName() + ";\n" +
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "rule GoldCustomer when\n" +
+            "    Customer( category == \"GOLD\", score > 50 )\n" +
+            "then end\n" +
+            "rule RichAccount when\n" +
+            "    $c : Customer( $id : id )\n" +
+            "    Account( customerId == $id, balance > 1000 )\n" +
+            "then end\n";
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    @Param({"INSERT", "INSERT_ALL", "UPDATE", "UPDATE_ALL", "DELETE"})
+    private Operation operation;
+
+    private List<FactHandle> customerHandles;
+    private List<FactHandle> accountHandles;
+    private List<Customer> customers;
+    private List<Account> accounts;
+
+    @Override
+    protected KieBase createKieBase() {
+        return BenchmarkUtil.buildKieBase(buildType, DRL);
+    }
+
+    @Override
+    protected void populateSession() {
+        customers = new ArrayList<>(factsNumber);
+        accounts = new ArrayList<>(factsNumber);
+        for (int i = 0; i < factsNumber; i++) {
+            customers.add(new Customer(i, i % 2 == 0 ? "GOLD" : "SILVER", i % 100));
+            accounts.add(new Account(i, i, i * 10L));
+        }
+
+        customerHandles = new ArrayList<>(factsNumber);
+        accountHandles = new ArrayList<>(factsNumber);
+        if (operation != Operation.INSERT && operation != Operation.INSERT_ALL) {
+            for (int i = 0; i < factsNumber; i++) {
+                customerHandles.add(kieSession.insert(customers.get(i)));
+                accountHandles.add(kieSession.insert(accounts.get(i)));
+            }
+            kieSession.fireAllRules();
+        }
+    }
+
+    @Benchmark
+    public int churn() {
+        switch (operation) {
+            case INSERT:
+                for (int i = 0; i < factsNumber; i++) {
+                    kieSession.insert(customers.get(i));
+                    kieSession.insert(accounts.get(i));
+                }
+                break;
+            case INSERT_ALL:
+                kieSession.insertAll(customers);
+                kieSession.insertAll(accounts);
+                break;
+            case UPDATE:
+                for (int i = 0; i < factsNumber; i++) {
+                    Customer customer = customers.get(i);
+                    customer.setScore(100 - customer.getScore());
+                    kieSession.update(customerHandles.get(i), customer);
+                    Account account = accounts.get(i);
+                    account.setBalance(account.getBalance() + 1000);
+                    kieSession.update(accountHandles.get(i), account);
+                }
+                break;
+            case UPDATE_ALL:
+                for (int i = 0; i < factsNumber; i++) {
+                    Customer customer = customers.get(i);
+                    customer.setScore(100 - customer.getScore());
+                    Account account = accounts.get(i);
+                    account.setBalance(account.getBalance() + 1000);
+                }
+                kieSession.updateAll(customerHandles, "score");
+                kieSession.updateAll(accountHandles, "balance");
+                break;
+            case DELETE:
+                for (int i = 0; i < factsNumber; i++) {
+                    kieSession.delete(customerHandles.get(i));
+                    kieSession.delete(accountHandles.get(i));
+                }
+                break;
+        }
+        return kieSession.fireAllRules();
+    }
+}
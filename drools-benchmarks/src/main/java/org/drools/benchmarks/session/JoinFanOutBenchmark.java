@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import org.drools.benchmarks.common.AbstractSessionBenchmark;
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.kie.api.KieBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures an indexed join where every left tuple matches a configurable number of right facts.
+ */
+public class JoinFanOutBenchmark extends AbstractSessionBenchmark {
+
+    private static final String DRL =
+            "import " + Customer.class.getCanonicalName() + ";\n" +
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "rule CustomerAccounts when\n" +
+            "    $c : Customer( $id : id )\n" +
+            "    $a : Account( customerId == $id )\n" +
+            "then end\n";
+
+    @Param({"1000"})
+    private int customersNumber;
+
+    @Param({"1", "10", "100"})
+    private int accountsPerCustomer;
+
+    @Override
+    protected KieBase createKieBase() {
+        return BenchmarkUtil.buildKieBase(buildType, DRL);
+    }
+
+    @Override
+    protected void populateSession() {
+        long accountId = 0;
+        for (int i = 0; i < customersNumber; i++) {
+            for (int j = 0; j < accountsPerCustomer; j++) {
+                kieSession.insert(new Account(accountId++, i, j));
+            }
+        }
+    }
+
+    @Benchmark
+    public int joinFanOut() {
+        for (int i = 0; i < customersNumber; i++) {
+            kieSession.insert(new Customer(i, "GOLD", i));
+        }
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractSessionBenchmark;
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the not and exists nodes while the right input is first populated and then emptied again,
+ * so that every left tuple is blocked and later unblocked.
+ */
+public class NotExistsBenchmark extends AbstractSessionBenchmark {
+
+    private static final String DRL =
+            "import " + Customer.class.getCanonicalName() + ";\n" +
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "rule CustomerWithoutAccount when\n" +
+            "    $c : Customer( $id : id )\n" +
+            "    not Account( customerId == $id )\n" +
+            "then end\n" +
+            "rule CustomerWithAccount when\n" +
+            "    $c : Customer( $id : id )\n" +
+            "    exists Account( customerId == $id )\n" +
+            "then end\n";
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    @Override
+    protected KieBase createKieBase() {
+        return BenchmarkUtil.buildKieBase(buildType, DRL);
+    }
+
+    @Override
+    protected void populateSession() {
+        for (int i = 0; i < factsNumber; i++) {
+            kieSession.insert(new Customer(i, "GOLD", i));
+        }
+        kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int blockAndUnblock() {
+        List<FactHandle> accountHandles = new ArrayList<>(factsNumber);
+        for (int i = 0; i < factsNumber; i++) {
+            accountHandles.add(kieSession.insert(new Account(i, i, i)));
+        }
+        int fired = kieSession.fireAllRules();
+        for (FactHandle accountHandle : accountHandles) {
+            kieSession.delete(accountHandle);
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
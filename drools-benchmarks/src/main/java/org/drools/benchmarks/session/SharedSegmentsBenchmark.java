@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.session;
+
+import org.drools.benchmarks.common.AbstractSessionBenchmark;
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.drools.benchmarks.domain.Transaction;
+import org.kie.api.KieBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures many rules sharing the segment of a common join prefix, when only the last pattern of each rule
+ * receives new facts, so that every rule has to be evaluated while the shared segment stays clean.
+ */
+public class SharedSegmentsBenchmark extends AbstractSessionBenchmark {
+
+    @Param({"10", "100"})
+    private int rulesNumber;
+
+    @Param({"100"})
+    private int customersNumber;
+
+    @Param({"1000"})
+    private int transactionsNumber;
+
+    @Override
+    protected KieBase createKieBase() {
+        StringBuilder drl = new StringBuilder();
+        drl.append("import ").append(Customer.class.getCanonicalName()).append(";\n");
+        drl.append("import ").append(Account.class.getCanonicalName()).append(";\n");
+        drl.append("import ").append(Transaction.class.getCanonicalName()).append(";\n");
+        for (int i = 0; i < rulesNumber; i++) {
+            drl.append("rule R").append(i).append(" when\n")
+               .append("    $c : Customer( $id : id )\n")
+               .append("    $a : Account( customerId == $id, $accountId : id )\n")
+               .append("    Transaction( accountId == $accountId, amount > ").append(i).append(" )\n")
+               .append("then end\n");
+        }
+        return BenchmarkUtil.buildKieBase(buildType, drl.toString());
+    }
+
+    @Override
+    protected void populateSession() {
+        for (int i = 0; i < customersNumber; i++) {
+            kieSession.insert(new Customer(i, "GOLD", i));
+            kieSession.insert(new Account(i, i, 0));
+        }
+        kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int sharedSegments() {
+        for (int i = 0; i < transactionsNumber; i++) {
+            kieSession.insert(new Transaction(i % customersNumber, i % (rulesNumber * 2), i));
+        }
+        return kieSession.fireAllRules();
+    }
+}
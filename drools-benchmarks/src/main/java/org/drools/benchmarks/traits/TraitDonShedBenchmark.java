@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.traits;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.base.factmodel.traits.Thing;
+import org.drools.base.factmodel.traits.Trait;
+import org.drools.traits.core.factmodel.Entity;
+import org.drools.traits.core.factmodel.LogicalTypeInconsistencyException;
+import org.drools.traits.core.factmodel.VirtualPropertyMode;
+import org.drools.traits.core.util.StandaloneTraitFactory;
+import org.drools.wiring.api.classloader.ProjectClassLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures donning and shedding a trait hierarchy on a fresh core, and compares the access to the soft fields of a
+ * donned trait, stored in the dynamic properties map or in the triple store depending on the proxy mode, with the
+ * access to the fields of a plain object.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraitDonShedBenchmark {
+
+    @Trait
+    public interface Student extends Thing<Entity> {
+        String getSchool();
+        void setSchool(String school);
+        int getAge();
+        void setAge(int age);
+    }
+
+    @Trait
+    public interface Worker extends Student {
+        String getCompany();
+        void setCompany(String company);
+    }
+
+    public static class PlainStudent {
+        private String school;
+        private int age;
+
+        public String getSchool() {
+            return school;
+        }
+
+        public void setSchool(String school) {
+            this.school = school;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    private static final String[] SCHOOLS = new String[] { "Alpha", "Beta", "Gamma", "Delta" };
+
+    @Param({"MAP", "TRIPLES"})
+    private VirtualPropertyMode mode;
+
+    private StandaloneTraitFactory factory;
+    private Student donned;
+    private PlainStudent plain;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setupFactory() throws LogicalTypeInconsistencyException {
+        factory = new StandaloneTraitFactory(ProjectClassLoader.createProjectClassLoader(), mode);
+        donned = (Student) factory.don(new Entity("donned"), Student.class);
+        plain = new PlainStudent();
+    }
+
+    @Benchmark
+    public int donAndShed() throws LogicalTypeInconsistencyException {
+        Entity core = new Entity("core");
+        Worker worker = (Worker) factory.don(core, Worker.class);
+        worker.setCompany(SCHOOLS[counter++ & 3]);
+        return core.removeTrait(Student.class.getName()).size();
+    }
+
+    @Benchmark
+    public int softFieldAccess() {
+        int i = counter++;
+        donned.setAge(i);
+        donned.setSchool(SCHOOLS[i & 3]);
+        return donned.getAge() + donned.getSchool().length();
+    }
+
+    @Benchmark
+    public int plainFieldAccess() {
+        int i = counter++;
+        plain.setAge(i);
+        plain.setSchool(SCHOOLS[i & 3]);
+        return plain.getAge() + plain.getSchool().length();
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.common;
+
+import org.drools.benchmarks.domain.Account;
+import org.drools.benchmarks.domain.Customer;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BenchmarkUtilTest {
+
+    private static final String DRL =
+            "import " + Customer.class.getCanonicalName() + ";\n" +
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "rule CustomerAccounts when\n" +
+            "    $c : Customer( $id : id )\n" +
+            "    Account( customerId == $id )\n" +
+            "then end\n";
+
+    @Test
+    public void testBuildWithDrl() {
+        checkKieBase(BenchmarkUtil.buildKieBase(BuildType.DRL, DRL));
+    }
+
+    @Test
+    public void testBuildWithExecutableModel() {
+        checkKieBase(BenchmarkUtil.buildKieBase(BuildType.EXEC_MODEL, DRL));
+    }
+
+    private void checkKieBase(KieBase kieBase) {
+        KieSession kieSession = kieBase.newKieSession();
+        try {
+            kieSession.insert(new Customer(1, "GOLD", 10));
+            kieSession.insert(new Account(1, 1, 100));
+            kieSession.insert(new Account(2, 2, 100));
+            assertThat(kieSession.fireAllRules()).isEqualTo(1);
+        } finally {
+            kieSession.dispose();
+        }
+    }
+}
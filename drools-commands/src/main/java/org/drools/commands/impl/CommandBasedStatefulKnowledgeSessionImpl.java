@@ -18,7 +18,9 @@
  */
 package org.drools.commands.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -73,6 +75,7 @@ import org.drools.commands.runtime.rule.GetObjectCommand;
 import org.drools.commands.runtime.rule.GetObjectsCommand;
 import org.drools.commands.runtime.rule.GetRuleRuntimeEventListenersCommand;
 import org.drools.commands.runtime.rule.HaltCommand;
+import org.drools.commands.runtime.rule.InsertElementsCommand;
 import org.drools.commands.runtime.rule.InsertObjectCommand;
 import org.drools.commands.runtime.rule.QueryCommand;
 import org.drools.commands.runtime.rule.UpdateCommand;
@@ -448,6 +451,11 @@ public class CommandBasedStatefulKnowledgeSessionImpl extends AbstractRuntime
         return runner.execute( new InsertObjectCommand( object ) );
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        return (List<FactHandle>) runner.execute( new InsertElementsCommand( new ArrayList<>( objects ) ) );
+    }
+
     public void submit( AtomicAction action ) {
         throw new UnsupportedOperationException( "It is not necessary to use submit with a command based session, commands are already atomic" );
     }
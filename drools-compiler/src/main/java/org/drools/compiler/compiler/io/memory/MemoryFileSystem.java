@@ -505,15 +505,16 @@ public class MemoryFileSystem
         MemoryFileSystem mfs = new MemoryFileSystem();
         try (JarInputStream zipFile = new JarInputStream( jarFile )) {
             ZipEntry entry;
+            byte[] buffer = new byte[8192];
             while ( (entry = zipFile.getNextEntry()) != null ) {
                 if (entry.isDirectory()) {
                     continue;
                 }
                 // entry.getSize() is not accurate according to documentation, so have to read bytes until -1 is found
                 ByteArrayOutputStream content = new ByteArrayOutputStream();
-                int b;
-                while( (b = zipFile.read()) != -1 ) {
-                    content.write( b );
+                int n;
+                while( (n = zipFile.read( buffer )) != -1 ) {
+                    content.write( buffer, 0, n );
                 }
                 mfs.write( entry.getName(), content.toByteArray(), true );
             }
@@ -29,6 +29,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -63,6 +64,7 @@ import org.kie.internal.builder.DecisionTableInputType;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.ResourceChangeSet;
+import org.kie.internal.conf.CopyOnWriteUpdatesOption;
 import org.kie.internal.io.ResourceTypeImpl;
 import org.kie.util.maven.support.DependencyFilter;
 import org.kie.util.maven.support.PomModel;
@@ -82,6 +84,10 @@ public abstract class AbstractKieModule implements InternalKieModule, Serializab
 
     private final transient Map<String, Results> resultsCache = new HashMap<>();
 
+    // Map< KBaseName, packages restored from the image prebuilt in the kjar>
+    // written under the module lock, but also read without it by getPackage
+    private final transient Map<String, Collection<KiePackage>> prebuiltPackages = new ConcurrentHashMap<>();
+
     protected ReleaseId releaseId;
 
     private transient KieModuleModel kModuleModel;
@@ -158,6 +164,13 @@ public abstract class AbstractKieModule implements InternalKieModule, Serializab
                 return pkg;
             }
         }
+        for (Collection<KiePackage> pkgs : prebuiltPackages.values()) {
+            for (KiePackage pkg : pkgs) {
+                if (pkg.getName().equals(packageName)) {
+                    return (InternalKnowledgePackage) pkg;
+                }
+            }
+        }
         return null;
     }
 
@@ -192,6 +205,10 @@ public abstract class AbstractKieModule implements InternalKieModule, Serializab
     public KnowledgePackagesBuildResult buildKnowledgePackages(KieBaseModelImpl kBaseModel, KieProject kieProject, BuildContext buildContext) {
         Collection<KiePackage> pkgs = getKnowledgePackagesForKieBase(kBaseModel.getName());
 
+        if ( pkgs == null ) {
+            pkgs = getPrebuiltKnowledgePackages(kBaseModel, kieProject);
+        }
+
         if ( pkgs == null ) {
             KnowledgeBuilder kbuilder = kieProject.buildKnowledgePackages(kBaseModel, buildContext);
             if ( kbuilder.hasErrors() ) {
@@ -204,6 +221,26 @@ public abstract class AbstractKieModule implements InternalKieModule, Serializab
         return new KnowledgePackagesBuildResult(false, pkgs);
     }
 
+    private synchronized Collection<KiePackage> getPrebuiltKnowledgePackages(KieBaseModelImpl kBaseModel, KieProject kieProject) {
+        Collection<KiePackage> pkgs = prebuiltPackages.get(kBaseModel.getName());
+        if ( pkgs == null ) {
+            String snapshotPath = KiePackagesSnapshot.getSnapshotPath(kBaseModel.getName());
+            if ( !isAvailable(snapshotPath) ) {
+                return null;
+            }
+            // the image is only used if it was built from the current resources of the KieBase
+            String digest = kieProject.getKieBaseDigest(kBaseModel);
+            if ( digest == null ) {
+                return null;
+            }
+            pkgs = KiePackagesSnapshot.read(kBaseModel.getName(), digest, getBytes(snapshotPath), kieProject.getClassLoader());
+            if ( pkgs != null ) {
+                prebuiltPackages.put(kBaseModel.getName(), pkgs);
+            }
+        }
+        return pkgs;
+    }
+
     public InternalKnowledgeBase createKieBase(KieBaseModelImpl kBaseModel, KieProject kieProject, BuildContext buildContext, KieBaseConfiguration conf) {
         KnowledgePackagesBuildResult knowledgePackagesBuildResult = buildKnowledgePackages(kBaseModel, kieProject, buildContext);
         if(knowledgePackagesBuildResult.hasErrors()) {
@@ -236,7 +273,7 @@ public abstract class AbstractKieModule implements InternalKieModule, Serializab
         }
     }
 
-    private KieBaseConfiguration getKnowledgeBaseConfiguration(KieBaseModelImpl kBaseModel, ClassLoader cl) {
+    static KieBaseConfiguration getKnowledgeBaseConfiguration(KieBaseModelImpl kBaseModel, ClassLoader cl) {
         KieBaseConfiguration kbConf = RuleBaseFactory.newKnowledgeBaseConfiguration(null, cl);
         kbConf.setOption(kBaseModel.getEqualsBehavior());
         kbConf.setOption(kBaseModel.getEventProcessingMode());
@@ -244,9 +281,21 @@ public abstract class AbstractKieModule implements InternalKieModule, Serializab
         kbConf.setOption(kBaseModel.getSequential());
         kbConf.setOption(kBaseModel.getSessionsPool());
         kbConf.setOption(kBaseModel.getMutability());
+        setCopyOnWriteUpdates(kBaseModel, kbConf);
         return kbConf;
     }
 
+    /**
+     * The way the container updates a KieBase can be set in the configuration of its kmodule, so that the update
+     * bringing a new kmodule already follows it.
+     */
+    public static void setCopyOnWriteUpdates(KieBaseModelImpl kBaseModel, KieBaseConfiguration kbConf) {
+        String copyOnWriteUpdates = kBaseModel.getKModule().getConfigurationProperties().get(CopyOnWriteUpdatesOption.PROPERTY_NAME);
+        if (copyOnWriteUpdates != null) {
+            kbConf.setProperty(CopyOnWriteUpdatesOption.PROPERTY_NAME, copyOnWriteUpdates);
+        }
+    }
+
     public KnowledgeBuilderConfiguration createBuilderConfiguration( KieBaseModel kBaseModel, ClassLoader classLoader) {
         KnowledgeBuilderConfigurationImpl pconf = newKnowledgeBuilderConfiguration(classLoader).as(KnowledgeBuilderConfigurationImpl.KEY);
         pconf.setCompilationCache(getCompilationCache(kBaseModel.getName()));
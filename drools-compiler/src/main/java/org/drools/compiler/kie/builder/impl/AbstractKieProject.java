@@ -18,9 +18,15 @@
  */
 package org.drools.compiler.kie.builder.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -295,6 +301,54 @@ public abstract class AbstractKieProject implements KieProject {
         return kbuilder;
     }
 
+    public String getKieBaseDigest( KieBaseModelImpl kBaseModel ) {
+        boolean useFolders = useFolders( kBaseModel );
+
+        Set<Asset> assets = new HashSet<>();
+        for (String include : getTransitiveIncludes(kBaseModel)) {
+            if ( StringUtils.isEmpty( include )) {
+                continue;
+            }
+            InternalKieModule includeModule = getKieModuleForKBase(include);
+            if (includeModule == null) {
+                return null;
+            }
+            if (compileIncludedKieBases()) {
+                addFiles( BUILD_ALL, assets, getKieBaseModel( include ), includeModule, useFolders );
+            }
+        }
+
+        InternalKieModule kModule = getKieModuleForKBase(kBaseModel.getName());
+        addFiles( BUILD_ALL, assets, kBaseModel, kModule, useFolders );
+
+        // the assets are hashed in a fixed order, so that the same resources always give the same digest
+        List<Asset> sortedAssets = new ArrayList<>( assets );
+        sortedAssets.sort( Comparator.comparing( (Asset asset) -> asset.kmodule.getReleaseId().toExternalForm() ).thenComparing( asset -> asset.name ) );
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance( "SHA-256" );
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException( e );
+        }
+        updateDigest( digest, kModule.getKieModuleModel().toXML().getBytes( StandardCharsets.UTF_8 ) );
+        for (Asset asset : sortedAssets) {
+            updateDigest( digest, asset.kmodule.getReleaseId().toExternalForm().getBytes( StandardCharsets.UTF_8 ) );
+            updateDigest( digest, asset.name.getBytes( StandardCharsets.UTF_8 ) );
+            updateDigest( digest, asset.kmodule.getBytes( asset.name ) );
+        }
+        return StringUtils.bytesToHex( digest.digest() );
+    }
+
+    private static void updateDigest( MessageDigest digest, byte[] bytes ) {
+        // the length keeps the boundaries between the hashed parts
+        int length = bytes != null ? bytes.length : -1;
+        digest.update( new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length } );
+        if ( bytes != null ) {
+            digest.update( bytes );
+        }
+    }
+
     private KnowledgeBuilderImpl provideKnowledgeBuilder( KieBaseModelImpl kBaseModel, InternalKieModule kModule, BuildContext buildContext ) {
         KnowledgeBuilderImpl kbuilder = (KnowledgeBuilderImpl) createKnowledgeBuilder( kBaseModel, kModule );
         if ( kbuilder != null ) {
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.management.ObjectName;
@@ -79,6 +80,7 @@ import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.builder.ResourceChange;
 import org.kie.internal.builder.ResourceChangeSet;
 import org.kie.internal.builder.conf.AlphaNetworkCompilerOption;
+import org.kie.internal.conf.CopyOnWriteUpdatesOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,6 +99,12 @@ public class KieContainerImpl
 
     private final Map<String, KieBase> kBases = new ConcurrentHashMap<>();
 
+    // the KieBases created through newKieBase() are not cached, they are only tracked to be shut down on dispose
+    private final Set<KieBase> newKBases = Collections.synchronizedSet( Collections.newSetFromMap( new WeakHashMap<>() ) );
+
+    // the KieBases replaced by a copy-on-write update, whose executors are shut down once their last session is disposed
+    private final Set<InternalKnowledgeBase> retiredKBases = ConcurrentHashMap.newKeySet();
+
     private final Map<String, KieSession> kSessions = new ConcurrentHashMap<>();
     private final Map<String, StatelessKieSession> statelessKSessions = new ConcurrentHashMap<>();
 
@@ -267,6 +275,13 @@ public class KieContainerImpl
             } else {
                 final InternalKnowledgeBase kBase = (InternalKnowledgeBase) kBaseEntry.getValue();
 
+                // the option is read from the new kmodule, so that the update turning it on or off already follows it
+                KieBaseConfiguration newKBaseConf = AbstractKieModule.getKnowledgeBaseConfiguration( newKieBaseModel, kBase.getRootClassLoader() );
+                if ( newKBaseConf.getOption( CopyOnWriteUpdatesOption.KEY ).isCopyOnWriteUpdates() ) {
+                    swapKieBase( kbaseName, kBase, newKieBaseModel, results );
+                    continue;
+                }
+
                 // share Knowledge Builder among updater as it's computationally expensive to create this
                 KnowledgeBuilderConfigurationImpl builderConfiguration =
                         (KnowledgeBuilderConfigurationImpl) newKM.createBuilderConfiguration(newKieBaseModel, kBase.getRootClassLoader());
@@ -314,6 +329,30 @@ public class KieContainerImpl
         return results;
     }
 
+    private void swapKieBase( String kbaseName, InternalKnowledgeBase currentKBase, KieBaseModelImpl newKieBaseModel, ResultsImpl results ) {
+        // the new version is built without touching the current one, so its sessions don't have to be paused:
+        // they keep running on the current version, while the new sessions will be created from the new one
+        BuildContext buildContext = new BuildContext();
+        KieBase newKBase = createKieBase( newKieBaseModel, kProject, buildContext, null );
+        if ( newKBase == null ) {
+            results.getMessages().addAll( buildContext.getMessages().getMessages() );
+            return;
+        }
+        kBases.put( kbaseName, newKBase );
+        // the cached stateless sessions would otherwise keep creating their sessions from the previous version
+        statelessKSessions.values().removeIf( kSession -> kSession.getKieBase() == currentKBase );
+
+        retiredKBases.add( currentKBase );
+        releaseRetiredKieBase( currentKBase );
+    }
+
+    private void releaseRetiredKieBase( InternalKnowledgeBase kBase ) {
+        // the check is repeated after each disposed session, the removal makes sure only one of them shuts the executor down
+        if ( kBase.getKieSessions().isEmpty() && retiredKBases.remove( kBase ) ) {
+            kBase.shutdownEvaluationExecutor();
+        }
+    }
+
     public static class CompositeRunnable implements Runnable {
 
         private final List<Runnable> runnables = new ArrayList<>();
@@ -477,6 +516,7 @@ public class KieContainerImpl
             // build error, throw runtime exception
             throw new RuntimeException( "Error while creating KieBase" + buildContext.getMessages().filterMessages( Level.ERROR  ) );
         }
+        newKBases.add( kBase );
         return kBase;
     }
 
@@ -746,6 +786,18 @@ public class KieContainerImpl
         kSessions.clear();
         statelessKSessions.clear();
 
+        // release the threads of the executors dedicated to the parallel evaluation of the KieBases
+        kBases.values().forEach( kb -> ( (InternalRuleBase) kb ).shutdownEvaluationExecutor() );
+        retiredKBases.forEach( kb -> {
+            kb.setKieContainer( null );
+            kb.shutdownEvaluationExecutor();
+        } );
+        retiredKBases.clear();
+        synchronized (newKBases) {
+            newKBases.forEach( kb -> ( (InternalRuleBase) kb ).shutdownEvaluationExecutor() );
+            newKBases.clear();
+        }
+
         if ( isMBeanOptionEnabled() ) {
             for (CBSKey c : cbskeys) {
                 DroolsManagementAgent.getInstance().unregisterKnowledgeSessionBean(c);
@@ -764,6 +816,10 @@ public class KieContainerImpl
         if (!isMBeanOptionEnabled()) {
             kSessions.values().remove( kieSession );
         }
+        KieBase kBase = kieSession.getKieBase();
+        if ( retiredKBases.contains( kBase ) ) {
+            releaseRetiredKieBase( (InternalKnowledgeBase) kBase );
+        }
     }
 
     private boolean isMBeanOptionEnabled() {
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.kie.builder.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.drools.base.common.DroolsObjectInputStream;
+import org.drools.base.common.DroolsObjectOutputStream;
+import org.drools.base.util.Drools;
+import org.kie.api.definition.KiePackage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes and reads the image of the compiled packages of a KieBase that the kie-maven-plugin can store in a kjar,
+ * so that the KieBase can be created without parsing and compiling its DRL sources. The image is bound to the
+ * Drools version that wrote it and to the digest of the resources it was compiled from (see
+ * {@link KieProject#getKieBaseDigest(org.drools.compiler.kproject.models.KieBaseModelImpl)}), and it is ignored,
+ * falling back to the compilation, when read by a different version or for resources that changed since.
+ */
+public class KiePackagesSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(KiePackagesSnapshot.class);
+
+    private KiePackagesSnapshot() { }
+
+    public static String getSnapshotPath(String kBaseName) {
+        return "META-INF/" + kBaseName.replace('.', '/') + "/kbase.packages";
+    }
+
+    public static byte[] write(String digest, Collection<KiePackage> pkgs) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DroolsObjectOutputStream out = new DroolsObjectOutputStream(bytes)) {
+            out.writeUTF(Drools.getFullVersion());
+            out.writeUTF(digest);
+            out.writeObject(new ArrayList<>(pkgs));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores the packages stored in the given image, or returns null if they cannot be restored or if they
+     * were not compiled from the resources with the given digest
+     */
+    public static Collection<KiePackage> read(String kBaseName, String digest, byte[] bytes, ClassLoader classLoader) {
+        try (DroolsObjectInputStream in = new DroolsObjectInputStream(new ByteArrayInputStream(bytes), classLoader)) {
+            String version = in.readUTF();
+            if (!Drools.getFullVersion().equals(version)) {
+                log.info("Ignoring the packages of KieBase " + kBaseName + " prebuilt by Drools " + version + ", they will be compiled again");
+                return null;
+            }
+            if (!in.readUTF().equals(digest)) {
+                log.info("Ignoring the prebuilt packages of KieBase " + kBaseName + " because its resources changed, they will be compiled again");
+                return null;
+            }
+            return (Collection<KiePackage>) in.readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            log.warn("Unable to restore the prebuilt packages of KieBase " + kBaseName + ", they will be compiled again", e);
+            return null;
+        }
+    }
+}
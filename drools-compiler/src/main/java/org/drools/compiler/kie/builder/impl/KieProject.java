@@ -66,5 +66,11 @@ public interface KieProject {
     KnowledgeBuilder buildKnowledgePackages( KieBaseModelImpl kBaseModel, BuildContext buildContext );
     KnowledgeBuilder buildKnowledgePackages( KieBaseModelImpl kBaseModel, BuildContext buildContext, Predicate<String> buildFilter );
 
+    /**
+     * Returns a digest of the kmodule defining the given KieBase and of all the resources it is built from, or null
+     * if some of them cannot be found
+     */
+    String getKieBaseDigest( KieBaseModelImpl kBaseModel );
+
     default void writeProjectOutput(MemoryFileSystem trgMfs, BuildContext buildContext) {}
 }
@@ -38,15 +38,21 @@ import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
 import org.kie.internal.conf.CompositeConfiguration;
+import org.kie.internal.conf.CompactFactHandlesOption;
+import org.kie.internal.conf.CopyOnWriteUpdatesOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
+import org.kie.internal.conf.EvaluationExecutorOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.ParallelExecutionOption;
+import org.kie.internal.conf.ParallelJoinThresholdOption;
 import org.kie.internal.conf.SequentialAgendaOption;
+import org.kie.internal.conf.SessionsPoolIdleTimeoutOption;
+import org.kie.internal.conf.SessionsPoolMaxSizeOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
 import org.slf4j.Logger;
@@ -85,8 +91,11 @@ import java.util.Map;
  * drools.shareBetaNodes = &lt;true|false&gt;
  * drools.alphaNodeHashingThreshold = &lt;1...n&gt;
  * drools.alphaNodeRangeIndexThreshold = &lt;1...n&gt;
+ * drools.parallelJoinThreshold = &lt;1...n&gt;
  * drools.betaNodeRangeIndexEnabled = &lt;true|false&gt;
  * drools.sessionPool = &lt;1...n&gt;
+ * drools.sessionPool.maxSize = &lt;1...n&gt;
+ * drools.sessionPool.idleTimeout = &lt;1...n&gt;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
  * drools.indexRightBetaMemory = &lt;true/false&gt;
@@ -100,6 +109,9 @@ import java.util.Map;
  * drools.declarativeAgendaEnabled =  &lt;true|false&gt;
  * drools.permgenThreshold = &lt;1...n&gt;
  * drools.jittingThreshold = &lt;1...n&gt;
+ * drools.evaluationExecutor = &lt;shared|forkjoin|forkjoin:n|virtual&gt;
+ * drools.compactFactHandles = &lt;true|false&gt;
+ * drools.copyOnWriteUpdates = &lt;true|false&gt;
  * </pre>
  */
 public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, SingleValueKieBaseOption, MultiValueKieBaseOption>
@@ -129,10 +141,13 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
     private int             jittingThreshold;
     private int             alphaNodeHashingThreshold;
     private int             alphaNodeRangeIndexThreshold;
+    private int             parallelJoinThreshold;
     private boolean         betaNodeRangeIndexEnabled;
     private int             compositeKeyDepth;
     private boolean         indexLeftBetaMemory;
     private boolean         indexRightBetaMemory;
+    private boolean         compactFactHandles;
+    private boolean         copyOnWriteUpdates;
     private AssertBehaviour assertBehaviour;
     private String          consequenceExceptionHandler;
     private String          ruleBaseUpdateHandler;
@@ -148,12 +163,15 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
     // in parallel by using multiple internal threads
     private ParallelExecutionOption parallelExecution;
     private int     maxThreads;
+    private EvaluationExecutorOption evaluationExecutor;
 
     private ConflictResolver conflictResolver;
 
     private Map<String, ActivationListenerFactory> activationListeners;
 
     private int sessionPoolSize;
+    private int sessionPoolMaxSize;
+    private long sessionPoolIdleTimeout;
 
     /**
      * A constructor that sets the classloader to be used as the parent classloader
@@ -180,16 +198,26 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
 
         setAlphaNodeRangeIndexThreshold(Integer.parseInt(getPropertyValue(AlphaRangeIndexThresholdOption.PROPERTY_NAME, "" + AlphaRangeIndexThresholdOption.DEFAULT_VALUE)));
 
+        setParallelJoinThreshold(Integer.parseInt(getPropertyValue(ParallelJoinThresholdOption.PROPERTY_NAME, "" + ParallelJoinThresholdOption.DEFAULT_VALUE)));
+
         setBetaNodeRangeIndexEnabled(Boolean.parseBoolean(getPropertyValue(BetaRangeIndexOption.PROPERTY_NAME, "false")));
 
         setSessionPoolSize(Integer.parseInt(getPropertyValue( SessionsPoolOption.PROPERTY_NAME, "-1")));
 
+        setSessionPoolMaxSize(Integer.parseInt(getPropertyValue( SessionsPoolMaxSizeOption.PROPERTY_NAME, "" + SessionsPoolMaxSizeOption.DEFAULT_VALUE)));
+
+        setSessionPoolIdleTimeout(Long.parseLong(getPropertyValue( SessionsPoolIdleTimeoutOption.PROPERTY_NAME, "" + SessionsPoolIdleTimeoutOption.DEFAULT_VALUE)));
+
         setCompositeKeyDepth(Integer.parseInt(getPropertyValue(CompositeKeyDepthOption.PROPERTY_NAME, "3")));
 
         setIndexLeftBetaMemory(Boolean.parseBoolean(getPropertyValue(IndexLeftBetaMemoryOption.PROPERTY_NAME, "true")));
 
         setIndexRightBetaMemory(Boolean.parseBoolean(getPropertyValue(IndexRightBetaMemoryOption.PROPERTY_NAME, "true")));
 
+        setCompactFactHandles(Boolean.parseBoolean(getPropertyValue(CompactFactHandlesOption.PROPERTY_NAME, "false")));
+
+        setCopyOnWriteUpdates(Boolean.parseBoolean(getPropertyValue(CopyOnWriteUpdatesOption.PROPERTY_NAME, "false")));
+
         setIndexPrecedenceOption(IndexPrecedenceOption.determineIndexPrecedence(getPropertyValue(IndexPrecedenceOption.PROPERTY_NAME, "equality")));
 
         setAssertBehaviour(AssertBehaviour.determineAssertBehaviour(getPropertyValue(EqualityBehaviorOption.PROPERTY_NAME, "identity")));
@@ -208,6 +236,8 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         setMaxThreads( Integer.parseInt( getPropertyValue( MaxThreadsOption.PROPERTY_NAME,
                                                                              "3" ) ) );
 
+        setEvaluationExecutor(EvaluationExecutorOption.determineEvaluationExecutor(getPropertyValue(EvaluationExecutorOption.PROPERTY_NAME, "shared")));
+
         setEventProcessingMode( EventProcessingOption.determineEventProcessingMode( getPropertyValue( EventProcessingOption.PROPERTY_NAME,
                                                                                                                         "cloud" ) ) );
 
@@ -227,10 +257,13 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         out.writeInt(jittingThreshold);
         out.writeInt(alphaNodeHashingThreshold);
         out.writeInt(alphaNodeRangeIndexThreshold);
+        out.writeInt(parallelJoinThreshold);
         out.writeBoolean(betaNodeRangeIndexEnabled);
         out.writeInt(compositeKeyDepth);
         out.writeBoolean(indexLeftBetaMemory);
         out.writeBoolean(indexRightBetaMemory);
+        out.writeBoolean(compactFactHandles);
+        out.writeBoolean(copyOnWriteUpdates);
         out.writeObject(indexPrecedenceOption);
         out.writeObject(assertBehaviour);
         out.writeObject(consequenceExceptionHandler);
@@ -238,9 +271,12 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         out.writeObject(conflictResolver);
         out.writeObject(parallelExecution);
         out.writeInt(maxThreads);
+        out.writeObject(evaluationExecutor);
         out.writeObject(eventProcessingMode);
         out.writeBoolean(declarativeAgenda);
         out.writeInt(sessionPoolSize);
+        out.writeInt(sessionPoolMaxSize);
+        out.writeLong(sessionPoolIdleTimeout);
     }
 
     public void readExternal(ObjectInput in) throws IOException,
@@ -256,10 +292,13 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         jittingThreshold = in.readInt();
         alphaNodeHashingThreshold = in.readInt();
         alphaNodeRangeIndexThreshold = in.readInt();
+        parallelJoinThreshold = in.readInt();
         betaNodeRangeIndexEnabled = in.readBoolean();
         compositeKeyDepth = in.readInt();
         indexLeftBetaMemory = in.readBoolean();
         indexRightBetaMemory = in.readBoolean();
+        compactFactHandles = in.readBoolean();
+        copyOnWriteUpdates = in.readBoolean();
         indexPrecedenceOption = (IndexPrecedenceOption) in.readObject();
         assertBehaviour = (AssertBehaviour) in.readObject();
         consequenceExceptionHandler = (String) in.readObject();
@@ -267,9 +306,12 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         conflictResolver = (ConflictResolver) in.readObject();
         parallelExecution = (ParallelExecutionOption) in.readObject();
         maxThreads = in.readInt();
+        evaluationExecutor = (EvaluationExecutorOption) in.readObject();
         eventProcessingMode = (EventProcessingOption) in.readObject();
         declarativeAgenda = in.readBoolean();
         sessionPoolSize = in.readInt();
+        sessionPoolMaxSize = in.readInt();
+        sessionPoolIdleTimeout = in.readLong();
     }
 
     @SuppressWarnings("unchecked")
@@ -293,6 +335,12 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case IndexLeftBetaMemoryOption.PROPERTY_NAME: {
                 return (T) (this.indexLeftBetaMemory ? IndexLeftBetaMemoryOption.YES : IndexLeftBetaMemoryOption.NO);
             }
+            case CompactFactHandlesOption.PROPERTY_NAME: {
+                return (T) (this.compactFactHandles ? CompactFactHandlesOption.YES : CompactFactHandlesOption.NO);
+            }
+            case CopyOnWriteUpdatesOption.PROPERTY_NAME: {
+                return (T) (this.copyOnWriteUpdates ? CopyOnWriteUpdatesOption.YES : CopyOnWriteUpdatesOption.NO);
+            }
             case IndexPrecedenceOption.PROPERTY_NAME: {
                 return (T) getIndexPrecedenceOption();
             }
@@ -311,12 +359,21 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case AlphaRangeIndexThresholdOption.PROPERTY_NAME: {
                 return (T) AlphaRangeIndexThresholdOption.get(alphaNodeRangeIndexThreshold);
             }
+            case ParallelJoinThresholdOption.PROPERTY_NAME: {
+                return (T) ParallelJoinThresholdOption.get(parallelJoinThreshold);
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 return (T) (this.betaNodeRangeIndexEnabled ? BetaRangeIndexOption.ENABLED : BetaRangeIndexOption.DISABLED);
             }
             case SessionsPoolOption.PROPERTY_NAME: {
                 return (T) SessionsPoolOption.get(sessionPoolSize);
             }
+            case SessionsPoolMaxSizeOption.PROPERTY_NAME: {
+                return (T) SessionsPoolMaxSizeOption.get(sessionPoolMaxSize);
+            }
+            case SessionsPoolIdleTimeoutOption.PROPERTY_NAME: {
+                return (T) SessionsPoolIdleTimeoutOption.get(sessionPoolIdleTimeout);
+            }
             case CompositeKeyDepthOption.PROPERTY_NAME: {
                 return (T) CompositeKeyDepthOption.get(compositeKeyDepth);
             }
@@ -339,6 +396,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case ParallelExecutionOption.PROPERTY_NAME: {
                 return (T) parallelExecution;
             }
+            case EvaluationExecutorOption.PROPERTY_NAME: {
+                return (T) evaluationExecutor;
+            }
             case DeclarativeAgendaOption.PROPERTY_NAME: {
                 return (T) (this.isDeclarativeAgenda() ? DeclarativeAgendaOption.ENABLED : DeclarativeAgendaOption.DISABLED);
             }
@@ -369,6 +429,14 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setIndexLeftBetaMemory(((IndexLeftBetaMemoryOption) option).isIndexLeftBetaMemory());
                 break;
             }
+            case CompactFactHandlesOption.PROPERTY_NAME: {
+                setCompactFactHandles(((CompactFactHandlesOption) option).isCompactFactHandles());
+                break;
+            }
+            case CopyOnWriteUpdatesOption.PROPERTY_NAME: {
+                setCopyOnWriteUpdates(((CopyOnWriteUpdatesOption) option).isCopyOnWriteUpdates());
+                break;
+            }
             case IndexRightBetaMemoryOption.PROPERTY_NAME: {
                 setIndexRightBetaMemory(((IndexRightBetaMemoryOption) option).isIndexRightBetaMemory());
                 break;
@@ -397,6 +465,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setAlphaNodeRangeIndexThreshold( ( (AlphaRangeIndexThresholdOption) option ).getThreshold());
                 break;
             }
+            case ParallelJoinThresholdOption.PROPERTY_NAME: {
+                setParallelJoinThreshold( ( (ParallelJoinThresholdOption) option ).getThreshold());
+                break;
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 setBetaNodeRangeIndexEnabled( ( (BetaRangeIndexOption) option ).isBetaRangeIndexEnabled());
                 break;
@@ -405,6 +477,14 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setSessionPoolSize( ( ( SessionsPoolOption ) option ).getSize());
                 break;
             }
+            case SessionsPoolMaxSizeOption.PROPERTY_NAME: {
+                setSessionPoolMaxSize( ( ( SessionsPoolMaxSizeOption ) option ).getMaxSize());
+                break;
+            }
+            case SessionsPoolIdleTimeoutOption.PROPERTY_NAME: {
+                setSessionPoolIdleTimeout( ( ( SessionsPoolIdleTimeoutOption ) option ).getIdleTimeout());
+                break;
+            }
             case CompositeKeyDepthOption.PROPERTY_NAME: {
                 setCompositeKeyDepth( ( (CompositeKeyDepthOption) option ).getDepth());
                 break;
@@ -425,6 +505,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setParallelExecution( (ParallelExecutionOption) option );
                 break;
             }
+            case EvaluationExecutorOption.PROPERTY_NAME: {
+                setEvaluationExecutor( (EvaluationExecutorOption) option );
+                break;
+            }
             case DeclarativeAgendaOption.PROPERTY_NAME: {
                 setDeclarativeAgendaEnabled(((DeclarativeAgendaOption) option).isDeclarativeAgendaEnabled());
                 break;
@@ -468,6 +552,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setAlphaNodeRangeIndexThreshold(StringUtils.isEmpty(value) ? AlphaRangeIndexThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
                 break;
             }
+            case ParallelJoinThresholdOption.PROPERTY_NAME: {
+                setParallelJoinThreshold(StringUtils.isEmpty(value) ? ParallelJoinThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
+                break;
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 setBetaNodeRangeIndexEnabled(StringUtils.isEmpty(value) ? false : Boolean.valueOf(value));
                 break;
@@ -476,6 +564,14 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setSessionPoolSize(StringUtils.isEmpty(value) ? -1 : Integer.parseInt(value));
                 break;
             }
+            case SessionsPoolMaxSizeOption.PROPERTY_NAME: {
+                setSessionPoolMaxSize(StringUtils.isEmpty(value) ? SessionsPoolMaxSizeOption.DEFAULT_VALUE : Integer.parseInt(value));
+                break;
+            }
+            case SessionsPoolIdleTimeoutOption.PROPERTY_NAME: {
+                setSessionPoolIdleTimeout(StringUtils.isEmpty(value) ? SessionsPoolIdleTimeoutOption.DEFAULT_VALUE : Long.parseLong(value));
+                break;
+            }
             case CompositeKeyDepthOption.PROPERTY_NAME: {
                 setCompositeKeyDepth(StringUtils.isEmpty(value) ? 3 : Integer.parseInt(value));
                 break;
@@ -484,6 +580,14 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setIndexLeftBetaMemory(StringUtils.isEmpty(value) ? true : Boolean.valueOf(value));
                 break;
             }
+            case CompactFactHandlesOption.PROPERTY_NAME: {
+                setCompactFactHandles(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
+                break;
+            }
+            case CopyOnWriteUpdatesOption.PROPERTY_NAME: {
+                setCopyOnWriteUpdates(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
+                break;
+            }
             case IndexRightBetaMemoryOption.PROPERTY_NAME: {
                 setIndexRightBetaMemory(StringUtils.isEmpty(value) ? true : Boolean.valueOf(value));
                 break;
@@ -508,6 +612,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setParallelExecution(ParallelExecutionOption.determineParallelExecution(StringUtils.isEmpty(value) ? "sequential" : value));
                 break;
             }
+            case EvaluationExecutorOption.PROPERTY_NAME: {
+                setEvaluationExecutor(EvaluationExecutorOption.determineEvaluationExecutor(value));
+                break;
+            }
             case MaxThreadsOption.PROPERTY_NAME: {
                 setMaxThreads(StringUtils.isEmpty(value) ? 3 : Integer.parseInt(value));
                 break;
@@ -550,18 +658,33 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case AlphaRangeIndexThresholdOption.PROPERTY_NAME: {
                 return Integer.toString(getAlphaNodeRangeIndexThreshold());
             }
+            case ParallelJoinThresholdOption.PROPERTY_NAME: {
+                return Integer.toString(getParallelJoinThreshold());
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 return Boolean.toString(isBetaNodeRangeIndexEnabled());
             }
             case SessionsPoolOption.PROPERTY_NAME: {
                 return Integer.toString(getSessionPoolSize());
             }
+            case SessionsPoolMaxSizeOption.PROPERTY_NAME: {
+                return Integer.toString(getSessionPoolMaxSize());
+            }
+            case SessionsPoolIdleTimeoutOption.PROPERTY_NAME: {
+                return Long.toString(getSessionPoolIdleTimeout());
+            }
             case CompositeKeyDepthOption.PROPERTY_NAME: {
                 return Integer.toString(getCompositeKeyDepth());
             }
             case IndexLeftBetaMemoryOption.PROPERTY_NAME: {
                 return Boolean.toString(isIndexLeftBetaMemory());
             }
+            case CompactFactHandlesOption.PROPERTY_NAME: {
+                return Boolean.toString(isCompactFactHandles());
+            }
+            case CopyOnWriteUpdatesOption.PROPERTY_NAME: {
+                return Boolean.toString(isCopyOnWriteUpdates());
+            }
             case IndexRightBetaMemoryOption.PROPERTY_NAME: {
                 return Boolean.toString(isIndexRightBetaMemory());
             }
@@ -580,6 +703,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case ParallelExecutionOption.PROPERTY_NAME: {
                 return parallelExecution.toExternalForm();
             }
+            case EvaluationExecutorOption.PROPERTY_NAME: {
+                return evaluationExecutor.toExternalForm();
+            }
             case MaxThreadsOption.PROPERTY_NAME: {
                 return Integer.toString(getMaxThreads());
             }
@@ -662,6 +788,19 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         this.alphaNodeRangeIndexThreshold = alphaNodeRangeIndexThreshold;
     }
 
+    public int getParallelJoinThreshold() {
+        return this.parallelJoinThreshold;
+    }
+
+    public void setParallelJoinThreshold(final int parallelJoinThreshold) {
+        checkCanChange();
+        this.parallelJoinThreshold = parallelJoinThreshold;
+    }
+
+    public boolean isParallelJoinEnabled() {
+        return this.parallelJoinThreshold > 0;
+    }
+
     public boolean isBetaNodeRangeIndexEnabled() {
         return this.betaNodeRangeIndexEnabled;
     }
@@ -680,6 +819,24 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         this.sessionPoolSize = sessionPoolSize;
     }
 
+    public int getSessionPoolMaxSize() {
+        return this.sessionPoolMaxSize;
+    }
+
+    public void setSessionPoolMaxSize(final int sessionPoolMaxSize) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.sessionPoolMaxSize = sessionPoolMaxSize;
+    }
+
+    public long getSessionPoolIdleTimeout() {
+        return this.sessionPoolIdleTimeout;
+    }
+
+    public void setSessionPoolIdleTimeout(final long sessionPoolIdleTimeout) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.sessionPoolIdleTimeout = sessionPoolIdleTimeout;
+    }
+
     public AssertBehaviour getAssertBehaviour() {
         return this.assertBehaviour;
     }
@@ -719,6 +876,24 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         this.indexLeftBetaMemory = indexLeftBetaMemory;
     }
 
+    public boolean isCompactFactHandles() {
+        return this.compactFactHandles;
+    }
+
+    public void setCompactFactHandles(final boolean compactFactHandles) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.compactFactHandles = compactFactHandles;
+    }
+
+    public boolean isCopyOnWriteUpdates() {
+        return this.copyOnWriteUpdates;
+    }
+
+    public void setCopyOnWriteUpdates(final boolean copyOnWriteUpdates) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.copyOnWriteUpdates = copyOnWriteUpdates;
+    }
+
     public boolean isIndexRightBetaMemory() {
         return this.indexRightBetaMemory;
     }
@@ -811,6 +986,19 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         return this.maxThreads;
     }
 
+    public void setEvaluationExecutor(final EvaluationExecutorOption evaluationExecutor) {
+        checkCanChange();
+        this.evaluationExecutor = evaluationExecutor;
+    }
+
+    /**
+     * Returns the executor used to run the parallel evaluations of the rulebase. Default is the one shared by all
+     * the rulebases of the JVM.
+     */
+    public EvaluationExecutorOption getEvaluationExecutor() {
+        return this.evaluationExecutor;
+    }
+
     public boolean isDeclarativeAgenda() {
         return this.declarativeAgenda;
     }
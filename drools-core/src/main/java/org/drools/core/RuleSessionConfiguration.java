@@ -42,6 +42,9 @@ import org.kie.internal.conf.CompositeConfiguration;
 import org.kie.internal.conf.InternalPropertiesConfiguration;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.OffHeapEventsOption;
+import org.kie.internal.runtime.conf.OffHeapFactsOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption, SingleValueKieSessionOption, MultiValueKieSessionOption> implements KieSessionConfiguration, InternalPropertiesConfiguration, Externalizable {
 
@@ -62,6 +65,12 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
 
     private QueryListenerOption            queryListener;
 
+    private PropagationListOption          propagationList;
+
+    private OffHeapFactsOption             offHeapFacts;
+
+    private boolean                        offHeapEvents;
+
     public void writeExternal(ObjectOutput out) throws IOException {
         super.writeExternal(out);
         out.writeObject( queryListener );
@@ -99,6 +108,12 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
         setBeliefSystemType( BeliefSystemType.resolveBeliefSystemType( getPropertyValue( BeliefSystemTypeOption.PROPERTY_NAME, BeliefSystemType.SIMPLE.getId() ) ) );
 
         setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( getPropertyValue( QueryListenerOption.PROPERTY_NAME, QueryListenerOption.STANDARD.getAsString() ) ) );
+
+        setPropagationListOption( PropagationListOption.determinePropagationList( getPropertyValue( PropagationListOption.PROPERTY_NAME, PropagationListOption.SYNCHRONIZED.getAsString() ) ) );
+
+        setOffHeapFactsOption( OffHeapFactsOption.determineOffHeapFacts( getPropertyValue( OffHeapFactsOption.PROPERTY_NAME, OffHeapFactsOption.DISABLED.getAsString() ) ) );
+
+        setOffHeapEvents(Boolean.parseBoolean(getPropertyValue(OffHeapEventsOption.PROPERTY_NAME, "false")));
     }
 
     public void setDirectFiring(boolean directFiring) {
@@ -164,6 +179,33 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
         this.queryListener = queryListener;
     }
 
+    public PropagationListOption getPropagationListOption() {
+        return this.propagationList;
+    }
+
+    public void setPropagationListOption( PropagationListOption propagationList ) {
+        checkCanChange();
+        this.propagationList = propagationList;
+    }
+
+    public OffHeapFactsOption getOffHeapFactsOption() {
+        return this.offHeapFacts;
+    }
+
+    public void setOffHeapFactsOption( OffHeapFactsOption offHeapFacts ) {
+        checkCanChange();
+        this.offHeapFacts = offHeapFacts;
+    }
+
+    public boolean isOffHeapEvents() {
+        return this.offHeapEvents;
+    }
+
+    public void setOffHeapEvents( boolean offHeapEvents ) {
+        checkCanChange();
+        this.offHeapEvents = offHeapEvents;
+    }
+
 
     public final <T extends KieSessionOption> void setOption(T option) {
         switch (option.propertyName()) {
@@ -191,6 +233,18 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setQueryListenerOption((QueryListenerOption) option);
                 break;
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                setPropagationListOption((PropagationListOption) option);
+                break;
+            }
+            case OffHeapFactsOption.PROPERTY_NAME: {
+                setOffHeapFactsOption((OffHeapFactsOption) option);
+                break;
+            }
+            case OffHeapEventsOption.PROPERTY_NAME: {
+                setOffHeapEvents(((OffHeapEventsOption) option).isOffHeapEvents());
+                break;
+            }
             case BeliefSystemTypeOption.PROPERTY_NAME: {
                 setBeliefSystemType(((BeliefSystemType.resolveBeliefSystemType(((BeliefSystemTypeOption) option).getBeliefSystemType()))));
                 break;
@@ -215,6 +269,15 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
             case QueryListenerOption.PROPERTY_NAME: {
                 return (T) getQueryListenerOption();
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                return (T) getPropagationListOption();
+            }
+            case OffHeapFactsOption.PROPERTY_NAME: {
+                return (T) getOffHeapFactsOption();
+            }
+            case OffHeapEventsOption.PROPERTY_NAME: {
+                return (T) (isOffHeapEvents() ? OffHeapEventsOption.YES : OffHeapEventsOption.NO);
+            }
             case BeliefSystemTypeOption.PROPERTY_NAME: {
                 return (T) BeliefSystemTypeOption.get( this.getBeliefSystemType().getId() );
             }
@@ -260,6 +323,20 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setQueryListenerOption(QueryListenerOption.determineQueryListenerClassOption(property));
                 break;
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                String property = StringUtils.isEmpty(value) ? PropagationListOption.SYNCHRONIZED.getAsString() : value;
+                setPropagationListOption(PropagationListOption.determinePropagationList(property));
+                break;
+            }
+            case OffHeapFactsOption.PROPERTY_NAME: {
+                String property = StringUtils.isEmpty(value) ? OffHeapFactsOption.DISABLED.getAsString() : value;
+                setOffHeapFactsOption(OffHeapFactsOption.determineOffHeapFacts(property));
+                break;
+            }
+            case OffHeapEventsOption.PROPERTY_NAME: {
+                setOffHeapEvents(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
+                break;
+            }
             case BeliefSystemTypeOption.PROPERTY_NAME: {
                 setBeliefSystemType(StringUtils.isEmpty(value) ? BeliefSystemType.SIMPLE : BeliefSystemType.resolveBeliefSystemType(value));
                 break;
@@ -282,6 +359,12 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 return Boolean.toString(isAccumulateNullPropagation());
             } case QueryListenerOption.PROPERTY_NAME: {
                 return getQueryListenerOption().getAsString();
+            } case PropagationListOption.PROPERTY_NAME: {
+                return getPropagationListOption().getAsString();
+            } case OffHeapFactsOption.PROPERTY_NAME: {
+                return getOffHeapFactsOption().getAsString();
+            } case OffHeapEventsOption.PROPERTY_NAME: {
+                return Boolean.toString(isOffHeapEvents());
             } case BeliefSystemTypeOption.PROPERTY_NAME: {
                 return getBeliefSystemType().getId();
             }
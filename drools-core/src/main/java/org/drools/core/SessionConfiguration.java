@@ -43,6 +43,7 @@ import org.kie.api.runtime.conf.PersistedSessionOption;
 import org.kie.api.runtime.conf.SingleValueKieSessionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.internal.conf.CompositeConfiguration;
+import org.kie.internal.runtime.conf.TimingWheelOption;
 
 public class SessionConfiguration extends BaseConfiguration<KieSessionOption, SingleValueKieSessionOption, MultiValueKieSessionOption> implements KieSessionConfiguration, Externalizable {
 
@@ -56,6 +57,8 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
 
     private TimerJobFactoryType            timerJobFactoryType;
 
+    private boolean                        timingWheel;
+
     private PersistedSessionOption persistedSessionOption;
 
     private ExecutableRunner runner;
@@ -98,6 +101,8 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
 
 
         setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType( getPropertyValue( TimerJobFactoryOption.PROPERTY_NAME, TimerJobFactoryType.THREAD_SAFE_TRACKABLE.getId() ) ));
+
+        setTimingWheel(Boolean.parseBoolean(getPropertyValue(TimingWheelOption.PROPERTY_NAME, "false")));
     }
 
 
@@ -115,6 +120,10 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
                 setKeepReference(((KeepReferenceOption)option).isKeepReference());
                 break;
             }
+            case TimingWheelOption.PROPERTY_NAME: {
+                setTimingWheel(((TimingWheelOption) option).isTimingWheel());
+                break;
+            }
             case PersistedSessionOption.PROPERTY_NAME: {
                 setPersistedSessionOption( (PersistedSessionOption) option );
                 break;
@@ -136,6 +145,9 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
             case KeepReferenceOption.PROPERTY_NAME: {
                 return (T) (isKeepReference() ? KeepReferenceOption.YES : KeepReferenceOption.NO);
             }
+            case TimingWheelOption.PROPERTY_NAME: {
+                return (T) (isTimingWheel() ? TimingWheelOption.YES : TimingWheelOption.NO);
+            }
             case PersistedSessionOption.PROPERTY_NAME: {
                 return (T) getPersistedSessionOption();
             }
@@ -164,6 +176,10 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
             case TimerJobFactoryOption.PROPERTY_NAME: {
                 setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType(StringUtils.isEmpty(value) ? "default" : value));
                 break;
+            }
+            case TimingWheelOption.PROPERTY_NAME: {
+                setTimingWheel(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
+                break;
             } default : {
                 return false;
             }
@@ -180,6 +196,9 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
             case TimerJobFactoryOption.PROPERTY_NAME: {
                 return getTimerJobFactoryType().toExternalForm();
             }
+            case TimingWheelOption.PROPERTY_NAME: {
+                return Boolean.toString(isTimingWheel());
+            }
         }
         return null;
     }
@@ -235,6 +254,15 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
         this.timerJobFactoryType = timerJobFactoryType;
     }
 
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+
+    public void setTimingWheel(boolean timingWheel) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.timingWheel = timingWheel;
+    }
+
     public final TimerJobFactoryManager getTimerJobFactoryManager() {
         return getTimerJobFactoryType().createInstance();
     }
@@ -276,7 +304,7 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
     }
 
     public TimerService createTimerService() {
-        TimerService service = getClockType().createInstance();
+        TimerService service = isTimingWheel() ? getClockType().createTimingWheelInstance() : getClockType().createInstance();
         service.setTimerJobFactoryManager(getTimerJobFactoryManager());
         return service;
     }
@@ -290,13 +318,15 @@ public class SessionConfiguration extends BaseConfiguration<KieSessionOption, Si
 
 
         return getClockType() == that.getClockType() &&
-                getTimerJobFactoryType() == that.getTimerJobFactoryType();
+                getTimerJobFactoryType() == that.getTimerJobFactoryType() &&
+                isTimingWheel() == that.isTimingWheel();
     }
 
     @Override
     public final int hashCode() {
         int result = getClockType().hashCode();
         result = 31 * result + getTimerJobFactoryType().hashCode();
+        result = 31 * result + (isTimingWheel() ? 1 : 0);
         return result;
     }
 }
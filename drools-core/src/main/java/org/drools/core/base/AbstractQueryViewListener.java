@@ -33,7 +33,11 @@ public abstract class AbstractQueryViewListener implements InternalViewChangedEv
     protected List<Object> results;
 
     public AbstractQueryViewListener() {
-        this.results = new ArrayList<>(250);
+        this(new ArrayList<>(250));
+    }
+
+    protected AbstractQueryViewListener(List<Object> results) {
+        this.results = results;
     }
 
     public List<? extends Object> getResults() {
@@ -43,6 +47,11 @@ public abstract class AbstractQueryViewListener implements InternalViewChangedEv
     public abstract FactHandle getHandle(FactHandle originalHandle);
 
     public void rowAdded(RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator) {
+        QueryTerminalNode node = (QueryTerminalNode) tuple.getTupleSink();
+        this.results.add( new QueryRowWithSubruleIndex(getHandles(tuple), node.getSubruleIndex()) );
+    }
+
+    protected FactHandle[] getHandles(LeftTuple tuple) {
         FactHandle[] handles = new FactHandle[((LeftTupleNode)tuple.getTupleSink()).getObjectCount()];
         LeftTuple entry = (LeftTuple) tuple.skipEmptyHandles();
 
@@ -53,9 +62,7 @@ public abstract class AbstractQueryViewListener implements InternalViewChangedEv
             handles[i--] = getHandle(handle);
             entry = entry.getParent();
         }
-
-        QueryTerminalNode node = (QueryTerminalNode) tuple.getTupleSink();
-        this.results.add( new QueryRowWithSubruleIndex(handles, node.getSubruleIndex()) );
+        return handles;
     }
 
     public void rowRemoved(RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator ) {
@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.drools.base.definitions.rule.impl.RuleImpl;
+import org.drools.base.rule.Declaration;
+import org.drools.core.QueryResultsImpl;
+import org.drools.core.QueryResultsRowImpl;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.LeftTuple;
+import org.drools.core.reteoo.QueryTerminalNode;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.runtime.rule.QueryResultsRow;
+
+/**
+ * Passes each row of a query to a consumer as soon as it reaches the query terminal node, without collecting it.
+ * The handles are not cloned, since a row is only valid while it is being consumed.
+ */
+public class StreamingQueryViewListener extends AbstractQueryViewListener {
+
+    private final Predicate<QueryResultsRow> consumer;
+
+    // only provides the declarations and the parameters of the query to the rows
+    private QueryResultsImpl queryResults;
+
+    private long rowsCount;
+
+    private boolean stopped;
+
+    public StreamingQueryViewListener(Predicate<QueryResultsRow> consumer) {
+        super(Collections.emptyList());
+        this.consumer = consumer;
+    }
+
+    @Override
+    public FactHandle getHandle(FactHandle originalHandle) {
+        return originalHandle;
+    }
+
+    @Override
+    public void rowAdded(RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator) {
+        if (stopped) {
+            return;
+        }
+        QueryTerminalNode node = (QueryTerminalNode) tuple.getTupleSink();
+        if (queryResults == null) {
+            queryResults = createQueryResults(node, reteEvaluator);
+        }
+        rowsCount++;
+        QueryRowWithSubruleIndex row = new QueryRowWithSubruleIndex(getHandles(tuple), node.getSubruleIndex());
+        stopped = !consumer.test(new QueryResultsRowImpl(row, reteEvaluator, queryResults));
+    }
+
+    private static QueryResultsImpl createQueryResults(QueryTerminalNode node, ReteEvaluator reteEvaluator) {
+        QueryTerminalNode[] tnodes = reteEvaluator.getKnowledgeBase().getReteooBuilder().getTerminalNodesForQuery(node.getQuery().getName());
+        Map<String, Declaration>[] declarations = new Map[tnodes.length];
+        for (int i = 0; i < tnodes.length; i++) {
+            declarations[i] = tnodes[i].getSubRule().getOuterDeclarations();
+        }
+        return new QueryResultsImpl(Collections.emptyList(), declarations, reteEvaluator, node.getQuery().getParameters());
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public long getRowsCount() {
+        return rowsCount;
+    }
+}
@@ -37,16 +37,17 @@ public class IntegerMaxAccumulateFunction extends AbstractAccumulateFunction<Int
     }
 
     protected static class MaxData implements Externalizable {
-        public Integer max = null;
+        public SortedValues<Integer> values = new SortedValues<>();
 
         public MaxData() {}
 
+        @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Integer) in.readObject();
+            values = (SortedValues<Integer>) in.readObject();
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
+            out.writeObject(values);
         }
 
         @Override
@@ -60,36 +61,29 @@ public class IntegerMaxAccumulateFunction extends AbstractAccumulateFunction<Int
     }
 
     public void init(MaxData data) {
-        data.max = null;
+        data.values.clear();
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
-            Integer number = (Integer)value;
-            data.max = data.max == null || data.max < number ? number : data.max;
+            data.values.add( (Integer) value );
         }
     }
 
     public void reverse(MaxData data,
                         Object value) {
-    }
-
-    @Override
-    public boolean tryReverse( MaxData data, Object value ) {
         if (value != null) {
-            Integer number = (Integer)value;
-            return data.max > number;
+            data.values.remove( (Integer) value );
         }
-        return true;
     }
 
-    public Object getResult( MaxData data) {
-        return data.max;
+    public Object getResult(MaxData data) {
+        return data.values.last();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
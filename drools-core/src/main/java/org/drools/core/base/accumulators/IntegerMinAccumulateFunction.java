@@ -37,16 +37,17 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
     }
 
     protected static class MinData implements Externalizable {
-        public Integer min = null;
+        public SortedValues<Integer> values = new SortedValues<>();
 
         public MinData() {}
 
+        @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Integer) in.readObject();
+            values = (SortedValues<Integer>) in.readObject();
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            out.writeObject(values);
         }
 
         @Override
@@ -59,37 +60,30 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
         return new MinData();
     }
 
-    public void init( MinData data) {
-        data.min = null;
+    public void init(MinData data) {
+        data.values.clear();
     }
 
-    public void accumulate( MinData data,
-                            Object value) {
+    public void accumulate(MinData data,
+                           Object value) {
         if (value != null) {
-            Integer number = (Integer)value;
-            data.min = data.min == null || data.min > number ? number : data.min;
+            data.values.add( (Integer) value );
         }
     }
 
-    public void reverse( MinData data,
-                         Object value) {
-    }
-
-    @Override
-    public boolean tryReverse( MinData data, Object value ) {
+    public void reverse(MinData data,
+                        Object value) {
         if (value != null) {
-            Integer number = (Integer)value;
-            return data.min < number;
+            data.values.remove( (Integer) value );
         }
-        return true;
     }
 
-    public Object getResult( MinData data ) {
-        return data.min;
+    public Object getResult(MinData data) {
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
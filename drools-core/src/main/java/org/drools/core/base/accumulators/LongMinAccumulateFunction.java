@@ -37,16 +37,17 @@ public class LongMinAccumulateFunction extends AbstractAccumulateFunction<LongMi
     }
 
     protected static class MinData implements Externalizable {
-        public Long min = null;
+        public SortedValues<Long> values = new SortedValues<>();
 
         public MinData() {}
 
+        @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Long) in.readObject();
+            values = (SortedValues<Long>) in.readObject();
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            out.writeObject(values);
         }
 
         @Override
@@ -59,37 +60,30 @@ public class LongMinAccumulateFunction extends AbstractAccumulateFunction<LongMi
         return new MinData();
     }
 
-    public void init( MinData data) {
-        data.min = null;
+    public void init(MinData data) {
+        data.values.clear();
     }
 
-    public void accumulate( MinData data,
-                            Object value) {
+    public void accumulate(MinData data,
+                           Object value) {
         if (value != null) {
-            Long number = (Long)value;
-            data.min = data.min == null || data.min > number ? number : data.min;
+            data.values.add( (Long) value );
         }
     }
 
-    public void reverse( MinData data,
-                         Object value) {
-    }
-
-    @Override
-    public boolean tryReverse( MinData data, Object value ) {
+    public void reverse(MinData data,
+                        Object value) {
         if (value != null) {
-            Long number = (Long)value;
-            return data.min < number;
+            data.values.remove( (Long) value );
         }
-        return true;
     }
 
-    public Object getResult( MinData data) {
-        return data.min;
+    public Object getResult(MinData data) {
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
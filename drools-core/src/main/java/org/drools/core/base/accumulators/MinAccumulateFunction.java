@@ -37,16 +37,17 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
     }
 
     protected static class MinData implements Externalizable {
-        public Comparable min = null;
-        
+        public SortedValues<Comparable> values = new SortedValues<>();
+
         public MinData() {}
 
+        @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Comparable) in.readObject();
+            values = (SortedValues<Comparable>) in.readObject();
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            out.writeObject(values);
         }
 
         @Override
@@ -60,36 +61,29 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
     }
 
     public void init(MinData data) {
-        data.min = null;
+        data.values.clear();
     }
 
     public void accumulate(MinData data,
                            Object value) {
         if (value != null) {
-            data.min = data.min == null || data.min.compareTo( value ) > 0 ?
-                       (Comparable) value :
-                       data.min;
+            data.values.add( (Comparable) value );
         }
     }
 
-    @Override
-    public boolean tryReverse( MinData data, Object value ) {
-        if (value != null) {
-            return data.min.compareTo( value ) < 0;
-        }
-        return true;
-    }
-
     public void reverse(MinData data,
                         Object value) {
+        if (value != null) {
+            data.values.remove( (Comparable) value );
+        }
     }
 
     public Object getResult(MinData data) {
-        return data.min;
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -37,16 +37,17 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
     }
 
     protected static class MinData implements Externalizable {
-        public Number min = null;
+        public SortedValues<Number> values = new SortedValues<>( SortedValues.NUMERIC_ORDER );
 
         public MinData() {}
 
+        @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Double) in.readObject();
+            values = (SortedValues<Number>) in.readObject();
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            out.writeObject(values);
         }
 
         @Override
@@ -59,37 +60,30 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
         return new MinData();
     }
 
-    public void init( MinData data) {
-        data.min = null;
+    public void init(MinData data) {
+        data.values.clear();
     }
 
-    public void accumulate( MinData data,
-                            Object value) {
+    public void accumulate(MinData data,
+                           Object value) {
         if (value != null) {
-            Number number = (Number)value;
-            data.min = data.min == null || data.min.doubleValue() > number.doubleValue() ? number : data.min;
+            data.values.add( (Number) value );
         }
     }
 
-    @Override
-    public boolean tryReverse( MinData data, Object value ) {
+    public void reverse(MinData data,
+                        Object value) {
         if (value != null) {
-            Number number = (Number)value;
-            return data.min.doubleValue() < number.doubleValue();
+            data.values.remove( (Number) value );
         }
-        return true;
-    }
-
-    public void reverse( MinData data,
-                         Object value) {
     }
 
-    public Object getResult( MinData data) {
-        return data.min;
+    public Object getResult(MinData data) {
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.TreeMap;
+
+/**
+ * The values accumulated by a min or max function, kept sorted together with the number of their occurrences.
+ * Adding or removing a value costs O(log n), so removing the current min or max doesn't require to accumulate
+ * again all the remaining values.
+ */
+public class SortedValues<T> implements Externalizable {
+
+    public static final Comparator<Number> NUMERIC_ORDER = new NumericComparator();
+
+    private TreeMap<T, Integer> counts;
+
+    public SortedValues() {
+        this(null);
+    }
+
+    public SortedValues(Comparator<? super T> comparator) {
+        this.counts = new TreeMap<>(comparator);
+    }
+
+    public void add(T value) {
+        counts.merge(value, 1, Integer::sum);
+    }
+
+    public void remove(T value) {
+        counts.computeIfPresent(value, (v, count) -> count == 1 ? null : count - 1);
+    }
+
+    public T first() {
+        return counts.isEmpty() ? null : counts.firstKey();
+    }
+
+    public T last() {
+        return counts.isEmpty() ? null : counts.lastKey();
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        counts = (TreeMap<T, Integer>) in.readObject();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject(counts);
+    }
+
+    private static class NumericComparator implements Comparator<Number>, Serializable {
+        @Override
+        public int compare(Number n1, Number n2) {
+            return Double.compare(n1.doubleValue(), n2.doubleValue());
+        }
+    }
+}
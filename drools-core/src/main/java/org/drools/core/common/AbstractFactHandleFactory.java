@@ -120,6 +120,14 @@ public abstract class AbstractFactHandleFactory implements FactHandleFactory  {
         return this.counter.incrementAndGet();
     }
 
+    public long getNextIds(int count) {
+        return idGen.getNextIds( count );
+    }
+
+    public long getNextRecencies(int count) {
+        return this.counter.addAndGet( count ) - count + 1;
+    }
+
     public long getId() {
         return idGen.getId();
     }
@@ -157,6 +165,10 @@ public abstract class AbstractFactHandleFactory implements FactHandleFactory  {
             return hasRecycledId() ? recycledId++ : this.id.incrementAndGet();
         }
 
+        public long getNextIds(int count) {
+            return hasRecycledId() ? -1 : this.id.addAndGet( count ) - count + 1;
+        }
+
         private boolean hasRecycledId() {
             if (usedIds != null) {
                 while ( !usedIds.isEmpty() ) {
@@ -0,0 +1,170 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.reteoo.LeftTuple;
+import org.drools.core.reteoo.RightTuple;
+import org.drools.core.reteoo.Tuple;
+
+/**
+ * A fact handle allocating the {@link LinkedTuples} referencing the tuples of its fact only when the fact is
+ * propagated to a rule for the first time, so a fact not matching any alpha constraint doesn't allocate them at all.
+ * The tuples are always {@link SingleLinkedTuples}: the lazy allocation isn't thread-safe, so these handles are
+ * never used when the network is partitioned and evaluated in parallel.
+ */
+public class CompactFactHandle extends DefaultFactHandle {
+
+    public CompactFactHandle() {
+    }
+
+    public CompactFactHandle(long id, Object object, long recency, WorkingMemoryEntryPoint wmEntryPoint) {
+        super(id, object, recency, wmEntryPoint);
+    }
+
+    @Override
+    protected void setLinkedTuples(InternalRuleBase kbase) {
+        // lazily created when the first tuple is added
+    }
+
+    private LinkedTuples getOrCreateLinkedTuples() {
+        if (linkedTuples == null) {
+            linkedTuples = new SingleLinkedTuples();
+        }
+        return linkedTuples;
+    }
+
+    @Override
+    public void addFirstLeftTuple(LeftTuple leftTuple) {
+        getOrCreateLinkedTuples().addFirstLeftTuple(leftTuple);
+    }
+
+    @Override
+    public void addLastLeftTuple(LeftTuple leftTuple) {
+        getOrCreateLinkedTuples().addLastLeftTuple(leftTuple);
+    }
+
+    @Override
+    public void addTupleInPosition(Tuple tuple) {
+        getOrCreateLinkedTuples().addTupleInPosition(tuple);
+    }
+
+    @Override
+    public void removeLeftTuple(LeftTuple leftTuple) {
+        if (linkedTuples != null) {
+            linkedTuples.removeLeftTuple(leftTuple);
+        }
+    }
+
+    @Override
+    public void addLastRightTuple(RightTuple rightTuple) {
+        getOrCreateLinkedTuples().addLastRightTuple(rightTuple);
+    }
+
+    @Override
+    public void removeRightTuple(RightTuple rightTuple) {
+        if (linkedTuples != null) {
+            linkedTuples.removeRightTuple(rightTuple);
+        }
+    }
+
+    @Override
+    public void clearLeftTuples() {
+        if (linkedTuples != null) {
+            linkedTuples.clearLeftTuples();
+        }
+    }
+
+    @Override
+    public void clearRightTuples() {
+        if (linkedTuples != null) {
+            linkedTuples.clearRightTuples();
+        }
+    }
+
+    @Override
+    public void forEachRightTuple(Consumer<RightTuple> rightTupleConsumer) {
+        if (linkedTuples != null) {
+            linkedTuples.forEachRightTuple(rightTupleConsumer);
+        }
+    }
+
+    @Override
+    public void forEachLeftTuple(Consumer<LeftTuple> leftTupleConsumer) {
+        if (linkedTuples != null) {
+            linkedTuples.forEachLeftTuple(leftTupleConsumer);
+        }
+    }
+
+    @Override
+    public LeftTuple findFirstLeftTuple(Predicate<LeftTuple> leftTuplePredicate) {
+        return linkedTuples != null ? linkedTuples.findFirstLeftTuple(leftTuplePredicate) : null;
+    }
+
+    @Override
+    public LeftTuple getFirstLeftTuple() {
+        return linkedTuples != null ? super.getFirstLeftTuple() : null;
+    }
+
+    @Override
+    public RightTuple getFirstRightTuple() {
+        return linkedTuples != null ? super.getFirstRightTuple() : null;
+    }
+
+    @Override
+    public boolean hasMatches() {
+        return linkedTuples != null && linkedTuples.hasTuples();
+    }
+
+    @Override
+    public LinkedTuples getLinkedTuples() {
+        // the caller may add tuples to the returned instance
+        return getOrCreateLinkedTuples();
+    }
+
+    @Override
+    public LinkedTuples detachLinkedTuples() {
+        LinkedTuples detached = linkedTuples != null ? linkedTuples : DummyLinkedTuples.INSTANCE;
+        linkedTuples = null;
+        return detached;
+    }
+
+    @Override
+    public LinkedTuples detachLinkedTuplesForPartition(int i) {
+        return linkedTuples != null ? super.detachLinkedTuplesForPartition(i) : DummyLinkedTuples.INSTANCE;
+    }
+
+    @Override
+    public CompactFactHandle clone() {
+        CompactFactHandle clone = new CompactFactHandle(this.id, getObject(), this.recency, null);
+        clone.entryPointId = this.entryPointId;
+        clone.wmEntryPoint = this.wmEntryPoint;
+        clone.identityHashCode = this.identityHashCode;
+        clone.objectHashCode = this.objectHashCode;
+        clone.setEqualityKey(getEqualityKey());
+        clone.setDisconnected(isDisconnected());
+        clone.setNegated(isNegated());
+        clone.linkedTuples = this.linkedTuples != null ? this.linkedTuples.clone() : null;
+        return clone;
+    }
+}
@@ -225,13 +225,7 @@ public class DefaultEventHandle extends DefaultFactHandle implements EventHandle
     }
 
     private DefaultEventHandle cloneWithoutTuples() {
-        DefaultEventHandle clone = new DefaultEventHandle(getId(),
-                                                          getIdentityHashCode(),
-                                                          getObject(),
-                                                          getRecency(),
-                                                          getStartTimestamp(),
-                                                          getDuration(),
-                                                          getEntryPointId() );
+        DefaultEventHandle clone = newLinkedClone();
         clone.setOtnCount( getOtnCount() );
         clone.setExpired( isExpired() );
         clone.setEqualityKey( getEqualityKey() );
@@ -241,6 +235,19 @@ public class DefaultEventHandle extends DefaultFactHandle implements EventHandle
         return clone;
     }
 
+    /**
+     * Creates the handle returned by {@link #cloneAndLink()}, before its state is copied from this one
+     */
+    protected DefaultEventHandle newLinkedClone() {
+        return new DefaultEventHandle(getId(),
+                                      getIdentityHashCode(),
+                                      getObject(),
+                                      getRecency(),
+                                      getStartTimestamp(),
+                                      getDuration(),
+                                      getEntryPointId() );
+    }
+
     public DefaultEventHandle cloneAndLink() {
         DefaultEventHandle clone = cloneWithoutTuples();
         clone.linkedFactHandle = this;
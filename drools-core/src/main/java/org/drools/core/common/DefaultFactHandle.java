@@ -165,6 +165,7 @@ public class DefaultFactHandle extends AbstractBaseLinkedListNode<DefaultFactHan
 
     @Override
     public <K> K as(Class<K> klass) throws ClassCastException {
+        Object object = getObject();
         if ( klass.isAssignableFrom( object.getClass() ) ) {
             return (K) object;
         }
@@ -252,7 +253,7 @@ public class DefaultFactHandle extends AbstractBaseLinkedListNode<DefaultFactHan
      * @see Object
      */
     public String toString() {
-        return "[fact " + toExternalForm() + ":" + this.object + "]";
+        return "[fact " + toExternalForm() + ":" + getObject() + "]";
     }
 
     public long getRecency() {
@@ -393,7 +394,7 @@ public class DefaultFactHandle extends AbstractBaseLinkedListNode<DefaultFactHan
     }
 
     public DefaultFactHandle clone() {
-        DefaultFactHandle clone = new DefaultFactHandle( this.id, this.identityHashCode, this.object, this.recency, this.entryPointId );
+        DefaultFactHandle clone = new DefaultFactHandle( this.id, this.identityHashCode, getObject(), this.recency, this.entryPointId );
         clone.key = this.key;
         clone.linkedTuples = this.linkedTuples.clone();
 
@@ -872,7 +873,7 @@ public class DefaultFactHandle extends AbstractBaseLinkedListNode<DefaultFactHan
 
     public static class DummyLinkedTuples implements LinkedTuples {
 
-        private static final DummyLinkedTuples INSTANCE = new DummyLinkedTuples();
+        static final DummyLinkedTuples INSTANCE = new DummyLinkedTuples();
 
         @Override
         public LinkedTuples clone() {
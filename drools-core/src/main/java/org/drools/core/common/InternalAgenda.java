@@ -24,6 +24,7 @@ import org.kie.api.runtime.rule.AgendaFilter;
 
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public interface InternalAgenda extends Agenda, ActivationsManager {
 
@@ -122,6 +123,19 @@ public interface InternalAgenda extends Agenda, ActivationsManager {
      */
     void fireUntilHalt(AgendaFilter agendaFilter);
 
+    /**
+     * Event driven alternative to {@link #fireUntilHalt(AgendaFilter)} returning immediately. Instead of keeping
+     * a thread waiting while there is no activation to fire, the activations are fired on the given executor
+     * only when some new work is added to the agenda, until a halt is called.
+     * The agendas not supporting the event driven mode run a blocking fireUntilHalt on the given executor.
+     *
+     * @param agendaFilter filters the activations that may fire
+     * @param executor the executor on which the activations are fired
+     */
+    default void scheduleFireUntilHalt(AgendaFilter agendaFilter, Executor executor) {
+        executor.execute( () -> fireUntilHalt( agendaFilter ) );
+    }
+
     boolean dispose(InternalWorkingMemory wm);
 
     boolean isAlive();
@@ -78,5 +78,26 @@ public interface InternalWorkingMemoryEntryPoint extends WorkingMemoryEntryPoint
                                        RuleImpl rule,
                                        TerminalNode terminalNode);
 
+    /**
+     * Immediately deletes a batch of facts deleted by the same rule. The implementations can propagate the facts
+     * sharing an {@link ObjectTypeConf} through its object type nodes together, instead of one at a time.
+     */
+    default void immediateDeleteAll(InternalFactHandle[] handles,
+                                    ObjectTypeConf[] typeConfs,
+                                    RuleImpl rule,
+                                    TerminalNode terminalNode) {
+        for (int i = 0; i < handles.length; i++) {
+            immediateDelete(handles[i], handles[i].getObject(), typeConfs[i], rule, terminalNode);
+        }
+    }
+
     void removeFromObjectStore(InternalFactHandle handle);
+
+    /**
+     * Locks this entry point, so that its object store is changed and its facts are propagated by one thread at a time.
+     * Entry points that are never accessed concurrently don't need to lock.
+     */
+    default void lock() { }
+
+    default void unlock() { }
 }
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import org.drools.base.rule.EntryPointId;
+import org.drools.core.WorkingMemoryEntryPoint;
+
+/**
+ * An event handle whose event is serialized in an {@link OffHeapFactStorage} while the handle is in the object store,
+ * as done by {@link OffHeapFactHandle} for plain facts. The clones of this handle linked to the windows don't
+ * reference the event, but read it from this handle, so events kept in wide windows don't pin their payload on heap:
+ * only the events still referenced by the application, or collected by an accumulate, stay there.
+ */
+public class OffHeapEventHandle extends DefaultEventHandle implements OffHeapHandle {
+
+    private OffHeapPayload payload;
+
+    public OffHeapEventHandle(long id, Object object, long recency, long timestamp, long duration,
+                              WorkingMemoryEntryPoint wmEntryPoint, OffHeapObjectStore store, byte[] payload) {
+        super(id, object, recency, timestamp, duration, wmEntryPoint);
+        this.payload = new OffHeapPayload(this, store, payload);
+    }
+
+    OffHeapPayload getPayload() {
+        return payload;
+    }
+
+    @Override
+    public Object getObject() {
+        return payload != null ? payload.getObject() : this.object;
+    }
+
+    @Override
+    public Object getObjectIfLoaded() {
+        return payload.getObjectIfLoaded();
+    }
+
+    @Override
+    public Class<?> getObjectClass() {
+        return payload.getObjectClass();
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return payload.isOffHeap();
+    }
+
+    @Override
+    public void setObject(Object object) {
+        if (payload == null) {
+            // invoked by the super constructor
+            super.setObject(object);
+            return;
+        }
+        payload.setObject(object, super::setObject);
+    }
+
+    @Override
+    public boolean offload() {
+        return payload.offload();
+    }
+
+    @Override
+    public void release() {
+        payload.release();
+    }
+
+    /**
+     * Drops the on-heap event as the garbage collector would do, so that it will be deserialized at the next access
+     */
+    void unload() {
+        payload.unload();
+    }
+
+    @Override
+    protected DefaultEventHandle newLinkedClone() {
+        return new LinkedOffHeapEventHandle(getId(), getIdentityHashCode(), getRecency(), getStartTimestamp(), getDuration(), getEntryPointId());
+    }
+
+    static class LinkedOffHeapEventHandle extends DefaultEventHandle {
+
+        LinkedOffHeapEventHandle(long id, int identityHashCode, long recency, long timestamp, long duration, EntryPointId entryPointId) {
+            super(id, identityHashCode, null, recency, timestamp, duration, entryPointId);
+        }
+
+        @Override
+        public Object getObject() {
+            DefaultEventHandle linked = getLinkedFactHandle();
+            return linked != null ? linked.getObject() : null;
+        }
+
+        @Override
+        public String getObjectClassName() {
+            DefaultEventHandle linked = getLinkedFactHandle();
+            return linked != null ? linked.getObjectClassName() : null;
+        }
+
+        @Override
+        public void setObject(Object object) {
+            // the event is always read from the linked handle
+        }
+    }
+}
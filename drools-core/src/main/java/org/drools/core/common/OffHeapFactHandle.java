@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import org.drools.core.WorkingMemoryEntryPoint;
+
+/**
+ * A fact handle whose fact is serialized in an {@link OffHeapFactStorage} while the handle is in the object store.
+ * In that state the handle only softly references its fact and deserializes a copy of it when the garbage
+ * collector reclaimed it. Once removed from the store the fact is kept on heap again, as for a plain handle.
+ */
+public class OffHeapFactHandle extends DefaultFactHandle implements OffHeapHandle {
+
+    private OffHeapPayload payload;
+
+    public OffHeapFactHandle(long id, Object object, long recency, WorkingMemoryEntryPoint wmEntryPoint, OffHeapObjectStore store, byte[] payload) {
+        super(id, object, recency, wmEntryPoint);
+        this.payload = new OffHeapPayload(this, store, payload);
+    }
+
+    OffHeapPayload getPayload() {
+        return payload;
+    }
+
+    @Override
+    public Object getObject() {
+        return payload != null ? payload.getObject() : this.object;
+    }
+
+    @Override
+    public Object getObjectIfLoaded() {
+        return payload.getObjectIfLoaded();
+    }
+
+    @Override
+    public Class<?> getObjectClass() {
+        return payload.getObjectClass();
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return payload.isOffHeap();
+    }
+
+    @Override
+    public void setObject(Object object) {
+        if (payload == null) {
+            // invoked by the super constructor
+            super.setObject(object);
+            return;
+        }
+        payload.setObject(object, super::setObject);
+    }
+
+    @Override
+    public boolean offload() {
+        return payload.offload();
+    }
+
+    @Override
+    public void release() {
+        payload.release();
+    }
+
+    /**
+     * Drops the on-heap fact as the garbage collector would do, so that it will be deserialized at the next access
+     */
+    void unload() {
+        payload.unload();
+    }
+}
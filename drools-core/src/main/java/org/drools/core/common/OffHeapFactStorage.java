@@ -0,0 +1,256 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInput;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.base.common.DroolsObjectInputStream;
+import org.kie.internal.runtime.conf.OffHeapFactsOption;
+
+/**
+ * Stores serialized facts out of the java heap, in chunks of direct memory or of memory mapped files. Each fact is
+ * appended to the current chunk and addressed by the index of its chunk and its offset inside it. A chunk is released
+ * as soon as all the facts stored in it have been freed, so the memory of a fact is not reused until then.
+ */
+public class OffHeapFactStorage {
+
+    public static final long NO_ADDRESS = -1L;
+
+    static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final Path directory;
+
+    private final int chunkSize;
+
+    private final ClassLoader classLoader;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    private Chunk currentChunk;
+
+    private long allocatedBytes;
+
+    private long liveBytes;
+
+    public OffHeapFactStorage(Path directory, int chunkSize, ClassLoader classLoader) {
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+        this.classLoader = classLoader;
+    }
+
+    public static OffHeapFactStorage create(OffHeapFactsOption option, ClassLoader classLoader) {
+        return new OffHeapFactStorage(option.getType() == OffHeapFactsOption.Type.MAPPED_FILES ? Paths.get(option.getDirectory()) : null,
+                                      DEFAULT_CHUNK_SIZE, classLoader);
+    }
+
+    /**
+     * Serializes the given object or returns null if it cannot be serialized
+     */
+    public byte[] trySerialize(Object object) {
+        if (!(object instanceof Serializable)) {
+            return null;
+        }
+        try {
+            return serialize(object);
+        } catch (NotSerializableException e) {
+            return null;
+        }
+    }
+
+    public long store(Object object) {
+        try {
+            return store(serialize(object));
+        } catch (NotSerializableException e) {
+            throw new IllegalArgumentException("Unable to store off-heap the not serializable fact " + object, e);
+        }
+    }
+
+    public synchronized long store(byte[] payload) {
+        int recordSize = payload.length + LENGTH_SIZE;
+        if (currentChunk == null || currentChunk.remaining() < recordSize) {
+            if (currentChunk != null && currentChunk.liveBytes == 0) {
+                releaseChunk(currentChunk);
+            }
+            currentChunk = newChunk(Math.max(chunkSize, recordSize));
+        }
+
+        int offset = currentChunk.position;
+        ByteBuffer buffer = currentChunk.buffer.duplicate();
+        buffer.position(offset);
+        buffer.putInt(payload.length);
+        buffer.put(payload);
+
+        currentChunk.position += recordSize;
+        currentChunk.liveBytes += recordSize;
+        liveBytes += recordSize;
+        return ((long) currentChunk.index << 32) | offset;
+    }
+
+    public Object load(long address) {
+        byte[] payload;
+        synchronized (this) {
+            Chunk chunk = getChunk(address);
+            ByteBuffer buffer = chunk.buffer.duplicate();
+            buffer.position((int) address);
+            payload = new byte[buffer.getInt()];
+            buffer.get(payload);
+        }
+        try (ObjectInput in = new DroolsObjectInputStream(new ByteArrayInputStream(payload), classLoader)) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized void free(long address) {
+        Chunk chunk = getChunk(address);
+        int recordSize = chunk.buffer.getInt((int) address) + LENGTH_SIZE;
+        chunk.liveBytes -= recordSize;
+        liveBytes -= recordSize;
+        if (chunk.liveBytes == 0 && chunk != currentChunk) {
+            releaseChunk(chunk);
+        }
+    }
+
+    public synchronized void clear() {
+        for (Chunk chunk : chunks) {
+            if (chunk != null) {
+                chunk.release();
+            }
+        }
+        chunks.clear();
+        currentChunk = null;
+        allocatedBytes = 0;
+        liveBytes = 0;
+    }
+
+    /**
+     * The number of bytes currently reserved for the chunks of this storage
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * The number of bytes currently used by the facts that have not been freed yet
+     */
+    public synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    private Chunk getChunk(long address) {
+        Chunk chunk = address >= 0 ? chunks.get((int) (address >>> 32)) : null;
+        if (chunk == null) {
+            throw new IllegalStateException("No fact stored off-heap at address " + address);
+        }
+        return chunk;
+    }
+
+    private Chunk newChunk(int size) {
+        int index = chunks.indexOf(null);
+        if (index < 0) {
+            index = chunks.size();
+            chunks.add(null);
+        }
+        Chunk chunk = directory == null ? new Chunk(index, ByteBuffer.allocateDirect(size), null) : mapChunk(index, size);
+        chunks.set(index, chunk);
+        allocatedBytes += size;
+        return chunk;
+    }
+
+    private Chunk mapChunk(int index, int size) {
+        try {
+            Path file = Files.createTempFile(directory, "drools-facts-", ".bin");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // the mapping remains valid after the channel has been closed
+                return new Chunk(index, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void releaseChunk(Chunk chunk) {
+        chunks.set(chunk.index, null);
+        allocatedBytes -= chunk.buffer.capacity();
+        chunk.release();
+    }
+
+    private static byte[] serialize(Object object) throws NotSerializableException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        } catch (NotSerializableException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static class Chunk {
+        private final int index;
+        private final ByteBuffer buffer;
+        private final Path file;
+
+        private int position;
+        private int liveBytes;
+
+        private Chunk(int index, ByteBuffer buffer, Path file) {
+            this.index = index;
+            this.buffer = buffer;
+            this.file = file;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        private void release() {
+            // the direct memory is given back when the buffer is garbage collected, while on some platforms
+            // a mapped file can be deleted only after that, so it is also marked to be deleted on exit
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    file.toFile().deleteOnExit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+/**
+ * A fact handle whose fact is serialized in an {@link OffHeapFactStorage} while the handle is in an
+ * {@link OffHeapObjectStore}, either a plain fact through an {@link OffHeapFactHandle} or an event through
+ * an {@link OffHeapEventHandle}.
+ */
+public interface OffHeapHandle extends InternalFactHandle {
+
+    /**
+     * Returns the fact if it is currently on heap, without deserializing it
+     */
+    Object getObjectIfLoaded();
+
+    Class<?> getObjectClass();
+
+    boolean isOffHeap();
+
+    /**
+     * Moves the fact out of the heap if it isn't already there. Returns false if the fact cannot be serialized.
+     */
+    boolean offload();
+
+    /**
+     * Brings the fact back on heap and frees its serialized copy
+     */
+    void release();
+}
@@ -0,0 +1,308 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.drools.base.factmodel.traits.CoreWrapper;
+import org.drools.base.factmodel.traits.TraitableBean;
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.ObjectFilter;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An object store keeping the facts of its {@link OffHeapHandle}s serialized in an {@link OffHeapFactStorage},
+ * so that on heap it only indexes the handles by id and by the hash code of their facts. Facts that cannot be
+ * serialized are stored through plain handles and remain on heap.
+ *
+ * Looking up a fact by identity finds either the fact that has been inserted or the copy returned by the last
+ * deserialization of its handle: as long as the application references the inserted fact it is never reclaimed,
+ * and once it has been reclaimed only the deserialized copy can be reached by rules and queries.
+ */
+public class OffHeapObjectStore implements ObjectStore {
+
+    private final OffHeapFactStorage storage;
+
+    private final boolean isEqualityBehaviour;
+
+    private final Map<Long, InternalFactHandle> factsById = new HashMap<>();
+
+    private final Map<Long, InternalFactHandle> negFactsById = new HashMap<>();
+
+    private final Map<Integer, List<InternalFactHandle>> factsByHash = new HashMap<>();
+
+    // the facts can be deserialized during a parallel evaluation, so this index has to be thread safe
+    private final Map<Integer, List<InternalFactHandle>> reloadedByIdentity = new ConcurrentHashMap<>();
+
+    public OffHeapObjectStore(OffHeapFactStorage storage, boolean isEqualityBehaviour) {
+        this.storage = storage;
+        this.isEqualityBehaviour = isEqualityBehaviour;
+    }
+
+    public OffHeapFactStorage getStorage() {
+        return storage;
+    }
+
+    public static boolean isStorable(Object object) {
+        return !(object instanceof TraitableBean || object instanceof CoreWrapper);
+    }
+
+    /**
+     * Creates a handle keeping the given fact off-heap, or returns null if the fact cannot be serialized
+     */
+    public InternalFactHandle createFactHandle(long id, Object object, long recency, WorkingMemoryEntryPoint entryPoint) {
+        if (!isStorable(object)) {
+            return null;
+        }
+        byte[] payload = storage.trySerialize(object);
+        return payload != null ? new OffHeapFactHandle(id, object, recency, entryPoint, this, payload) : null;
+    }
+
+    /**
+     * Creates an event handle keeping the given event off-heap, or returns null if the event cannot be serialized
+     */
+    public InternalFactHandle createEventHandle(long id, Object object, long recency, long timestamp, long duration, WorkingMemoryEntryPoint entryPoint) {
+        if (!isStorable(object)) {
+            return null;
+        }
+        byte[] payload = storage.trySerialize(object);
+        return payload != null ? new OffHeapEventHandle(id, object, recency, timestamp, duration, entryPoint, this, payload) : null;
+    }
+
+    private static OffHeapPayload payloadOf(InternalFactHandle handle) {
+        if (handle instanceof OffHeapFactHandle) {
+            return ((OffHeapFactHandle) handle).getPayload();
+        }
+        return handle instanceof OffHeapEventHandle ? ((OffHeapEventHandle) handle).getPayload() : null;
+    }
+
+    @Override
+    public int size() {
+        return factsById.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return factsById.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        // the whole storage is discarded, so the facts are not deserialized again only to release their handles
+        factsById.values().stream().map(OffHeapObjectStore::payloadOf).filter(Objects::nonNull).forEach(OffHeapPayload::detach);
+        factsById.clear();
+        negFactsById.clear();
+        factsByHash.clear();
+        reloadedByIdentity.clear();
+        storage.clear();
+    }
+
+    @Override
+    public Object getObjectForHandle(InternalFactHandle handle) {
+        InternalFactHandle reconnectedHandle = reconnect(handle);
+        return reconnectedHandle != null ? reconnectedHandle.getObject() : null;
+    }
+
+    @Override
+    public InternalFactHandle reconnect(InternalFactHandle handle) {
+        if (handle == null) {
+            return null;
+        }
+        return handle.isNegated() ? negFactsById.get(handle.getId()) : factsById.get(handle.getId());
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObject(Object object) {
+        if (object == null) {
+            return null;
+        }
+        int hash = lookupHash(object);
+        InternalFactHandle handle = findMatching(factsByHash.get(hash), object);
+        return handle != null || isEqualityBehaviour ? handle : findMatching(reloadedByIdentity.get(hash), object);
+    }
+
+    private InternalFactHandle findMatching(List<? extends InternalFactHandle> handles, Object object) {
+        if (handles != null) {
+            for (InternalFactHandle handle : handles) {
+                if (matches(handle, object)) {
+                    return handle;
+                }
+            }
+        }
+        return null;
+    }
+
+    int registerReloaded(InternalFactHandle handle, int previousIdentityHashCode, Object reloaded) {
+        if (isEqualityBehaviour) {
+            // a deserialized copy is equal to the original fact, so it can be found through the main index
+            return 0;
+        }
+        if (previousIdentityHashCode != 0) {
+            unregisterReloaded(handle, previousIdentityHashCode);
+        }
+        int identityHashCode = DefaultFactHandle.determineIdentityHashCode(reloaded);
+        reloadedByIdentity.computeIfAbsent(identityHashCode, k -> new CopyOnWriteArrayList<>()).add(handle);
+        return identityHashCode;
+    }
+
+    void unregisterReloaded(InternalFactHandle handle, int identityHashCode) {
+        reloadedByIdentity.computeIfPresent(identityHashCode, (k, handles) -> handles.remove(handle) && handles.isEmpty() ? null : handles);
+    }
+
+    @Override
+    public void updateHandle(InternalFactHandle handle, Object object) {
+        removeHandle(handle);
+        handle.setObject(object);
+        addHandle(handle, object);
+    }
+
+    @Override
+    public void addHandle(InternalFactHandle handle, Object object) {
+        if (handle.isNegated()) {
+            negFactsById.put(handle.getId(), handle);
+            return;
+        }
+        if (handle instanceof OffHeapHandle) {
+            ((OffHeapHandle) handle).offload();
+        }
+        if (factsById.put(handle.getId(), handle) == null) {
+            factsByHash.computeIfAbsent(handleHash(handle), k -> new ArrayList<>(1)).add(handle);
+        }
+    }
+
+    @Override
+    public void removeHandle(InternalFactHandle handle) {
+        if (handle.isNegated()) {
+            negFactsById.remove(handle.getId());
+            return;
+        }
+        InternalFactHandle removed = factsById.remove(handle.getId());
+        if (removed == null) {
+            return;
+        }
+        if (!removeFromHashIndex(handleHash(removed), removed)) {
+            // the hash code of a mutable fact changed since it has been stored
+            factsByHash.entrySet().removeIf(entry -> entry.getValue().remove(removed) && entry.getValue().isEmpty());
+        }
+        releaseHandle(removed);
+    }
+
+    private boolean removeFromHashIndex(int hash, InternalFactHandle handle) {
+        List<InternalFactHandle> handles = factsByHash.get(hash);
+        if (handles == null || !handles.remove(handle)) {
+            return false;
+        }
+        if (handles.isEmpty()) {
+            factsByHash.remove(hash);
+        }
+        return true;
+    }
+
+    private static void releaseHandle(InternalFactHandle handle) {
+        if (handle instanceof OffHeapHandle) {
+            ((OffHeapHandle) handle).release();
+        }
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects() {
+        return factsById.values().stream().map(InternalFactHandle::getObject).iterator();
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects(ObjectFilter filter) {
+        return factsById.values().stream().filter(fh -> accept(filter, fh)).map(InternalFactHandle::getObject).iterator();
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles() {
+        return factsById.values().iterator();
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles(ObjectFilter filter) {
+        return factsById.values().stream().filter(fh -> accept(filter, fh)).iterator();
+    }
+
+    @Override
+    public Iterator<Object> iterateNegObjects(ObjectFilter filter) {
+        return negFactsById.values().stream().filter(fh -> accept(filter, fh)).map(InternalFactHandle::getObject).iterator();
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateNegFactHandles(ObjectFilter filter) {
+        return negFactsById.values().stream().filter(fh -> accept(filter, fh)).iterator();
+    }
+
+    @Override
+    public FactHandleClassStore getStoreForClass(Class<?> clazz) {
+        return () -> factsById.values().stream().filter(fh -> clazz.isAssignableFrom(getObjectClass(fh))).collect(toList()).iterator();
+    }
+
+    @Override
+    public boolean clearClassStore(Class<?> clazz) {
+        List<InternalFactHandle> toBeRemoved = factsById.values().stream()
+                .filter(fh -> clazz.getName().equals(fh.getObjectClassName()))
+                .collect(toList());
+        toBeRemoved.forEach(this::removeHandle);
+        return !toBeRemoved.isEmpty();
+    }
+
+    private static boolean accept(ObjectFilter filter, InternalFactHandle handle) {
+        if (filter == null) {
+            return true;
+        }
+        if (filter instanceof ClassObjectFilter) {
+            // avoids deserializing the facts of the other classes
+            return ((ClassObjectFilter) filter).getFilteredClass().isAssignableFrom(getObjectClass(handle));
+        }
+        return filter.accept(handle.getObject());
+    }
+
+    private static Class<?> getObjectClass(InternalFactHandle handle) {
+        return handle instanceof OffHeapHandle ?
+                ((OffHeapHandle) handle).getObjectClass() :
+                ClassAwareObjectStore.getActualClass(handle.getObject());
+    }
+
+    private int lookupHash(Object object) {
+        return isEqualityBehaviour ? object.hashCode() : DefaultFactHandle.determineIdentityHashCode(object);
+    }
+
+    private int handleHash(InternalFactHandle handle) {
+        return isEqualityBehaviour ? handle.getObjectHashCode() : handle.getIdentityHashCode();
+    }
+
+    private boolean matches(InternalFactHandle handle, Object object) {
+        if (isEqualityBehaviour) {
+            return object.equals(handle.getObject());
+        }
+        Object stored = handle instanceof OffHeapHandle ? ((OffHeapHandle) handle).getObjectIfLoaded() : handle.getObject();
+        return stored == object;
+    }
+}
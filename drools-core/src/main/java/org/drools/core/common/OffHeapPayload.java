@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Consumer;
+
+import static org.drools.core.common.OffHeapFactStorage.NO_ADDRESS;
+
+/**
+ * The serialized copy of the fact of an off-heap handle. While the fact is off-heap the handle doesn't hold it
+ * and this payload only softly references it, deserializing a copy of it when the garbage collector reclaimed it.
+ */
+final class OffHeapPayload {
+
+    private final DefaultFactHandle handle;
+
+    private final OffHeapObjectStore store;
+
+    private final OffHeapFactStorage storage;
+
+    private Class<?> objectClass;
+
+    private long address;
+
+    private volatile SoftReference<Object> loadedObject;
+
+    private int reloadedIdentityHashCode;
+
+    OffHeapPayload(DefaultFactHandle handle, OffHeapObjectStore store, byte[] payload) {
+        this.handle = handle;
+        this.store = store;
+        this.storage = store.getStorage();
+        this.objectClass = handle.object.getClass();
+        this.address = NO_ADDRESS;
+        offload(payload);
+    }
+
+    Object getObject() {
+        Object pinned = handle.object;
+        if (pinned != null) {
+            return pinned;
+        }
+        SoftReference<Object> ref = loadedObject;
+        Object loaded = ref != null ? ref.get() : null;
+        return loaded != null ? loaded : reload();
+    }
+
+    private synchronized Object reload() {
+        Object loaded = loadedObject != null ? loadedObject.get() : null;
+        if (loaded == null) {
+            loaded = storage.load(address);
+            loadedObject = new SoftReference<>(loaded);
+            reloadedIdentityHashCode = store.registerReloaded(handle, reloadedIdentityHashCode, loaded);
+        }
+        return loaded;
+    }
+
+    Object getObjectIfLoaded() {
+        Object pinned = handle.object;
+        if (pinned != null) {
+            return pinned;
+        }
+        SoftReference<Object> ref = loadedObject;
+        return ref != null ? ref.get() : null;
+    }
+
+    Class<?> getObjectClass() {
+        return objectClass;
+    }
+
+    boolean isOffHeap() {
+        return address != NO_ADDRESS;
+    }
+
+    synchronized void setObject(Object object, Consumer<Object> handleSetter) {
+        boolean wasOffHeap = isOffHeap();
+        if (wasOffHeap) {
+            freePayload();
+        }
+        handleSetter.accept(object);
+        this.objectClass = object != null ? object.getClass() : null;
+        if (wasOffHeap) {
+            offload(storage.trySerialize(object));
+        }
+    }
+
+    synchronized boolean offload() {
+        if (isOffHeap()) {
+            return true;
+        }
+        return offload(storage.trySerialize(handle.object));
+    }
+
+    private synchronized boolean offload(byte[] payload) {
+        if (payload == null) {
+            return false;
+        }
+        Object pinned = handle.object;
+        // hash codes have to be calculated while the original fact is available
+        handle.getObjectHashCode();
+        handle.getIdentityHashCode();
+        handle.getObjectClassName();
+        this.address = storage.store(payload);
+        this.loadedObject = new SoftReference<>(pinned);
+        handle.object = null;
+        return true;
+    }
+
+    synchronized void release() {
+        if (!isOffHeap()) {
+            return;
+        }
+        handle.object = getObject();
+        freePayload();
+    }
+
+    synchronized void unload() {
+        if (isOffHeap()) {
+            this.loadedObject = null;
+        }
+    }
+
+    synchronized void detach() {
+        if (isOffHeap()) {
+            handle.object = getObjectIfLoaded();
+            this.address = NO_ADDRESS;
+            this.loadedObject = null;
+            this.reloadedIdentityHashCode = 0;
+        }
+    }
+
+    private void freePayload() {
+        if (reloadedIdentityHashCode != 0) {
+            store.unregisterReloaded(handle, reloadedIdentityHashCode);
+            reloadedIdentityHashCode = 0;
+        }
+        storage.free(address);
+        this.address = NO_ADDRESS;
+        this.loadedObject = null;
+    }
+}
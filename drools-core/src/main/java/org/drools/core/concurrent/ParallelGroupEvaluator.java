@@ -23,13 +23,13 @@ import org.drools.core.common.ActivationsManager;
 import org.drools.core.common.InternalAgendaGroup;
 import org.drools.core.phreak.RuleAgendaItem;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.drools.base.common.PartitionsManager.MIN_PARALLEL_THRESHOLD;
-import static org.drools.base.common.PartitionsManager.doOnForkJoinPool;
 
 public class ParallelGroupEvaluator extends AbstractGroupEvaluator {
 
@@ -58,10 +58,9 @@ public class ParallelGroupEvaluator extends AbstractGroupEvaluator {
         // This will evaluate all the RuleAgendaItem (grouped by partitions) in parallel, also resetting
         // their dirty flag. After this AbstractGroupEvaluator#evaluateAndFire loop will attempt re-evaluating
         // those items again, but finding them not dirty it won't have any performance impact allowing a direct firing.
-        doOnForkJoinPool(() ->
-                partitionedActivations.values().parallelStream()
-                        .forEach( items -> items
-                                .forEach( item -> item.getRuleExecutor().evaluateNetworkIfDirty(activationsManager) ) )
+        List<List<RuleAgendaItem>> partitions = new ArrayList<>(partitionedActivations.values());
+        activationsManager.getReteEvaluator().getKnowledgeBase().getEvaluationExecutor().invokeAll(partitions.size(), i ->
+                partitions.get(i).forEach( item -> item.getRuleExecutor().evaluateNetworkIfDirty(activationsManager) )
         );
     }
 }
@@ -35,6 +35,7 @@ import org.drools.core.concurrent.GroupEvaluator;
 import org.drools.core.concurrent.SequentialGroupEvaluator;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
@@ -51,6 +52,7 @@ import org.drools.util.StringUtils;
 import org.kie.api.conf.EventProcessingOption;
 import org.kie.api.event.rule.MatchCancelledCause;
 import org.kie.api.runtime.rule.AgendaFilter;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -85,7 +87,9 @@ public class ActivationsManagerImpl implements ActivationsManager {
     public ActivationsManagerImpl(ReteEvaluator reteEvaluator) {
         this.reteEvaluator = reteEvaluator;
         this.agendaGroupsManager = new AgendaGroupsManager.SimpleAgendaGroupsManager(reteEvaluator);
-        this.propagationList = new SynchronizedPropagationList(reteEvaluator);
+        this.propagationList = reteEvaluator.getRuleSessionConfiguration().getPropagationListOption() == PropagationListOption.LOCK_FREE ?
+                new LockFreePropagationList(reteEvaluator) :
+                new SynchronizedPropagationList(reteEvaluator);
         this.groupEvaluator = new SequentialGroupEvaluator( this );
         if (reteEvaluator.getKnowledgeBase().getRuleBaseConfiguration().getEventProcessingMode() == EventProcessingOption.STREAM) {
             expirationContexts = new ArrayList<>();
@@ -369,22 +373,10 @@ public class ActivationsManagerImpl implements ActivationsManager {
         class FireUntilHaltRestHandler implements RestHandler {
             @Override
             public PropagationEntry handleRest(ActivationsManagerImpl agenda) {
-                PropagationEntry head;
-                // this must use the same sync target as takeAllPropagations, to ensure this entire block is atomic, up to the point of wait
-                synchronized (agenda.propagationList) {
-                    head = agenda.propagationList.takeAll();
-
-                    // if halt() has called, the thread should not be put into a wait state
-                    // instead this is just a safe way to make sure the queue is flushed before exiting the loop
-                    if (head == null) {
-                        agenda.propagationList.waitOnRest();
-                        head = agenda.propagationList.takeAll();
-                        if (head == null) {
-                            agenda.firing = false;
-                        }
-                    }
+                PropagationEntry head = agenda.propagationList.takeAllOrWaitOnRest( () -> true );
+                if (head == null) {
+                    agenda.firing = false;
                 }
-
                 return head;
             }
         }
@@ -19,6 +19,7 @@
 package org.drools.core.impl;
 
 import org.drools.base.RuleBase;
+import org.drools.base.common.EvaluationExecutor;
 import org.drools.base.common.RuleBasePartitionId;
 import org.drools.base.definitions.InternalKnowledgePackage;
 import org.drools.base.definitions.rule.impl.RuleImpl;
@@ -85,6 +86,8 @@ public interface InternalRuleBase extends RuleBase {
     RuleBasePartitionId createNewPartitionId();
     boolean isPartitioned();
     int getParallelEvaluationSlotsCount();
+    EvaluationExecutor getEvaluationExecutor();
+    void shutdownEvaluationExecutor();
 
     RuleBaseConfiguration getRuleBaseConfiguration();
 
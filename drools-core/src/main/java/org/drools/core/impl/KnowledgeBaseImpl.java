@@ -19,6 +19,7 @@
 package org.drools.core.impl;
 
 import org.drools.base.base.ClassObjectType;
+import org.drools.base.common.EvaluationExecutor;
 import org.drools.base.common.PartitionsManager;
 import org.drools.base.common.RuleBasePartitionId;
 import org.drools.base.definitions.InternalKnowledgePackage;
@@ -43,6 +44,7 @@ import org.drools.core.phreak.BuildtimeSegmentUtilities;
 import org.drools.core.phreak.EagerPhreakBuilder.Add;
 import org.drools.core.phreak.PhreakBuilder;
 import org.drools.core.reteoo.AsyncReceiveNode;
+import org.drools.core.reteoo.CompactFactHandleFactory;
 import org.drools.core.reteoo.CompositePartitionAwareObjectSinkAdapter;
 import org.drools.core.reteoo.CoreComponentFactory;
 import org.drools.core.reteoo.EntryPointNode;
@@ -52,6 +54,7 @@ import org.drools.core.reteoo.ObjectSinkPropagator;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.Rete;
 import org.drools.core.reteoo.ReteooBuilder;
+import org.drools.core.reteoo.ReteooFactHandleFactory;
 import org.drools.core.reteoo.RuntimeComponentFactory;
 import org.drools.core.reteoo.SegmentMemory;
 import org.drools.core.reteoo.SegmentMemory.SegmentPrototype;
@@ -105,6 +108,8 @@ public class KnowledgeBaseImpl implements InternalRuleBase {
 
     protected static final Logger logger = LoggerFactory.getLogger(KnowledgeBaseImpl.class);
 
+    private static final FactHandleFactory COMPACT_FACT_HANDLE_FACTORY = new CompactFactHandleFactory();
+
     private Set<EntryPointNode> addedEntryNodeCache;
     private Set<EntryPointNode> removedEntryNodeCache;
 
@@ -163,6 +168,7 @@ public class KnowledgeBaseImpl implements InternalRuleBase {
         this.config = config;
         this.ruleBaseConfig = config.as(RuleBaseConfiguration.KEY);
         this.kieBaseConfig = config.as(KieBaseConfigurationImpl.KEY);
+        this.partitionsManager.setEvaluationExecutorOption(ruleBaseConfig.getEvaluationExecutor());
 
         createRulebaseId(id);
 
@@ -267,11 +273,19 @@ public class KnowledgeBaseImpl implements InternalRuleBase {
     }
 
     public FactHandleFactory newFactHandleFactory() {
-        return RuntimeComponentFactory.get().getFactHandleFactoryService().newInstance();
+        return getFactHandleFactoryService().newInstance();
     }
 
     public FactHandleFactory newFactHandleFactory(long id, long counter) {
-        return RuntimeComponentFactory.get().getFactHandleFactoryService().newInstance(id, counter);
+        return getFactHandleFactoryService().newInstance(id, counter);
+    }
+
+    private FactHandleFactory getFactHandleFactoryService() {
+        FactHandleFactory service = RuntimeComponentFactory.get().getFactHandleFactoryService();
+        // the compact handles only replace the plain ones, the handles of traits or rule units are kept as they are.
+        // They are not used with a partitioned network, where several partitions could lazily create their tuples at once
+        return ruleBaseConfig.isCompactFactHandles() && !isPartitioned() && service.getClass() == ReteooFactHandleFactory.class ?
+                COMPACT_FACT_HANDLE_FACTORY : service;
     }
 
     public Collection<Process> getProcesses() {
@@ -1202,6 +1216,16 @@ public class KnowledgeBaseImpl implements InternalRuleBase {
         return partitionsManager.getParallelEvaluationSlotsCount();
     }
 
+    @Override
+    public EvaluationExecutor getEvaluationExecutor() {
+        return partitionsManager.getEvaluationExecutor();
+    }
+
+    @Override
+    public void shutdownEvaluationExecutor() {
+        partitionsManager.shutdownEvaluationExecutor();
+    }
+
     public FactType getFactType(String packageName, String typeName) {
         String name = packageName + "." + typeName;
         readLock();
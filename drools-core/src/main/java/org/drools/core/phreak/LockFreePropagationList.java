@@ -0,0 +1,216 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import org.drools.core.common.ReteEvaluator;
+
+/**
+ * A thread safe PropagationList that never blocks the threads adding entries to it. The entries are pushed with a CAS
+ * on an intrusive stack, linked through their next field, and the engine, the only consumer of this list, takes
+ * them all at once with a single atomic swap, reversing the taken batch to restore the insertion order.
+ */
+public class LockFreePropagationList implements PropagationList {
+
+    private final ReteEvaluator reteEvaluator;
+
+    // the last added entry, linked to the previous ones
+    private final AtomicReference<PropagationEntry> top = new AtomicReference<>();
+
+    private final Queue<Thread> restingThreads = new ConcurrentLinkedQueue<>();
+
+    private volatile Runnable restWakeUp;
+
+    private volatile boolean disposed = false;
+
+    private volatile boolean firingUntilHalt = false;
+
+    public LockFreePropagationList(ReteEvaluator reteEvaluator) {
+        this.reteEvaluator = reteEvaluator;
+    }
+
+    @Override
+    public void addEntry(final PropagationEntry entry) {
+        if (entry.requiresImmediateFlushing()) {
+            if (entry.isCalledFromRHS()) {
+                entry.execute(reteEvaluator);
+            } else {
+                reteEvaluator.getActivationsManager().executeTask( new ExecutableEntry() {
+                    @Override
+                    public void execute() {
+                        if (entry instanceof PhreakTimerNode.TimerAction) {
+                            ( (PhreakTimerNode.TimerAction) entry ).execute( reteEvaluator, true );
+                        } else {
+                            entry.execute( reteEvaluator );
+                        }
+                    }
+
+                    @Override
+                    public void enqueue() {
+                        internalAddEntry( entry );
+                    }
+                } );
+            }
+        } else {
+            internalAddEntry( entry );
+        }
+    }
+
+    void internalAddEntry( PropagationEntry entry ) {
+        PropagationEntry current;
+        do {
+            current = top.get();
+            entry.setNext( current );
+        } while ( !top.compareAndSet( current, entry ) );
+
+        // as for the synchronized list only the first entry added to an empty list wakes up the engine
+        if (current == null && firingUntilHalt) {
+            notifyWaitOnRest();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public void flush() {
+        flush( takeAll() );
+    }
+
+    @Override
+    public void flush(PropagationEntry currentHead) {
+        for (PropagationEntry entry = currentHead; !disposed && entry != null; entry = entry.getNext()) {
+            entry.execute(reteEvaluator);
+        }
+    }
+
+    @Override
+    public PropagationEntry takeAll() {
+        PropagationEntry entry = top.getAndSet( null );
+        PropagationEntry head = null;
+        while (entry != null) {
+            PropagationEntry previous = entry.getNext();
+            entry.setNext( head );
+            head = entry;
+            entry = previous;
+        }
+        return head;
+    }
+
+    @Override
+    public void reset() {
+        top.set( null );
+        disposed = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    @Override
+    public boolean hasEntriesDeferringExpiration() {
+        // only the engine takes the entries, so while it checks them the stack can only grow on its top
+        for (PropagationEntry entry = top.get(); entry != null; entry = entry.getNext()) {
+            if (entry.defersExpiration()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<PropagationEntry> iterator() {
+        List<PropagationEntry> entries = new ArrayList<>();
+        for (PropagationEntry entry = top.get(); entry != null; entry = entry.getNext()) {
+            entries.add( entry );
+        }
+        Collections.reverse( entries );
+        return entries.iterator();
+    }
+
+    @Override
+    public void waitOnRest() {
+        Thread currentThread = Thread.currentThread();
+        restingThreads.add( currentThread );
+        LockSupport.park( this );
+        restingThreads.remove( currentThread );
+        Thread.interrupted();
+    }
+
+    @Override
+    public PropagationEntry takeAllOrWaitOnRest( BooleanSupplier canRest ) {
+        PropagationEntry currentHead = takeAll();
+        if (currentHead != null || !canRest.getAsBoolean()) {
+            return currentHead;
+        }
+
+        // the thread is registered before checking again the list: an entry added before the registration
+        // is found by this check, while one added after it unparks the thread, also if it is not parked yet
+        Thread currentThread = Thread.currentThread();
+        restingThreads.add( currentThread );
+        try {
+            currentHead = takeAll();
+            if (currentHead == null && canRest.getAsBoolean()) {
+                LockSupport.park( this );
+                // as for the synchronized list, an interruption just wakes up the thread
+                Thread.interrupted();
+                currentHead = takeAll();
+            }
+        } finally {
+            restingThreads.remove( currentThread );
+        }
+        return currentHead;
+    }
+
+    @Override
+    public void notifyWaitOnRest() {
+        for (Thread restingThread : restingThreads) {
+            LockSupport.unpark( restingThread );
+        }
+        Runnable wakeUp = restWakeUp;
+        if (wakeUp != null) {
+            wakeUp.run();
+        }
+    }
+
+    @Override
+    public void setRestWakeUp( Runnable restWakeUp ) {
+        this.restWakeUp = restWakeUp;
+    }
+
+    @Override
+    public void onEngineInactive() { }
+
+    @Override
+    public void setFiringUntilHalt( boolean firingUntilHalt ) {
+        this.firingUntilHalt = firingUntilHalt;
+    }
+}
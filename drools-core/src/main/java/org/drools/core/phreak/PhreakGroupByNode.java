@@ -118,7 +118,7 @@ public class PhreakGroupByNode extends PhreakAccumulateNode {
                     Object value = accumulate.accumulate(am.workingMemoryContext, tuple, childHandle,
                                                          groupByContext, tupleList, reteEvaluator);
 
-                    match.setContextObject(value);
+                    childMatch.setContextObject(value);
                 }
             }
         } else {
@@ -18,6 +18,9 @@
  */
 package org.drools.core.phreak;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.drools.core.common.BetaConstraints;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.TupleSets;
@@ -32,6 +35,9 @@ import org.drools.core.util.AbstractHashTable;
 import org.drools.core.util.FastIterator;
 
 public class PhreakJoinNode {
+
+    private static final int PARALLEL_JOIN_CHUNK_SIZE = 256;
+
     public void doNode(JoinNode joinNode,
                        LeftTupleSink sink,
                        BetaMemory bm,
@@ -89,6 +95,11 @@ public class PhreakJoinNode {
         ContextEntry[] contextEntry = bm.getContext();
         BetaConstraints constraints = joinNode.getRawConstraints();
 
+        if (isParallelLeftInsertsAllowed(joinNode, rtm, reteEvaluator, srcLeftTuples.getInsertSize())) {
+            doLeftInsertsInParallel(joinNode, sink, ltm, rtm, reteEvaluator, srcLeftTuples, trgLeftTuples);
+            return;
+        }
+
         for (LeftTuple leftTuple = srcLeftTuples.getInsertFirst(); leftTuple != null; ) {
             LeftTuple next = leftTuple.getStagedNext();
 
@@ -122,6 +133,85 @@ public class PhreakJoinNode {
         constraints.resetTuple( contextEntry );
     }
 
+    private static boolean isParallelLeftInsertsAllowed(JoinNode joinNode, TupleMemory rtm, ReteEvaluator reteEvaluator, int insertSize) {
+        int threshold = reteEvaluator.getKnowledgeBase().getRuleBaseConfiguration().getParallelJoinThreshold();
+        return threshold > 0 && insertSize >= threshold && rtm.size() > 0 &&
+               rtm.isConcurrentLookupSupported() && !joinNode.isIndexedUnificationJoin();
+    }
+
+    /**
+     * Same as the sequential left inserts, but the right memory is probed and the constraints are evaluated by
+     * multiple threads, each one working on a chunk of the inserted left tuples with its own context entries.
+     * The child tuples are then created by the current thread in the original order of the left tuples,
+     * so the resulting TupleSets is exactly the same that the sequential evaluation would produce.
+     */
+    private void doLeftInsertsInParallel(JoinNode joinNode,
+                                         LeftTupleSink sink,
+                                         TupleMemory ltm,
+                                         TupleMemory rtm,
+                                         ReteEvaluator reteEvaluator,
+                                         TupleSets<LeftTuple> srcLeftTuples,
+                                         TupleSets<LeftTuple> trgLeftTuples) {
+        BetaConstraints constraints = joinNode.getRawConstraints();
+
+        List<LeftTuple> leftTuples = new ArrayList<>(srcLeftTuples.getInsertSize());
+        for (LeftTuple leftTuple = srcLeftTuples.getInsertFirst(); leftTuple != null; leftTuple = leftTuple.getStagedNext()) {
+            leftTuples.add(leftTuple);
+        }
+
+        RightTuple[][] matches = new RightTuple[leftTuples.size()][];
+        int chunksNr = (leftTuples.size() + PARALLEL_JOIN_CHUNK_SIZE - 1) / PARALLEL_JOIN_CHUNK_SIZE;
+        reteEvaluator.getKnowledgeBase().getEvaluationExecutor().invokeAll(chunksNr, chunk -> {
+            ContextEntry[] contextEntry = constraints.createContext();
+            FastIterator it = joinNode.getRightIterator( rtm );
+            List<RightTuple> leftTupleMatches = new ArrayList<>();
+
+            int end = Math.min(leftTuples.size(), (chunk + 1) * PARALLEL_JOIN_CHUNK_SIZE);
+            for (int i = chunk * PARALLEL_JOIN_CHUNK_SIZE; i < end; i++) {
+                LeftTuple leftTuple = leftTuples.get(i);
+                constraints.updateFromTuple( contextEntry,
+                                             reteEvaluator,
+                                             leftTuple );
+
+                // not an indexed unification join, so the first right tuple is looked up in the memory
+                for (RightTuple rightTuple = (RightTuple) rtm.getFirstConcurrently( leftTuple ); rightTuple != null; rightTuple = (RightTuple) it.next(rightTuple)) {
+                    if (constraints.isAllowedCachedLeft( contextEntry, rightTuple.getFactHandle() )) {
+                        leftTupleMatches.add(rightTuple);
+                    }
+                }
+
+                if (!leftTupleMatches.isEmpty()) {
+                    matches[i] = leftTupleMatches.toArray(new RightTuple[leftTupleMatches.size()]);
+                    leftTupleMatches.clear();
+                }
+            }
+            constraints.resetTuple( contextEntry );
+        });
+
+        for (int i = 0; i < matches.length; i++) {
+            LeftTuple leftTuple = leftTuples.get(i);
+
+            boolean useLeftMemory = RuleNetworkEvaluator.useLeftMemory( joinNode, leftTuple );
+
+            if (useLeftMemory) {
+                ltm.add(leftTuple);
+            }
+
+            if (matches[i] != null) {
+                for (RightTuple rightTuple : matches[i]) {
+                    insertChildLeftTuple(trgLeftTuples,
+                                         leftTuple,
+                                         rightTuple,
+                                         null,
+                                         null,
+                                         sink,
+                                         useLeftMemory);
+                }
+            }
+            leftTuple.clearStaged();
+        }
+    }
+
     public void doRightInserts(JoinNode joinNode,
                                LeftTupleSink sink,
                                BetaMemory bm,
@@ -311,6 +311,101 @@ public interface PropagationEntry {
         }
     }
 
+    /**
+     * The insertion of a batch of facts, propagated together through the object type nodes of each run of
+     * consecutive facts having the same {@link ObjectTypeConf}
+     */
+    class InsertBatch extends AbstractPropagationEntry implements Externalizable {
+        private InternalFactHandle[] handles;
+        private PropagationContext[] contexts;
+        private ObjectTypeConf[] objectTypeConfs;
+
+        public InsertBatch() { }
+
+        public InsertBatch( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf[] objectTypeConfs ) {
+            this.handles = handles;
+            this.contexts = contexts;
+            this.objectTypeConfs = objectTypeConfs;
+            scheduleExpirations( handles, contexts, reteEvaluator, objectTypeConfs );
+        }
+
+        public static void execute( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf[] objectTypeConfs ) {
+            scheduleExpirations( handles, contexts, reteEvaluator, objectTypeConfs );
+            propagate( handles, contexts, reteEvaluator, objectTypeConfs );
+        }
+
+        private static void scheduleExpirations( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf[] objectTypeConfs ) {
+            long insertionTime = -1;
+            for (int i = 0; i < handles.length; i++) {
+                if ( handles[i].isEvent() ) {
+                    if (insertionTime < 0) {
+                        insertionTime = reteEvaluator.getTimerService().getCurrentTime();
+                    }
+                    Insert.scheduleExpiration( reteEvaluator, handles[i], contexts[i], objectTypeConfs[i], insertionTime );
+                }
+            }
+        }
+
+        private static void propagate( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf[] objectTypeConfs ) {
+            int runStart = 0;
+            while (runStart < handles.length) {
+                ObjectTypeConf objectTypeConf = objectTypeConfs[runStart];
+                if (objectTypeConf == null) {
+                    // it can be null after deserialization
+                    Insert.propagate( handles[runStart], contexts[runStart], reteEvaluator, null );
+                    runStart++;
+                    continue;
+                }
+
+                int runEnd = runStart + 1;
+                while (runEnd < handles.length && objectTypeConfs[runEnd] == objectTypeConf) {
+                    runEnd++;
+                }
+
+                for ( ObjectTypeNode otn : objectTypeConf.getObjectTypeNodes() ) {
+                    for (int i = runStart; i < runEnd; i++) {
+                        otn.propagateAssert( handles[i], contexts[i], reteEvaluator );
+                    }
+                }
+                for (int i = runStart; i < runEnd; i++) {
+                    if ( Insert.isOrphanHandle( handles[i], reteEvaluator ) ) {
+                        handles[i].setDisconnected(true);
+                        handles[i].getEntryPoint(reteEvaluator).getObjectStore().removeHandle( handles[i] );
+                    }
+                }
+                runStart = runEnd;
+            }
+        }
+
+        public void internalExecute(ReteEvaluator reteEvaluator ) {
+            propagate( handles, contexts, reteEvaluator, objectTypeConfs );
+        }
+
+        @Override
+        public String toString() {
+            return "Insert of a batch of " + handles.length + " facts";
+        }
+
+        public InternalFactHandle[] getHandles() {
+            return handles;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject(next);
+            out.writeObject(handles);
+            out.writeObject(contexts);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            this.next = (PropagationEntry) in.readObject();
+            this.handles = (InternalFactHandle[]) in.readObject();
+            this.contexts = (PropagationContext[]) in.readObject();
+            this.objectTypeConfs = new ObjectTypeConf[handles.length];
+        }
+    }
+
     class Update extends AbstractPropagationEntry implements Externalizable {
         private InternalFactHandle handle;
         private PropagationContext context;
@@ -19,6 +19,7 @@
 package org.drools.core.phreak;
 
 import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 
 public interface PropagationList {
     void addEntry(PropagationEntry propagationEntry);
@@ -38,8 +39,29 @@ public interface PropagationList {
 
     void waitOnRest();
 
+    /**
+     * Atomically takes all the entries or, if there is none and the engine can rest, waits until a new entry is added
+     * or the waiting thread is notified, and then takes again all the entries.
+     */
+    default PropagationEntry takeAllOrWaitOnRest( BooleanSupplier canRest ) {
+        synchronized (this) {
+            PropagationEntry head = takeAll();
+            if (head == null && canRest.getAsBoolean()) {
+                waitOnRest();
+                head = takeAll();
+            }
+            return head;
+        }
+    }
+
     void notifyWaitOnRest();
 
+    /**
+     * Registers a task to be run, in alternative to a thread waiting on rest, when the engine firing until halt
+     * is notified that there is new work to do. A null value removes the registered task.
+     */
+    void setRestWakeUp( Runnable restWakeUp );
+
     void onEngineInactive();
 
     void dispose();
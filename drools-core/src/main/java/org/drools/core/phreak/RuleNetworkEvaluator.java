@@ -292,14 +292,16 @@ public class RuleNetworkEvaluator {
                         
                         smem = smems[i];
                         bit = 1;
-                        srcTuples = smem.getStagedLeftTuples().takeAll();
-                        emptySrcTuples = srcTuples.isEmpty();
+                        // a segment shared with other paths is usually clean here, because its staged tuples have
+                        // already been propagated to all its child segments, so only take them when it is not skipped
+                        emptySrcTuples = smem.getStagedLeftTuples().isEmpty();
                         node = smem.getRootNode();
                         nodeMem = smem.getNodeMemories()[0];
                         if ( !emptySrcTuples ||
                              smem.getDirtyNodeMask() != 0 ||
                              (NodeTypeEnums.isBetaNode(node) && ((BetaNode)node).isRightInputIsRiaNode() )) {
                             // break if dirty or if we reach a subnetwork. It must break for subnetworks, so they can be searched.
+                            srcTuples = smem.getStagedLeftTuples().takeAll();
                             foundDirty = true;
                             smemIndex = i;
                             break;
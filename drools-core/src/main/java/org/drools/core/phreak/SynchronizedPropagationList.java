@@ -23,6 +23,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 public class SynchronizedPropagationList implements PropagationList {
 
@@ -39,6 +43,10 @@ public class SynchronizedPropagationList implements PropagationList {
 
     protected volatile boolean firingUntilHalt = false;
 
+    private final Queue<Thread> restingThreads = new ConcurrentLinkedQueue<>();
+
+    private volatile Runnable restWakeUp;
+
     public SynchronizedPropagationList(ReteEvaluator reteEvaluator) {
         this.reteEvaluator = reteEvaluator;
     }
@@ -72,17 +80,21 @@ public class SynchronizedPropagationList implements PropagationList {
         }
     }
 
-    synchronized void internalAddEntry( PropagationEntry entry ) {
-        if ( head == null ) {
-            head = entry;
-            if (firingUntilHalt) {
-                notifyWaitOnRest();
+    void internalAddEntry( PropagationEntry entry ) {
+        boolean wakeUp;
+        synchronized (this) {
+            wakeUp = head == null && firingUntilHalt;
+            if ( head == null ) {
+                head = entry;
+            } else {
+                tail.setNext( entry );
             }
-        } else {
-            tail.setNext( entry );
+            tail = entry;
+            hasEntriesDeferringExpiration |= entry.defersExpiration();
+        }
+        if (wakeUp) {
+            notifyWaitOnRest();
         }
-        tail = entry;
-        hasEntriesDeferringExpiration |= entry.defersExpiration();
     }
 
     @Override
@@ -139,10 +151,43 @@ public class SynchronizedPropagationList implements PropagationList {
         }
     }
 
+    @Override
+    public PropagationEntry takeAllOrWaitOnRest( BooleanSupplier canRest ) {
+        Thread currentThread = Thread.currentThread();
+        synchronized (this) {
+            PropagationEntry currentHead = takeAll();
+            if (currentHead != null || !canRest.getAsBoolean()) {
+                return currentHead;
+            }
+            restingThreads.add( currentThread );
+        }
+
+        // the thread is parked outside of the monitor of this list, so a virtual thread at rest unmounts
+        // from its carrier instead of pinning it. An unpark happening before this point is not lost
+        LockSupport.park( this );
+        restingThreads.remove( currentThread );
+        // as for the former wait(), an interruption just wakes up the thread
+        Thread.interrupted();
+        return takeAll();
+    }
+
+    @Override
+    public void notifyWaitOnRest() {
+        synchronized (this) {
+            notifyAll();
+        }
+        for (Thread restingThread : restingThreads) {
+            LockSupport.unpark( restingThread );
+        }
+        Runnable wakeUp = restWakeUp;
+        if (wakeUp != null) {
+            wakeUp.run();
+        }
+    }
 
     @Override
-    public synchronized void notifyWaitOnRest() {
-        notifyAll();
+    public void setRestWakeUp( Runnable restWakeUp ) {
+        this.restWakeUp = restWakeUp;
     }
 
     @Override
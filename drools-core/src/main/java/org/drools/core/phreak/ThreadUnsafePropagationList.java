@@ -27,6 +27,8 @@ public class ThreadUnsafePropagationList implements PropagationList {
 
     private final ReteEvaluator reteEvaluator;
 
+    private Runnable restWakeUp;
+
     public ThreadUnsafePropagationList( ReteEvaluator reteEvaluator ) {
         this.reteEvaluator = reteEvaluator;
     }
@@ -34,6 +36,7 @@ public class ThreadUnsafePropagationList implements PropagationList {
     @Override
     public void addEntry( PropagationEntry propagationEntry ) {
         propagationEntry.execute( reteEvaluator );
+        notifyWaitOnRest();
     }
 
     @Override
@@ -74,6 +77,14 @@ public class ThreadUnsafePropagationList implements PropagationList {
 
     @Override
     public void notifyWaitOnRest() {
+        if (restWakeUp != null) {
+            restWakeUp.run();
+        }
+    }
+
+    @Override
+    public void setRestWakeUp( Runnable restWakeUp ) {
+        this.restWakeUp = restWakeUp;
     }
 
     @Override
@@ -116,6 +116,26 @@ public class AlphaNode extends ObjectSource
         this.partitionId = partitionId;
     }
 
+    @Override
+    public void addObjectSink(final ObjectSink objectSink) {
+        super.addObjectSink(objectSink);
+        this.source.getObjectSinkPropagator().childSinksChanged(this);
+    }
+
+    @Override
+    public void removeObjectSink(final ObjectSink objectSink) {
+        super.removeObjectSink(objectSink);
+        this.source.getObjectSinkPropagator().childSinksChanged(this);
+    }
+
+    @Override
+    public void setObjectSinkPropagator(ObjectSinkPropagator sink) {
+        super.setObjectSinkPropagator(sink);
+        if (this.source != null) {
+            this.source.getObjectSinkPropagator().childSinksChanged(this);
+        }
+    }
+
     public void assertObject(final InternalFactHandle factHandle,
                              final PropagationContext context,
                              final ReteEvaluator reteEvaluator) {
@@ -130,19 +130,28 @@ public class ClassObjectTypeConf
     public InternalFactHandle createFactHandle(FactHandleFactory factHandleFactory, long id, Object object, long recency,
                                                ReteEvaluator reteEvaluator, WorkingMemoryEntryPoint entryPoint) {
         if ( isEvent() ) {
-            TypeDeclaration type = getTypeDeclaration();
-            long timestamp = type != null && type.getTimestampExtractor() != null ?
-                    type.getTimestampExtractor().getLongValue( reteEvaluator, object ) :
-                    reteEvaluator.getTimerService().getCurrentTime();
-            long duration = type != null && type.getDurationExtractor() != null ?
-                    type.getDurationExtractor().getLongValue( reteEvaluator, object ) :
-                    0;
-            return factHandleFactory.createEventFactHandle(id, object, recency, entryPoint, timestamp, duration);
+            return factHandleFactory.createEventFactHandle(id, object, recency, entryPoint,
+                                                           getEventTimestamp( object, reteEvaluator ),
+                                                           getEventDuration( object, reteEvaluator ));
         }
 
         return factHandleFactory.createDefaultFactHandle(id, object, recency, entryPoint);
     }
 
+    public long getEventTimestamp(Object object, ReteEvaluator reteEvaluator) {
+        TypeDeclaration type = getTypeDeclaration();
+        return type != null && type.getTimestampExtractor() != null ?
+                type.getTimestampExtractor().getLongValue( reteEvaluator, object ) :
+                reteEvaluator.getTimerService().getCurrentTime();
+    }
+
+    public long getEventDuration(Object object, ReteEvaluator reteEvaluator) {
+        TypeDeclaration type = getTypeDeclaration();
+        return type != null && type.getDurationExtractor() != null ?
+                type.getDurationExtractor().getLongValue( reteEvaluator, object ) :
+                0;
+    }
+
     public boolean isAssignableFrom(Object object) {
         return this.cls.isAssignableFrom( (Class<?>) object );
     }
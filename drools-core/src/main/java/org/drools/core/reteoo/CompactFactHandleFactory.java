@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.reteoo;
+
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.common.CompactFactHandle;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.rule.accessor.FactHandleFactory;
+
+/**
+ * A {@link ReteooFactHandleFactory} creating {@link CompactFactHandle}s for the facts that are not events.
+ * It is used by the sessions of the KieBases configured with drools.compactFactHandles = true.
+ */
+public class CompactFactHandleFactory extends ReteooFactHandleFactory {
+
+    private static final long serialVersionUID = 510l;
+
+    public CompactFactHandleFactory() {
+        super();
+    }
+
+    public CompactFactHandleFactory(long id, long counter) {
+        super( id, counter );
+    }
+
+    @Override
+    public DefaultFactHandle createDefaultFactHandle(long id, Object object, long recency, WorkingMemoryEntryPoint entryPoint) {
+        return new CompactFactHandle(id, object, recency, entryPoint);
+    }
+
+    @Override
+    public FactHandleFactory newInstance() {
+        return new CompactFactHandleFactory();
+    }
+
+    @Override
+    public FactHandleFactory newInstance(long id, long counter) {
+        return new CompactFactHandleFactory( id, counter );
+    }
+
+    @Override
+    public Class getFactHandleType() {
+        return CompactFactHandle.class;
+    }
+}
@@ -72,6 +72,13 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     private ObjectSink[]      sinks;
 
+    // array copies of the sinks lists, so that propagating a fact doesn't allocate any iterator
+    private FieldIndex[]      hashedFieldIndexesArray;
+    private AlphaRangeIndex[] rangeIndexesArray;
+    private AlphaNode[]       hashableSinksArray;
+    private AlphaNode[]       rangeIndexableSinksArray;
+    private ObjectSinkNode[]  otherSinksArray;
+
     private Map<NetworkNode, NetworkNode> sinksMap;
 
     public CompositeObjectSinkAdapter() {
@@ -81,6 +88,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
     public CompositeObjectSinkAdapter(final int alphaNodeHashingThreshold, final int alphaNodeRangeIndexThreshold) {
         this.alphaNodeHashingThreshold = alphaNodeHashingThreshold;
         this.alphaNodeRangeIndexThreshold = alphaNodeRangeIndexThreshold;
+        updateSinksArrays();
     }
 
     public void readExternal(ObjectInput in) throws IOException,
@@ -94,6 +102,14 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         rangeIndexMap = (Map<FieldIndex, AlphaRangeIndex>) in.readObject();
         alphaNodeHashingThreshold = in.readInt();
         alphaNodeRangeIndexThreshold = in.readInt();
+        if ( hashedFieldIndexes != null ) {
+            for ( FieldIndex fieldIndex : hashedFieldIndexes ) {
+                if ( fieldIndex.isHashed() ) {
+                    initHashedSinks( fieldIndex );
+                }
+            }
+        }
+        updateSinksArrays();
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
@@ -133,6 +149,12 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
     }
 
     public ObjectSinkPropagator addObjectSink(ObjectSink sink, int alphaNodeHashingThreshold, int alphaNodeRangeIndexThreshold) {
+        ObjectSinkPropagator propagator = addSink( sink );
+        updateSinksArrays();
+        return propagator;
+    }
+
+    private ObjectSinkPropagator addSink(ObjectSink sink) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
         if (this.sinksMap != null) {
             this.sinksMap.put( sink, sink );
@@ -154,10 +176,11 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                     }
 
                     // no need to check, we know  the sink  does not exist
-                    this.hashedSinkMap.put( new HashKey( index,
+                    final HashKey hashKey = new HashKey( index,
                                                          value,
-                                                         fieldIndex.getFieldExtractor() ),
-                                            alphaNode );
+                                                         fieldIndex.getFieldExtractor() );
+                    this.hashedSinkMap.put( hashKey, alphaNode );
+                    fieldIndex.addHashedSink( hashKey, alphaNode );
                 } else {
                     if ( this.hashableSinks == null ) {
                         this.hashableSinks = new ArrayList<>();
@@ -217,6 +240,12 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
     }
 
     public ObjectSinkPropagator removeObjectSink(final ObjectSink sink) {
+        ObjectSinkPropagator propagator = removeSink( sink );
+        updateSinksArrays();
+        return propagator;
+    }
+
+    private ObjectSinkPropagator removeSink(final ObjectSink sink) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
         if (this.sinksMap != null) {
             this.sinksMap.remove( sink );
@@ -240,6 +269,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                                                        value,
                                                        fieldAccessor );
                         this.hashedSinkMap.remove( hashKey );
+                        fieldIndex.removeHashedSink( hashKey );
                         if ( fieldIndex.getCount() <= this.alphaNodeHashingThreshold - 1 ) {
                             // we have less than three so unhash
                             unHashSinks( fieldIndex );
@@ -324,6 +354,17 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         }
 
         fieldIndex.setHashed( true );
+        initHashedSinks( fieldIndex );
+        updateSinksArrays();
+    }
+
+    private void initHashedSinks(final FieldIndex fieldIndex) {
+        fieldIndex.initHashedSinks();
+        for ( Map.Entry<HashKey, AlphaNode> entry : this.hashedSinkMap.entrySet() ) {
+            if ( entry.getKey().getIndex() == fieldIndex.getIndex() ) {
+                fieldIndex.addHashedSink( entry.getKey(), entry.getValue() );
+            }
+        }
     }
 
     void unHashSinks(final FieldIndex fieldIndex) {
@@ -358,6 +399,15 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         }
 
         fieldIndex.setHashed( false );
+        updateSinksArrays();
+    }
+
+    private void updateSinksArrays() {
+        this.hashedFieldIndexesArray = this.hashedFieldIndexes != null ? this.hashedFieldIndexes.stream().filter( FieldIndex::isHashed ).toArray( FieldIndex[]::new ) : new FieldIndex[0];
+        this.rangeIndexesArray = this.rangeIndexMap != null ? this.rangeIndexMap.entrySet().stream().filter( e -> e.getKey().isRangeIndexed() ).map( Map.Entry::getValue ).toArray( AlphaRangeIndex[]::new ) : new AlphaRangeIndex[0];
+        this.hashableSinksArray = this.hashableSinks != null ? this.hashableSinks.toArray( new AlphaNode[0] ) : new AlphaNode[0];
+        this.rangeIndexableSinksArray = this.rangeIndexableSinks != null ? this.rangeIndexableSinks.toArray( new AlphaNode[0] ) : new AlphaNode[0];
+        this.otherSinksArray = this.otherSinks != null ? this.otherSinks.toArray( new ObjectSinkNode[0] ) : new ObjectSinkNode[0];
     }
 
     /**
@@ -454,6 +504,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         }
 
         fieldIndex.setRangeIndexed(true);
+        updateSinksArrays();
     }
 
     void unRangeIndexSinks(final FieldIndex fieldIndex, AlphaRangeIndex alphaRangeIndex) {
@@ -469,6 +520,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         }
 
         fieldIndex.setRangeIndexed(false);
+        updateSinksArrays();
     }
 
     private boolean isRangeIndexable(AlphaNode alphaNode) {
@@ -546,13 +598,10 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         // if the field is hashed then it builds the hashkey to return the correct sink for the current objects slot's
         // value, one object may have multiple fields indexed.
         if ( this.hashedFieldIndexes != null ) {
-            // Iterate the FieldIndexes to see if any are hashed
-            for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
-                if ( !fieldIndex.isHashed() ) {
-                    continue;
-                }
-                // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+            // Iterate the hashed FieldIndexes
+            for ( FieldIndex fieldIndex : this.hashedFieldIndexesArray ) {
+                // this field is hashed so see if there is a sink for the object's value, without creating any key
+                final AlphaNode sink = fieldIndex.getHashedSink( object, this.hashedSinkMap );
                 if ( sink != null ) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateAssertObject( factHandle, context, reteEvaluator );
@@ -563,20 +612,25 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         // Range indexing
         if (this.rangeIndexMap != null) {
             // Iterate the FieldIndexes to see if any are range indexed
-            for (Map.Entry<FieldIndex, AlphaRangeIndex> entry : this.rangeIndexMap.entrySet()) {
-                if (!entry.getKey().isRangeIndexed()) {
+            for (AlphaRangeIndex alphaRangeIndex : this.rangeIndexesArray) {
+                final Comparable value = alphaRangeIndex.getFieldValue(object);
+                if (value == null) {
                     continue;
                 }
-                for (AlphaNode sink : entry.getValue().getMatchingAlphaNodes(object)) {
+                for (AlphaNode sink : alphaRangeIndex.getMatchingHalfBoundedSinks(value)) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateAssertObject(factHandle, context, reteEvaluator);
                 }
+                for (AlphaNode sink : alphaRangeIndex.getMatchingIntervalSinks(value)) {
+                    // the interval formed by this sink and its parent contains the value, so neither has to be retested
+                    sink.getObjectSinkPropagator().propagateAssertObject(factHandle, context, reteEvaluator);
+                }
             }
         }
 
         // propagate unhashed
         if ( this.hashableSinks != null ) {
-            for ( ObjectSinkNode sink : this.hashableSinks ) {
+            for ( ObjectSinkNode sink : this.hashableSinksArray ) {
                 doPropagateAssertObject( factHandle,
                                          context,
                                          reteEvaluator,
@@ -586,7 +640,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         // propagate un-rangeindexed
         if ( this.rangeIndexableSinks != null ) {
-            for ( ObjectSinkNode sink : this.rangeIndexableSinks ) {
+            for ( ObjectSinkNode sink : this.rangeIndexableSinksArray ) {
                 doPropagateAssertObject( factHandle,
                                          context,
                                          reteEvaluator,
@@ -596,7 +650,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         if ( this.otherSinks != null ) {
             // propagate others
-            for ( ObjectSinkNode sink : this.otherSinks ) {
+            for ( ObjectSinkNode sink : this.otherSinksArray ) {
                 doPropagateAssertObject( factHandle,
                                          context,
                                          reteEvaluator,
@@ -615,13 +669,10 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         // if the field is hashed then it builds the hashkey to return the correct sink for the current objects slot's
         // value, one object may have multiple fields indexed.
         if ( this.hashedFieldIndexes != null ) {
-            // Iterate the FieldIndexes to see if any are hashed
-            for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
-                if ( !fieldIndex.isHashed() ) {
-                    continue;
-                }
-                // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+            // Iterate the hashed FieldIndexes
+            for ( FieldIndex fieldIndex : this.hashedFieldIndexesArray ) {
+                // this field is hashed so see if there is a sink for the object's value, without creating any key
+                final AlphaNode sink = fieldIndex.getHashedSink( object, this.hashedSinkMap );
                 if ( sink != null ) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateModifyObject( factHandle, modifyPreviousTuples, context, reteEvaluator );
@@ -632,20 +683,25 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         // Range indexing
         if (this.rangeIndexMap != null) {
             // Iterate the FieldIndexes to see if any are range indexed
-            for (Map.Entry<FieldIndex, AlphaRangeIndex> entry : this.rangeIndexMap.entrySet()) {
-                if (!entry.getKey().isRangeIndexed()) {
+            for (AlphaRangeIndex alphaRangeIndex : this.rangeIndexesArray) {
+                final Comparable value = alphaRangeIndex.getFieldValue(object);
+                if (value == null) {
                     continue;
                 }
-                for (AlphaNode sink : entry.getValue().getMatchingAlphaNodes(object)) {
+                for (AlphaNode sink : alphaRangeIndex.getMatchingHalfBoundedSinks(value)) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateModifyObject(factHandle, modifyPreviousTuples, context, reteEvaluator);
                 }
+                for (AlphaNode sink : alphaRangeIndex.getMatchingIntervalSinks(value)) {
+                    // the interval formed by this sink and its parent contains the value, so neither has to be retested
+                    sink.getObjectSinkPropagator().propagateModifyObject(factHandle, modifyPreviousTuples, context, reteEvaluator);
+                }
             }
         }
 
         // propagate unhashed
         if ( this.hashableSinks != null ) {
-            for ( ObjectSinkNode sink : this.hashableSinks ) {
+            for ( ObjectSinkNode sink : this.hashableSinksArray ) {
                 doPropagateModifyObject( factHandle,
                                          modifyPreviousTuples,
                                          context,
@@ -656,7 +712,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         // propagate un-rangeindexed
         if ( this.rangeIndexableSinks != null ) {
-            for ( ObjectSinkNode sink : this.rangeIndexableSinks ) {
+            for ( ObjectSinkNode sink : this.rangeIndexableSinksArray ) {
                 doPropagateModifyObject( factHandle,
                                          modifyPreviousTuples,
                                          context,
@@ -667,7 +723,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         if ( this.otherSinks != null ) {
             // propagate others
-            for ( ObjectSinkNode sink : this.otherSinks ) {
+            for ( ObjectSinkNode sink : this.otherSinksArray ) {
                 doPropagateModifyObject( factHandle,
                                          modifyPreviousTuples,
                                          context,
@@ -685,13 +741,10 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         // We need to iterate in the same order as the assert
         if ( this.hashedFieldIndexes != null ) {
-            // Iterate the FieldIndexes to see if any are hashed
-            for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
-                if ( !fieldIndex.isHashed() ) {
-                    continue;
-                }
-                // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+            // Iterate the hashed FieldIndexes
+            for ( FieldIndex fieldIndex : this.hashedFieldIndexesArray ) {
+                // this field is hashed so see if there is a sink for the object's value, without creating any key
+                final AlphaNode sink = fieldIndex.getHashedSink( object, this.hashedSinkMap );
                 if ( sink != null ) {
                     // only alpha nodes are hashable
                     sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
@@ -702,11 +755,16 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         // Range indexing
         if (this.rangeIndexMap != null) {
             // Iterate the FieldIndexes to see if any are range indexed
-            for (Map.Entry<FieldIndex, AlphaRangeIndex> entry : this.rangeIndexMap.entrySet()) {
-                if (!entry.getKey().isRangeIndexed()) {
+            for (AlphaRangeIndex alphaRangeIndex : this.rangeIndexesArray) {
+                final Comparable value = alphaRangeIndex.getFieldValue(object);
+                if (value == null) {
                     continue;
                 }
-                for (AlphaNode sink : entry.getValue().getMatchingAlphaNodes(object)) {
+                for (AlphaNode sink : alphaRangeIndex.getMatchingHalfBoundedSinks(value)) {
+                    sink.getObjectSinkPropagator().byPassModifyToBetaNode(factHandle, modifyPreviousTuples, context, reteEvaluator);
+                }
+                for (AlphaNode sink : alphaRangeIndex.getMatchingIntervalSinks(value)) {
+                    // the interval formed by this sink and its parent contains the value, so neither has to be retested
                     sink.getObjectSinkPropagator().byPassModifyToBetaNode(factHandle, modifyPreviousTuples, context, reteEvaluator);
                 }
             }
@@ -714,7 +772,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         // propagate unhashed
         if ( this.hashableSinks != null ) {
-            for ( AlphaNode sink : this.hashableSinks ) {
+            for ( AlphaNode sink : this.hashableSinksArray ) {
                 // only alpha nodes are hashable
                 sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
             }
@@ -722,14 +780,14 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         // propagate un-rangeindexed
         if ( this.rangeIndexableSinks != null ) {
-            for ( AlphaNode sink : this.rangeIndexableSinks ) {
+            for ( AlphaNode sink : this.rangeIndexableSinksArray ) {
                 sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
             }
         }
 
         if ( this.otherSinks != null ) {
             // propagate others
-            for ( ObjectSinkNode sink : this.otherSinks ) {
+            for ( ObjectSinkNode sink : this.otherSinksArray ) {
                 // compound alpha, lianode or betanode
                 sink.byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
             }
@@ -859,6 +917,16 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         return newSinks;
     }
     
+    @Override
+    public void childSinksChanged(ObjectSink sink) {
+        if ( this.rangeIndexMap != null && sink.getType() == NodeTypeEnums.AlphaNode && isRangeIndexable( (AlphaNode) sink ) ) {
+            // the children of a range indexed node may form intervals with it
+            for ( AlphaRangeIndex alphaRangeIndex : this.rangeIndexMap.values() ) {
+                alphaRangeIndex.invalidateIntervals();
+            }
+        }
+    }
+
     public void doLinkRiaNode(ReteEvaluator reteEvaluator) {
         if ( this.otherSinks != null ) {
             // this is only used for ria nodes when exists are shared, we know there is no indexing for those
@@ -1010,6 +1078,8 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         private boolean              hashed;
         private boolean              rangeIndexed;
 
+        private HashedAlphaSinks     hashedSinks;
+
         public FieldIndex() {
         }
 
@@ -1054,6 +1124,34 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         public void setHashed(final boolean hashed) {
             this.hashed = hashed;
+            if ( !hashed ) {
+                this.hashedSinks = null;
+            }
+        }
+
+        void initHashedSinks() {
+            this.hashedSinks = HashedAlphaSinks.create( this.fieldExtractor );
+        }
+
+        void addHashedSink(final HashKey hashKey, final AlphaNode sink) {
+            if ( this.hashedSinks != null && !this.hashedSinks.put( hashKey.getObjectValue(), sink ) ) {
+                // this key cannot be looked up without a HashKey, so neither can the others of this field
+                this.hashedSinks = null;
+            }
+        }
+
+        void removeHashedSink(final HashKey hashKey) {
+            if ( this.hashedSinks != null ) {
+                this.hashedSinks.remove( hashKey.getObjectValue() );
+            }
+        }
+
+        /**
+         * Returns the sink hashed with the value of this field in the given object, if any
+         */
+        AlphaNode getHashedSink(final Object object, final Map<HashKey, AlphaNode> hashedSinkMap) {
+            final HashedAlphaSinks sinks = this.hashedSinks;
+            return sinks != null ? sinks.get( object ) : hashedSinkMap.get( new HashKey( this, object ) );
         }
 
         public boolean isRangeIndexed() {
@@ -109,6 +109,11 @@ public class CompositePartitionAwareObjectSinkAdapter implements ObjectSinkPropa
         partitionedPropagators[newP] = partitionedPropagators[newP].addObjectSink( sink, alphaNodeHashingThreshold, alphaNodeRangeIndexThreshold );
     }
 
+    @Override
+    public void childSinksChanged( ObjectSink sink ) {
+        partitionedPropagators[sink.getPartitionId().getParallelEvaluationSlot()].childSinksChanged( sink );
+    }
+
     @Override
     public void propagateAssertObject( InternalFactHandle factHandle, PropagationContext context, ReteEvaluator reteEvaluator ) {
         ActivationsManager compositeAgenda = reteEvaluator.getActivationsManager();
@@ -203,6 +203,27 @@ public class EntryPointNode extends ObjectSource implements ObjectSink {
     }
 
 
+    public void assertObjects(final InternalFactHandle[] handles,
+                              final PropagationContext[] contexts,
+                              final ObjectTypeConf[] objectTypeConfs,
+                              final ReteEvaluator reteEvaluator) {
+        if ( log.isTraceEnabled() ) {
+            log.trace("Insert batch of {} facts", handles.length);
+        }
+
+        if ( parallelExecution ) {
+            // the CompositePartitionAwareObjectSinkAdapter enqueues each insertion on the agenda of its partition
+            for (int i = 0; i < handles.length; i++) {
+                PropagationEntry.Insert.execute( handles[i], contexts[i], reteEvaluator, objectTypeConfs[i] );
+            }
+        } else if ( !reteEvaluator.isThreadSafe() ) {
+            PropagationEntry.InsertBatch.execute( handles, contexts, reteEvaluator, objectTypeConfs );
+        } else {
+            reteEvaluator.addPropagation( new PropagationEntry.InsertBatch( handles, contexts, reteEvaluator, objectTypeConfs ) );
+        }
+    }
+
+
     public void modifyObject(final InternalFactHandle handle,
                              final PropagationContext pctx,
                              final ObjectTypeConf objectTypeConf,
@@ -308,6 +329,39 @@ public class EntryPointNode extends ObjectSource implements ObjectSink {
         PropagationEntry.Delete.execute(reteEvaluator, this, handle, context, objectTypeConf);
     }
 
+    public void immediateDeleteObjects(InternalFactHandle[] handles, PropagationContext[] contexts,
+                                       ObjectTypeConf[] objectTypeConfs, ReteEvaluator reteEvaluator) {
+        if ( log.isTraceEnabled() ) {
+            log.trace( "Delete batch of {} facts", handles.length );
+        }
+
+        int runStart = 0;
+        while (runStart < handles.length) {
+            ObjectTypeConf objectTypeConf = objectTypeConfs[runStart];
+            int runEnd = runStart + 1;
+            while (runEnd < handles.length && objectTypeConfs[runEnd] == objectTypeConf) {
+                runEnd++;
+            }
+
+            ObjectTypeNode[] cachedNodes = objectTypeConf.getObjectTypeNodes();
+            if ( cachedNodes != null ) {
+                // the consecutive facts of the same type are retracted from each node together
+                for ( ObjectTypeNode cachedNode : cachedNodes ) {
+                    for (int i = runStart; i < runEnd; i++) {
+                        cachedNode.retractObject( handles[i], contexts[i], reteEvaluator );
+                    }
+                }
+            }
+
+            for (int i = runStart; i < runEnd; i++) {
+                if (handles[i].isEvent()) {
+                    ((DefaultEventHandle) handles[i]).unscheduleAllJobs(reteEvaluator);
+                }
+            }
+            runStart = runEnd;
+        }
+    }
+
     public void propagateRetract(InternalFactHandle handle, PropagationContext context, ObjectTypeConf objectTypeConf, ReteEvaluator reteEvaluator) {
         ObjectTypeNode[] cachedNodes = objectTypeConf.getObjectTypeNodes();
 
@@ -0,0 +1,203 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.reteoo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.drools.base.base.ValueType;
+import org.drools.base.rule.accessor.ReadAccessor;
+
+/**
+ * The hashed alpha nodes of a single field, looked up without allocating a key for each propagated fact.
+ * Primitive int and long fields are read unboxed and looked up in a table keyed by primitive longs, while the
+ * values of all the other fields are directly used as keys, so that no key is created when they are already
+ * referenced by the fact, as it happens for Strings and boxed numbers.
+ *
+ * This is only a lookup structure derived from the hashed sinks map of the {@link CompositeObjectSinkAdapter},
+ * which remains the reference for the serialization and for the tools inspecting the network.
+ */
+abstract class HashedAlphaSinks {
+
+    protected final ReadAccessor extractor;
+
+    HashedAlphaSinks(ReadAccessor extractor) {
+        this.extractor = extractor;
+    }
+
+    static HashedAlphaSinks create(ReadAccessor extractor) {
+        ValueType valueType = extractor.getValueType();
+        if (valueType == ValueType.PINTEGER_TYPE || valueType == ValueType.PLONG_TYPE) {
+            return new PrimitiveKeyed(extractor, valueType == ValueType.PINTEGER_TYPE);
+        }
+        return new ValueKeyed(extractor);
+    }
+
+    /**
+     * Returns the alpha node hashed with the value of the field of the given object, if any
+     */
+    abstract AlphaNode get(Object object);
+
+    /**
+     * Adds the given alpha node under the given key, coerced to the type of the field. Returns false if the key
+     * cannot be used by this table, so that the lookups have to fall back to the hashed sinks map.
+     */
+    abstract boolean put(Object key, AlphaNode sink);
+
+    abstract void remove(Object key);
+
+    static class ValueKeyed extends HashedAlphaSinks {
+
+        private final Map<Object, AlphaNode> sinks = new HashMap<>();
+
+        ValueKeyed(ReadAccessor extractor) {
+            super(extractor);
+        }
+
+        @Override
+        AlphaNode get(Object object) {
+            return sinks.get(extractor.getValue(null, object));
+        }
+
+        @Override
+        boolean put(Object key, AlphaNode sink) {
+            try {
+                sinks.put(key, sink);
+                return true;
+            } catch (UnsupportedOperationException e) {
+                // the hashed sinks map hashes these keys as 0
+                return false;
+            }
+        }
+
+        @Override
+        void remove(Object key) {
+            try {
+                sinks.remove(key);
+            } catch (UnsupportedOperationException e) {
+                // never added
+            }
+        }
+    }
+
+    static class PrimitiveKeyed extends HashedAlphaSinks {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final boolean intField;
+
+        private Entry[] table = new Entry[INITIAL_CAPACITY];
+
+        private int size;
+
+        PrimitiveKeyed(ReadAccessor extractor, boolean intField) {
+            super(extractor);
+            this.intField = intField;
+        }
+
+        @Override
+        AlphaNode get(Object object) {
+            long key = intField ? extractor.getIntValue(null, object) : extractor.getLongValue(null, object);
+            for (Entry entry = table[indexOf(key, table.length)]; entry != null; entry = entry.next) {
+                if (entry.key == key) {
+                    return entry.sink;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        boolean put(Object key, AlphaNode sink) {
+            if (!isExactKey(key)) {
+                // a null or differently typed value never matches the boxed value of the field
+                return key == null;
+            }
+            long primitiveKey = ((Number) key).longValue();
+            int index = indexOf(primitiveKey, table.length);
+            for (Entry entry = table[index]; entry != null; entry = entry.next) {
+                if (entry.key == primitiveKey) {
+                    entry.sink = sink;
+                    return true;
+                }
+            }
+            table[index] = new Entry(primitiveKey, sink, table[index]);
+            if (++size > table.length * 3 / 4) {
+                resize();
+            }
+            return true;
+        }
+
+        @Override
+        void remove(Object key) {
+            if (!isExactKey(key)) {
+                return;
+            }
+            long primitiveKey = ((Number) key).longValue();
+            int index = indexOf(primitiveKey, table.length);
+            Entry previous = null;
+            for (Entry entry = table[index]; entry != null; previous = entry, entry = entry.next) {
+                if (entry.key == primitiveKey) {
+                    if (previous == null) {
+                        table[index] = entry.next;
+                    } else {
+                        previous.next = entry.next;
+                    }
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        private boolean isExactKey(Object key) {
+            return intField ? key instanceof Integer : key instanceof Long;
+        }
+
+        private void resize() {
+            Entry[] newTable = new Entry[table.length * 2];
+            for (Entry head : table) {
+                Entry entry = head;
+                while (entry != null) {
+                    Entry next = entry.next;
+                    int index = indexOf(entry.key, newTable.length);
+                    entry.next = newTable[index];
+                    newTable[index] = entry;
+                    entry = next;
+                }
+            }
+            table = newTable;
+        }
+
+        private static int indexOf(long key, int length) {
+            int hash = Long.hashCode(key);
+            return (hash ^ (hash >>> 16)) & (length - 1);
+        }
+
+        private static class Entry {
+            private final long key;
+            private AlphaNode sink;
+            private Entry next;
+
+            private Entry(long key, AlphaNode sink, Entry next) {
+                this.key = key;
+                this.sink = sink;
+                this.next = next;
+            }
+        }
+    }
+}
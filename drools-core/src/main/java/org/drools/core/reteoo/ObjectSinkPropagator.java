@@ -35,6 +35,11 @@ public interface ObjectSinkPropagator
 
     default void changeSinkPartition( ObjectSink sink, RuleBasePartitionId oldPartition, RuleBasePartitionId newPartition, int alphaNodeHashingThreshold, int alphaNodeRangeIndexThreshold ) { }
 
+    /**
+     * Notifies that the sinks of one of the sinks of this propagator have been changed
+     */
+    default void childSinksChanged( ObjectSink sink ) { }
+
     void propagateAssertObject(InternalFactHandle factHandle,
                                PropagationContext context,
                                ReteEvaluator reteEvaluator);
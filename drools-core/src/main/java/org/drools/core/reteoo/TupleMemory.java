@@ -43,6 +43,22 @@ public interface TupleMemory {
      * the same as the context fact.
      */
     Tuple getFirst( Tuple tuple );
+
+    /**
+     * Same as {@link #getFirst(Tuple)}, for the memories supporting concurrent lookups.
+     * See {@link #isConcurrentLookupSupported()}.
+     */
+    default Tuple getFirstConcurrently( Tuple tuple ) {
+        return getFirst( tuple );
+    }
+
+    /**
+     * Returns true if {@link #getFirstConcurrently(Tuple)} and the iteration of the returned tuples don't mutate any
+     * state of this memory, so that it can be probed concurrently by multiple threads while it isn't being modified.
+     */
+    default boolean isConcurrentLookupSupported() {
+        return false;
+    }
     
     void removeAdd( Tuple tuple );
 
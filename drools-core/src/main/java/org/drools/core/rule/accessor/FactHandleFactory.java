@@ -76,6 +76,20 @@ public interface FactHandleFactory {
     long getNextId();
 
     long getNextRecency();
+
+    /**
+     * Reserves a block of consecutive ids.
+     *
+     * @return the first id of the block, or -1 if ids are being recycled, so they can only be taken one by one
+     */
+    long getNextIds(int count);
+
+    /**
+     * Reserves a block of consecutive recencies.
+     *
+     * @return the first recency of the block
+     */
+    long getNextRecencies(int count);
     
     void clear(long id, long counter);
 
@@ -0,0 +1,319 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel with a resolution of one time unit (usually ms). Each level has 64 slots, so the
+ * slots of level n span 64^n time units, and 11 levels cover the whole range of a long. A timeout is stored at the
+ * level of the highest digit in base 64 where its deadline differs from the cursor of the wheel, so adding and
+ * removing a timeout are O(1), while advancing the cursor finds the next non empty slot through a bitmap per level
+ * and cascades its timeouts to the lower levels. Each timeout is moved at most once per level, independently from
+ * the amount of pending timeouts and from how far the cursor is advanced.
+ *
+ * The timeouts whose deadline has been reached are polled in batches, one slot at the time, in the order they
+ * have been added. This class isn't thread safe.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private final Bucket<T>[][] wheels;
+
+    private final long[] occupiedSlots = new long[LEVELS];
+
+    // the timeouts whose deadline has been reached, waiting to be polled
+    private final Bucket<T> expired = new Bucket<>(-1, 0);
+
+    private long cursor;
+
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTime) {
+        this.cursor = startTime;
+        this.wheels = new Bucket[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new Bucket<>(level, slot);
+            }
+        }
+    }
+
+    public Timeout<T> add(T element, long deadline) {
+        Timeout<T> timeout = new Timeout<>(element, deadline);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long deadline = timeout.deadline;
+        if (deadline <= cursor) {
+            expired.append(timeout);
+            return;
+        }
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(deadline ^ cursor)) / SLOT_BITS;
+        int slot = (int) (deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+        wheels[level][slot].append(timeout);
+        occupiedSlots[level] |= 1L << slot;
+    }
+
+    /**
+     * Removes a timeout that has not been polled yet. Returns false if the timeout was no longer in this wheel.
+     */
+    public boolean remove(Timeout<T> timeout) {
+        Bucket<T> bucket = timeout.bucket;
+        if (bucket == null) {
+            return false;
+        }
+        bucket.unlink(timeout);
+        if (bucket.level >= 0 && bucket.isEmpty()) {
+            occupiedSlots[bucket.level] &= ~(1L << bucket.slot);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the next timeout whose deadline is not after the given time, advancing the cursor of this wheel,
+     * or null if there isn't any
+     */
+    public Timeout<T> poll(long time) {
+        while (expired.isEmpty()) {
+            if (!advance(time)) {
+                return null;
+            }
+        }
+        Timeout<T> timeout = expired.head;
+        expired.unlink(timeout);
+        size--;
+        return timeout;
+    }
+
+    private boolean advance(long time) {
+        for (int level = 0; level < LEVELS; level++) {
+            if (occupiedSlots[level] != 0) {
+                int slot = Long.numberOfTrailingZeros(occupiedSlots[level]);
+                long slotStart = slotStart(level, slot);
+                if (slotStart > time) {
+                    return false;
+                }
+                cursor = slotStart;
+                occupiedSlots[level] &= ~(1L << slot);
+                Bucket<T> bucket = wheels[level][slot];
+                for (Timeout<T> timeout = bucket.clear(); timeout != null; ) {
+                    Timeout<T> next = timeout.next;
+                    timeout.next = null;
+                    timeout.prev = null;
+                    place(timeout);
+                    timeout = next;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long slotStart(int level, int slot) {
+        int shift = level * SLOT_BITS;
+        int upperShift = shift + SLOT_BITS;
+        long upperDigits = upperShift >= Long.SIZE ? 0 : cursor & -(1L << upperShift);
+        return upperDigits | ((long) slot << shift);
+    }
+
+    /**
+     * Returns the earliest deadline among the timeouts of this wheel, or Long.MAX_VALUE if it is empty
+     */
+    public long getNextDeadline() {
+        if (!expired.isEmpty()) {
+            return expired.minDeadline();
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (occupiedSlots[level] != 0) {
+                int slot = Long.numberOfTrailingZeros(occupiedSlots[level]);
+                return level == 0 ? slotStart(0, slot) : wheels[level][slot].minDeadline();
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the time when this wheel has to be polled next, that is not after the earliest deadline among its
+     * timeouts, without inspecting the timeouts of a slot, or Long.MAX_VALUE if it is empty
+     */
+    public long getNextPollTime() {
+        if (!expired.isEmpty()) {
+            return cursor;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (occupiedSlots[level] != 0) {
+                return slotStart(level, Long.numberOfTrailingZeros(occupiedSlots[level]));
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public List<T> getElements() {
+        List<T> elements = new ArrayList<>(size);
+        expired.collect(elements);
+        for (int level = 0; level < LEVELS; level++) {
+            for (long slots = occupiedSlots[level]; slots != 0; slots &= slots - 1) {
+                wheels[level][Long.numberOfTrailingZeros(slots)].collect(elements);
+            }
+        }
+        return elements;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the timeouts and moves the cursor of this wheel to the given time
+     */
+    public void reset(long startTime) {
+        clear();
+        this.cursor = startTime;
+    }
+
+    public void clear() {
+        expired.clear();
+        for (int level = 0; level < LEVELS; level++) {
+            for (long slots = occupiedSlots[level]; slots != 0; slots &= slots - 1) {
+                wheels[level][Long.numberOfTrailingZeros(slots)].clear();
+            }
+            occupiedSlots[level] = 0;
+        }
+        size = 0;
+    }
+
+    public static class Timeout<T> {
+
+        private final T element;
+
+        private final long deadline;
+
+        private Bucket<T> bucket;
+
+        private Timeout<T> prev;
+
+        private Timeout<T> next;
+
+        private Timeout(T element, long deadline) {
+            this.element = element;
+            this.deadline = deadline;
+        }
+
+        public T getElement() {
+            return element;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isScheduled() {
+            return bucket != null;
+        }
+    }
+
+    private static class Bucket<T> {
+
+        private final int level;
+
+        private final int slot;
+
+        private Timeout<T> head;
+
+        private Timeout<T> tail;
+
+        private Bucket(int level, int slot) {
+            this.level = level;
+            this.slot = slot;
+        }
+
+        private boolean isEmpty() {
+            return head == null;
+        }
+
+        private void append(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void unlink(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Empties this bucket returning its first timeout, still linked to the following ones
+         */
+        private Timeout<T> clear() {
+            Timeout<T> first = head;
+            for (Timeout<T> timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+
+        private long minDeadline() {
+            long min = Long.MAX_VALUE;
+            for (Timeout<T> timeout = head; timeout != null; timeout = timeout.next) {
+                min = Math.min(min, timeout.deadline);
+            }
+            return min;
+        }
+
+        private void collect(List<T> elements) {
+            for (Timeout<T> timeout = head; timeout != null; timeout = timeout.next) {
+                elements.add(timeout.element);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.impl.TimingWheelTimerService.TimingWheelJobHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A PseudoClockScheduler keeping its jobs in a {@link TimingWheel} instead of a priority queue: scheduling and
+ * cancelling a job are O(1) and advancing the clock executes the expired jobs one slot of the wheel at the time,
+ * so sessions with millions of pending event expirations don't pay a logarithmic cost for each of them.
+ * The jobs expiring at the same time are executed in the order they have been scheduled.
+ */
+public class TimingWheelPseudoClockScheduler extends PseudoClockScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimingWheelPseudoClockScheduler.class );
+
+    private final TimingWheel<TimerJobInstance> wheel = new TimingWheel<>(0);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        timer = new AtomicLong( in.readLong() );
+        wheel.reset( timer.get() );
+        List<TimerJobInstance> jobs = (List<TimerJobInstance>) in.readObject();
+        for (TimerJobInstance job : jobs) {
+            wheel.add( job, job.getTrigger().hasNextFireTime().getTime() );
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeLong( timer.get() );
+        out.writeObject( wheel.getElements() );
+    }
+
+    @Override
+    public JobHandle scheduleJob(Job job, JobContext ctx, Trigger trigger) {
+        Date date = trigger.hasNextFireTime();
+        if ( date == null ) {
+            return null;
+        }
+
+        TimingWheelJobHandle jobHandle = new TimingWheelJobHandle( idCounter.getAndIncrement() );
+        TimerJobInstance jobInstance = getTimerJobFactoryManager().createTimerJobInstance( job, ctx, trigger, jobHandle, this );
+        jobHandle.setTimerJobInstance( jobInstance );
+        internalSchedule( jobInstance );
+        return jobHandle;
+    }
+
+    @Override
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        getTimerJobFactoryManager().addTimerJobInstance( timerJobInstance );
+        synchronized (this) {
+            TimingWheel.Timeout<TimerJobInstance> timeout = wheel.add( timerJobInstance, timerJobInstance.getTrigger().hasNextFireTime().getTime() );
+            if ( timerJobInstance.getJobHandle() instanceof TimingWheelJobHandle ) {
+                ((TimingWheelJobHandle) timerJobInstance.getJobHandle()).setTimeout( timeout );
+            }
+        }
+    }
+
+    @Override
+    public synchronized void removeJob(JobHandle jobHandle) {
+        jobHandle.cancel();
+        getTimerJobFactoryManager().removeTimerJobInstance( jobHandle );
+        if ( jobHandle instanceof TimingWheelJobHandle ) {
+            ((TimingWheelJobHandle) jobHandle).removeFrom( wheel );
+        }
+    }
+
+    @Override
+    public long advanceTime(long amount, TimeUnit unit) {
+        return runCallBacksAndIncreaseTimer( unit.toMillis( amount ) );
+    }
+
+    @Override
+    public synchronized void reset() {
+        super.reset();
+        wheel.reset( 0 );
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized long runCallBacksAndIncreaseTimer(long increase) {
+        long endTime = this.timer.get() + increase;
+        for (TimingWheel.Timeout<TimerJobInstance> timeout = wheel.poll( endTime ); timeout != null; timeout = wheel.poll( endTime )) {
+            TimerJobInstance item = timeout.getElement();
+            if ( !item.getJobHandle().isCancel() && item.getTrigger().hasNextFireTime() != null ) {
+                try {
+                    // set the clock back to the trigger's fire time
+                    this.timer.getAndSet( timeout.getDeadline() );
+                    // execute the call
+                    ((Callable<Void>) item).call();
+                } catch (Exception e) {
+                    logger.error( "Exception running callbacks: ", e );
+                }
+            }
+        }
+        this.timer.set( endTime );
+        return this.timer.get();
+    }
+
+    @Override
+    public synchronized long getTimeToNextJob() {
+        long nextDeadline = wheel.getNextDeadline();
+        return nextDeadline != Long.MAX_VALUE ? nextDeadline - this.timer.get() : -1;
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.kie.api.time.SessionClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Scheduler implementation using the system clock and keeping its jobs in a {@link TimingWheel}, so that
+ * scheduling and cancelling a job are O(1) regardless of the amount of pending jobs. A single thread sleeps
+ * until the next slot of the wheel and then executes all the jobs expired in the meanwhile.
+ */
+public class TimingWheelTimerService implements TimerService, SessionClock, InternalSchedulerService {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimingWheelTimerService.class );
+
+    private final AtomicLong idCounter = new AtomicLong(0L);
+
+    private final TimingWheel<TimerJobInstance> wheel = new TimingWheel<>(System.currentTimeMillis());
+
+    private TimerJobFactoryManager jobFactoryManager = DefaultTimerJobFactoryManager.INSTANCE;
+
+    private Thread ticker;
+
+    private long nextPollTime = Long.MAX_VALUE;
+
+    private boolean shutdown;
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    public synchronized void reset() {
+        wheel.reset(System.currentTimeMillis());
+        idCounter.set(0L);
+        notifyAll();
+    }
+
+    public synchronized void shutdown() {
+        shutdown = true;
+        wheel.clear();
+        notifyAll();
+    }
+
+    public JobHandle scheduleJob(Job job, JobContext ctx, Trigger trigger) {
+        Date date = trigger.hasNextFireTime();
+        if (date == null) {
+            return null;
+        }
+        TimingWheelJobHandle jobHandle = new TimingWheelJobHandle(idCounter.getAndIncrement());
+        TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance(job, ctx, trigger, jobHandle, this);
+        jobHandle.setTimerJobInstance(jobInstance);
+        internalSchedule(jobInstance);
+        return jobHandle;
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        long fireTime = timerJobInstance.getTrigger().hasNextFireTime().getTime();
+        jobFactoryManager.addTimerJobInstance(timerJobInstance);
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            TimingWheel.Timeout<TimerJobInstance> timeout = wheel.add(timerJobInstance, fireTime);
+            if (timerJobInstance.getJobHandle() instanceof TimingWheelJobHandle) {
+                ((TimingWheelJobHandle) timerJobInstance.getJobHandle()).setTimeout(timeout);
+            }
+            if (ticker == null) {
+                ticker = new Thread(this::run, "drools-timing-wheel");
+                ticker.setDaemon(true);
+                ticker.start();
+            } else if (fireTime < nextPollTime) {
+                notifyAll();
+            }
+        }
+    }
+
+    public void removeJob(JobHandle jobHandle) {
+        jobHandle.cancel();
+        jobFactoryManager.removeTimerJobInstance(jobHandle);
+        if (jobHandle instanceof TimingWheelJobHandle) {
+            synchronized (this) {
+                ((TimingWheelJobHandle) jobHandle).removeFrom(wheel);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run() {
+        List<TimerJobInstance> expired = new ArrayList<>();
+        while (true) {
+            synchronized (this) {
+                if (shutdown) {
+                    return;
+                }
+                long now = System.currentTimeMillis();
+                for (TimingWheel.Timeout<TimerJobInstance> timeout = wheel.poll(now); timeout != null; timeout = wheel.poll(now)) {
+                    expired.add(timeout.getElement());
+                }
+                if (expired.isEmpty()) {
+                    nextPollTime = wheel.getNextPollTime();
+                    try {
+                        wait(nextPollTime == Long.MAX_VALUE ? 0 : Math.max(1, nextPollTime - now));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    nextPollTime = Long.MAX_VALUE;
+                    continue;
+                }
+            }
+            for (TimerJobInstance job : expired) {
+                if (!job.getJobHandle().isCancel()) {
+                    try {
+                        ((Callable<Void>) job).call();
+                    } catch (Exception e) {
+                        logger.error("Exception running timer job: ", e);
+                    }
+                }
+            }
+            expired.clear();
+        }
+    }
+
+    public synchronized long getTimeToNextJob() {
+        long nextDeadline = wheel.getNextDeadline();
+        return nextDeadline == Long.MAX_VALUE ? -1 : Math.max(0, nextDeadline - System.currentTimeMillis());
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+
+    /**
+     * A job handle knowing its position in the timing wheel, so that the job can be removed from it in O(1)
+     */
+    public static class TimingWheelJobHandle extends DefaultJobHandle implements JobHandle {
+
+        private static final long serialVersionUID = 510l;
+
+        private transient TimingWheel.Timeout<TimerJobInstance> timeout;
+
+        public TimingWheelJobHandle(long id) {
+            super(id);
+        }
+
+        void setTimeout(TimingWheel.Timeout<TimerJobInstance> timeout) {
+            this.timeout = timeout;
+        }
+
+        void removeFrom(TimingWheel<TimerJobInstance> wheel) {
+            if (timeout != null) {
+                wheel.remove(timeout);
+                timeout = null;
+            }
+        }
+    }
+}
@@ -188,6 +188,12 @@ public abstract class AbstractHashTable
     public interface Index extends Externalizable {
         FieldIndex getFieldIndex(int index);
         HashEntry hashCodeOf(Tuple tuple, boolean left);
+
+        /**
+         * Same as {@link #hashCodeOf(Tuple, boolean)}, but returns a new entry instead of reusing the one of this
+         * index, so that multiple threads can look up the same table at the same time.
+         */
+        HashEntry newHashEntryOf(Tuple tuple, boolean left);
     }
 
     public static class SingleIndex implements Index {
@@ -235,6 +241,11 @@ public abstract class AbstractHashTable
         public HashEntry hashCodeOf(Tuple tuple, boolean left) {
             return hashEntry.set(startResult, index.indexedValueOf( tuple, left ) );
         }
+
+        @Override
+        public HashEntry newHashEntryOf(Tuple tuple, boolean left) {
+            return new SingleHashEntry().set(startResult, index.indexedValueOf( tuple, left ) );
+        }
     }
 
     public static class IndexTupleList extends TupleList implements HashEntry {
@@ -334,6 +345,11 @@ public abstract class AbstractHashTable
         public HashEntry hashCodeOf(Tuple tuple, boolean left) {
             return hashEntry.set(startResult, index1.indexedValueOf( tuple, left ), index2.indexedValueOf( tuple, left ) );
         }
+
+        @Override
+        public HashEntry newHashEntryOf(Tuple tuple, boolean left) {
+            return new DoubleHashEntry().set(startResult, index1.indexedValueOf( tuple, left ), index2.indexedValueOf( tuple, left ) );
+        }
     }
 
     public static class TripleCompositeIndex implements Index {
@@ -396,6 +412,11 @@ public abstract class AbstractHashTable
         public HashEntry hashCodeOf(Tuple tuple, boolean left) {
             return hashEntry.set(startResult, index1.indexedValueOf( tuple, left ), index2.indexedValueOf( tuple, left ), index3.indexedValueOf( tuple, left ) );
         }
+
+        @Override
+        public HashEntry newHashEntryOf(Tuple tuple, boolean left) {
+            return new TripleHashEntry().set(startResult, index1.indexedValueOf( tuple, left ), index2.indexedValueOf( tuple, left ), index3.indexedValueOf( tuple, left ) );
+        }
     }
 
     public void clear() {
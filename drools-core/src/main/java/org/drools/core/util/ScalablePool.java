@@ -18,48 +18,120 @@
  */
 package org.drools.core.util;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * A pool lending the most recently released resource first. When a maximum size is given, a resource released to a
+ * pool that already holds that many idle resources evicts the least recently used one, and when an idle timeout is
+ * given, the resources that haven't been borrowed for longer than that are evicted. The evictions are performed
+ * while borrowing and releasing the resources, so no background thread is needed.
+ */
 public class ScalablePool<T> {
 
-    private final java.util.Queue<T> pool = new ConcurrentLinkedQueue<>();
-    private final List<T> resources = Collections.synchronizedList( new ArrayList<>() );
+    // the idle resources, the most recently released first
+    private final Deque<IdleResource<T>> pool = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleSize = new AtomicInteger();
+    private final Set<T> resources = ConcurrentHashMap.newKeySet();
 
     private final Supplier<? extends T> supplier;
     private final Consumer<? super T> resetter;
     private final Consumer<? super T> disposer;
 
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder borrowNanos = new LongAdder();
+    private final AtomicLong maxBorrowNanos = new AtomicLong();
+
     public ScalablePool( int initialSize, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
+        this( initialSize, -1, -1, supplier, resetter, disposer );
+    }
+
+    public ScalablePool( int initialSize, int maxSize, long idleTimeoutMillis, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
         this.supplier = supplier;
         this.resetter = resetter;
         this.disposer = disposer;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = idleTimeoutMillis > 0 ? TimeUnit.MILLISECONDS.toNanos( idleTimeoutMillis ) : -1;
 
-        for (int i = 0; i < initialSize; i++) {
+        long now = nanoTime();
+        int eagerSize = maxSize > 0 ? Math.min( initialSize, maxSize ) : initialSize;
+        for (int i = 0; i < eagerSize; i++) {
             T t = this.supplier.get();
-            pool.offer( t );
             resources.add( t );
+            pool.offerLast( new IdleResource<>( t, now ) );
+            idleSize.incrementAndGet();
         }
     }
 
     public T get() {
-        T t = pool.poll();
-        if (t != null) {
-            return t;
+        long start = nanoTime();
+        evictExpired( start );
+
+        T t;
+        IdleResource<T> idle = pool.pollFirst();
+        if (idle != null) {
+            idleSize.decrementAndGet();
+            hits.increment();
+            t = idle.resource;
+        } else {
+            misses.increment();
+            t = this.supplier.get();
+            resources.add( t );
         }
 
-        t = this.supplier.get();
-        resources.add( t );
+        long elapsed = nanoTime() - start;
+        borrowNanos.add( elapsed );
+        maxBorrowNanos.accumulateAndGet( elapsed, Math::max );
         return t;
     }
 
     public void release(T t) {
         resetter.accept( t );
-        pool.offer( t );
+        long now = nanoTime();
+        pool.offerFirst( new IdleResource<>( t, now ) );
+        if (idleSize.incrementAndGet() > maxSize && maxSize > 0) {
+            evictLast();
+        }
+        evictExpired( now );
+    }
+
+    private void evictExpired(long now) {
+        if (idleTimeoutNanos <= 0) {
+            return;
+        }
+        for (IdleResource<T> idle = pool.peekLast(); idle != null && now - idle.releaseTime >= idleTimeoutNanos; idle = pool.peekLast()) {
+            if (pool.removeLastOccurrence( idle )) {
+                idleSize.decrementAndGet();
+                evict( idle.resource );
+            }
+        }
+    }
+
+    private void evictLast() {
+        IdleResource<T> idle = pool.pollLast();
+        if (idle != null) {
+            idleSize.decrementAndGet();
+            evict( idle.resource );
+        }
+    }
+
+    private void evict(T t) {
+        resources.remove( t );
+        evictions.increment();
+        disposer.accept( t );
     }
 
     public void shutdown() {
@@ -67,6 +139,105 @@ public class ScalablePool<T> {
             disposer.accept( t );
         }
         pool.clear();
+        idleSize.set( 0 );
         resources.clear();
     }
+
+    public Statistics getStatistics() {
+        return new Statistics( hits.sum(), misses.sum(), evictions.sum(), idleSize.get(), resources.size(), borrowNanos.sum(), maxBorrowNanos.get() );
+    }
+
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private static class IdleResource<T> {
+        private final T resource;
+        private final long releaseTime;
+
+        private IdleResource( T resource, long releaseTime ) {
+            this.resource = resource;
+            this.releaseTime = releaseTime;
+        }
+    }
+
+    /**
+     * A snapshot of the usage of one or more pools
+     */
+    public static class Statistics {
+
+        public static final Statistics EMPTY = new Statistics( 0, 0, 0, 0, 0, 0, 0 );
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int idleSize;
+        private final int size;
+        private final long totalBorrowNanos;
+        private final long maxBorrowNanos;
+
+        public Statistics( long hits, long misses, long evictions, int idleSize, int size, long totalBorrowNanos, long maxBorrowNanos ) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.idleSize = idleSize;
+            this.size = size;
+            this.totalBorrowNanos = totalBorrowNanos;
+            this.maxBorrowNanos = maxBorrowNanos;
+        }
+
+        /**
+         * The number of borrowed resources that were idle in the pool
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * The number of borrowed resources that had to be created
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * The number of idle resources disposed because the pool was full or because they timed out
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getIdleSize() {
+            return idleSize;
+        }
+
+        /**
+         * The number of resources currently owned by the pool, both idle and borrowed
+         */
+        public int getSize() {
+            return size;
+        }
+
+        public long getAverageBorrowNanos() {
+            long borrows = hits + misses;
+            return borrows == 0 ? 0 : totalBorrowNanos / borrows;
+        }
+
+        public long getMaxBorrowNanos() {
+            return maxBorrowNanos;
+        }
+
+        public Statistics merge( Statistics other ) {
+            return new Statistics( hits + other.hits, misses + other.misses, evictions + other.evictions,
+                                   idleSize + other.idleSize, size + other.size,
+                                   totalBorrowNanos + other.totalBorrowNanos, Math.max( maxBorrowNanos, other.maxBorrowNanos ) );
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{ hits=" + hits + ", misses=" + misses + ", evictions=" + evictions +
+                   ", idleSize=" + idleSize + ", size=" + size +
+                   ", averageBorrowNanos=" + getAverageBorrowNanos() + ", maxBorrowNanos=" + maxBorrowNanos + " }";
+        }
+    }
 }
@@ -22,13 +22,18 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
 
 import org.drools.base.base.ValueType;
 import org.drools.base.util.index.ConstraintTypeOperator;
 import org.drools.core.reteoo.AlphaNode;
 import org.drools.core.reteoo.CompositeObjectSinkAdapter;
+import org.drools.core.reteoo.ObjectSink;
 import org.drools.base.rule.IndexableConstraint;
 import org.drools.base.rule.accessor.FieldValue;
 import org.drools.core.util.index.RangeIndex.IndexType;
@@ -37,15 +42,29 @@ import org.drools.core.util.index.RangeIndex.IndexType;
  * 
  * Alpha Node range indexing implementation backed by RangeIndex per fieldIndex
  *
+ * When all the children of a range indexed alpha node are range constraints on the same field, but with the
+ * opposite direction, as for <code>amount &gt; X &amp;&amp; amount &lt;= Y</code>, each of those children is looked up
+ * through a sorted bounds index of the intervals it forms with its parent. In this way an insertion only visits the
+ * intervals containing the value of the field, instead of evaluating the children of all the matching lower bounds.
+ *
  */
 public class AlphaRangeIndex implements Externalizable {
 
+    // the overlapping intervals are repeated in each region of the bounds index they cover, so beyond this
+    // average number of regions per interval the memory of the index would grow with the square of their number
+    private static final int MAX_REGIONS_PER_INTERVAL = 8;
+
+    private static final AlphaNode[] NO_SINKS = new AlphaNode[0];
+
     private RangeIndex<Comparable, AlphaNode> rangeIndex;
 
     private CompositeObjectSinkAdapter.FieldIndex fieldIndex;
 
     private int size;
 
+    // lazily built from the range index and the children of the indexed alpha nodes, discarded when any of them changes
+    private volatile Intervals intervals;
+
     public AlphaRangeIndex() {
         // constructor for serialisation
     }
@@ -79,6 +98,7 @@ public class AlphaRangeIndex implements Externalizable {
                     " You can workaround this issue by setting system property 'drools.alphaNodeRangeIndexThreshold' to '0'");
         }
         size++;
+        invalidateIntervals();
     }
 
     public void remove(AlphaNode alphaNode) {
@@ -87,6 +107,14 @@ public class AlphaRangeIndex implements Externalizable {
         IndexType indexType = extractIndexType(constraint);
         rangeIndex.removeIndex(indexType, key);
         size--;
+        invalidateIntervals();
+    }
+
+    /**
+     * Discards the intervals index, so that it will be rebuilt at the next lookup
+     */
+    public void invalidateIntervals() {
+        this.intervals = null;
     }
 
     private Comparable extractKey(IndexableConstraint constraint) {
@@ -158,12 +186,184 @@ public class AlphaRangeIndex implements Externalizable {
         return rangeIndex.getValues((Comparable) value);
     }
 
+    /**
+     * Returns the value of the indexed field of the given object, or null if it is not comparable
+     */
+    public Comparable getFieldValue(Object object) {
+        Object value = fieldIndex.getFieldExtractor().getValue(object);
+        return value instanceof Comparable ? (Comparable) value : null;
+    }
+
+    /**
+     * Returns the indexed alpha nodes satisfied by the given value, excluding the ones whose children are returned
+     * by {@link #getMatchingIntervalSinks(Comparable)}.
+     */
+    public Collection<AlphaNode> getMatchingHalfBoundedSinks(Comparable value) {
+        return getIntervals().halfBounded.getValues(value);
+    }
+
+    /**
+     * Returns the children of the indexed alpha nodes satisfied, together with their parent, by the given value
+     */
+    public AlphaNode[] getMatchingIntervalSinks(Comparable value) {
+        return getIntervals().getSinks(value);
+    }
+
     public Collection<AlphaNode> getAllValues() {
         return rangeIndex.getAllValues();
     }
 
     public void clear() {
         rangeIndex = new RangeIndex<>();
+        invalidateIntervals();
+    }
+
+    private Intervals getIntervals() {
+        Intervals current = this.intervals;
+        if (current == null) {
+            // concurrent sessions may build it at the same time, but they all build equivalent indexes
+            current = buildIntervals();
+            this.intervals = current;
+        }
+        return current;
+    }
+
+    private Intervals buildIntervals() {
+        RangeIndex<Comparable, AlphaNode> halfBounded = new RangeIndex<>();
+        List<Interval> fused = new ArrayList<>();
+        for (AlphaNode alphaNode : rangeIndex.getAllValues()) {
+            List<Interval> nodeIntervals = toIntervals(alphaNode);
+            if (nodeIntervals != null) {
+                fused.addAll(nodeIntervals);
+            } else {
+                IndexableConstraint constraint = (IndexableConstraint) alphaNode.getConstraint();
+                halfBounded.addIndex(extractIndexType(constraint), extractKey(constraint), alphaNode);
+            }
+        }
+        if (fused.isEmpty()) {
+            return new Intervals(rangeIndex);
+        }
+        Intervals result = Intervals.create(halfBounded, fused);
+        return result != null ? result : new Intervals(rangeIndex);
+    }
+
+    /**
+     * Returns the intervals formed by the given alpha node with each of its children, if all of them are range
+     * constraints on the same field with the opposite direction, otherwise null
+     */
+    private List<Interval> toIntervals(AlphaNode alphaNode) {
+        ObjectSink[] children = alphaNode.getObjectSinkPropagator().getSinks();
+        if (children.length == 0) {
+            return null;
+        }
+        IndexableConstraint constraint = (IndexableConstraint) alphaNode.getConstraint();
+        boolean lowerBound = isLowerBound(extractIndexType(constraint));
+        List<Interval> result = new ArrayList<>(children.length);
+        for (ObjectSink child : children) {
+            IndexableConstraint childConstraint = getRangeConstraintOnIndexedField(child);
+            if (childConstraint == null) {
+                return null;
+            }
+            IndexType childIndexType = extractIndexType(childConstraint);
+            if (isLowerBound(childIndexType) == lowerBound) {
+                return null;
+            }
+            result.add(lowerBound ?
+                    new Interval(extractKey(constraint), constraint.getConstraintType(), extractKey(childConstraint), childConstraint.getConstraintType(), (AlphaNode) child) :
+                    new Interval(extractKey(childConstraint), childConstraint.getConstraintType(), extractKey(constraint), constraint.getConstraintType(), (AlphaNode) child));
+        }
+        return result;
+    }
+
+    private IndexableConstraint getRangeConstraintOnIndexedField(ObjectSink sink) {
+        if (!(sink instanceof AlphaNode) || !(((AlphaNode) sink).getConstraint() instanceof IndexableConstraint)) {
+            return null;
+        }
+        IndexableConstraint constraint = (IndexableConstraint) ((AlphaNode) sink).getConstraint();
+        ConstraintTypeOperator constraintType = constraint.getConstraintType();
+        boolean isRange = constraintType.isAscending() || constraintType.isDescending();
+        return isRange && constraint.getField() != null && !constraint.getField().isNull() &&
+                constraint.getFieldExtractor().getIndex() == fieldIndex.getIndex() ? constraint : null;
+    }
+
+    private static boolean isLowerBound(IndexType indexType) {
+        return indexType == IndexType.GT || indexType == IndexType.GE;
+    }
+
+    private static class Interval {
+        private final Comparable lower;
+        private final boolean lowerInclusive;
+        private final Comparable upper;
+        private final boolean upperInclusive;
+        private final AlphaNode sink;
+
+        private Interval(Comparable lower, ConstraintTypeOperator lowerType, Comparable upper, ConstraintTypeOperator upperType, AlphaNode sink) {
+            this.lower = lower;
+            this.lowerInclusive = lowerType == ConstraintTypeOperator.GREATER_OR_EQUAL;
+            this.upper = upper;
+            this.upperInclusive = upperType == ConstraintTypeOperator.LESS_OR_EQUAL;
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * The sorted bounds of the intervals split the values of the field in regions: the values lower than the
+     * first bound, each bound, the values between each pair of consecutive bounds and the values greater than the
+     * last bound. For each of those regions the sinks of the intervals covering it are precomputed.
+     */
+    private static class Intervals {
+        private final RangeIndex<Comparable, AlphaNode> halfBounded;
+        private final Comparable[] bounds;
+        private final AlphaNode[][] sinksByRegion;
+
+        private Intervals(RangeIndex<Comparable, AlphaNode> halfBounded) {
+            this(halfBounded, new Comparable[0], new AlphaNode[][] { NO_SINKS });
+        }
+
+        private Intervals(RangeIndex<Comparable, AlphaNode> halfBounded, Comparable[] bounds, AlphaNode[][] sinksByRegion) {
+            this.halfBounded = halfBounded;
+            this.bounds = bounds;
+            this.sinksByRegion = sinksByRegion;
+        }
+
+        private static Intervals create(RangeIndex<Comparable, AlphaNode> halfBounded, List<Interval> intervals) {
+            TreeSet<Comparable> sortedBounds = new TreeSet<>();
+            for (Interval interval : intervals) {
+                sortedBounds.add(interval.lower);
+                sortedBounds.add(interval.upper);
+            }
+            Comparable[] bounds = sortedBounds.toArray(new Comparable[0]);
+
+            List<AlphaNode>[] sinks = new List[2 * bounds.length + 1];
+            long coveredRegions = 0;
+            for (Interval interval : intervals) {
+                int lowerPos = Arrays.binarySearch(bounds, interval.lower);
+                int upperPos = Arrays.binarySearch(bounds, interval.upper);
+                int first = interval.lowerInclusive ? 2 * lowerPos + 1 : 2 * lowerPos + 2;
+                int last = interval.upperInclusive ? 2 * upperPos + 1 : 2 * upperPos;
+                coveredRegions += Math.max(0, last - first + 1);
+                if (coveredRegions > (long) MAX_REGIONS_PER_INTERVAL * intervals.size()) {
+                    return null;
+                }
+                for (int region = first; region <= last; region++) {
+                    if (sinks[region] == null) {
+                        sinks[region] = new ArrayList<>(2);
+                    }
+                    sinks[region].add(interval.sink);
+                }
+            }
+
+            AlphaNode[][] sinksByRegion = new AlphaNode[sinks.length][];
+            for (int region = 0; region < sinks.length; region++) {
+                sinksByRegion[region] = sinks[region] != null ? sinks[region].toArray(NO_SINKS) : NO_SINKS;
+            }
+            return new Intervals(halfBounded, bounds, sinksByRegion);
+        }
+
+        private AlphaNode[] getSinks(Comparable value) {
+            int pos = Arrays.binarySearch(bounds, value);
+            return sinksByRegion[pos >= 0 ? 2 * pos + 1 : 2 * (-pos - 1)];
+        }
     }
 
     public CompositeObjectSinkAdapter.FieldIndex getFieldIndex() {
@@ -79,9 +79,12 @@ public class IndexMemory {
 
     private static ComparisonMemoryType COMPARISON_MEMORY_TYPE; // did not set this as final, as some tests need to change this
 
+    private static boolean PRIMITIVE_EQUALITY_MEMORY; // did not set this as final, as some tests need to change this
+
     static {
         EQUALITY_MEMORY_TYPE = EqualityMemoryType.get(getConfig("org.drools.equalitymemory", DEFAULT_INDEX));
         COMPARISON_MEMORY_TYPE = ComparisonMemoryType.get(getConfig("org.drools.comparisonmemory", DEFAULT_INDEX));
+        PRIMITIVE_EQUALITY_MEMORY = Boolean.parseBoolean(getConfig("org.drools.equalitymemory.primitive", "true"));
     }
 
     public static EqualityMemoryType getEqualityMemoryType() {
@@ -102,6 +105,18 @@ public class IndexMemory {
         ComparisonMemoryFactoryHolder.reinit();
     }
 
+    public static boolean isPrimitiveEqualityMemory() {
+        return PRIMITIVE_EQUALITY_MEMORY;
+    }
+
+    /**
+     * When enabled, the internal equality memory indexes single int, long and double keys with a
+     * {@link TupleIndexPrimitiveHashTable}, avoiding to box the key of each inserted or looked up tuple.
+     */
+    public static void setPrimitiveEqualityMemory(boolean primitiveEqualityMemory) {
+        PRIMITIVE_EQUALITY_MEMORY = primitiveEqualityMemory;
+    }
+
     public static TupleMemory createEqualityMemory(IndexSpec indexSpec, boolean isLeft) {
         return EqualityMemoryFactoryHolder.INSTANCE.createMemory(indexSpec, isLeft);
     }
@@ -134,6 +149,9 @@ public class IndexMemory {
 
         @Override
         public TupleMemory createMemory(IndexSpec indexSpec, boolean isLeft) {
+            if (PRIMITIVE_EQUALITY_MEMORY && TupleIndexPrimitiveHashTable.isSupported(indexSpec)) {
+                return new TupleIndexPrimitiveHashTable(indexSpec.getIndex(0), isLeft);
+            }
             return new TupleIndexHashTable(indexSpec.getIndexes(), isLeft);
         }
     }
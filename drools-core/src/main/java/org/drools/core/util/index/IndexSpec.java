@@ -33,6 +33,7 @@ import static org.drools.base.util.index.IndexUtil.isEqualIndexable;
 public class IndexSpec {
     private ConstraintTypeOperator constraintType = ConstraintTypeOperator.UNKNOWN;
     private FieldIndex[] indexes;
+    private boolean unification;
 
     IndexSpec(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config) {
         init(nodeType, constraints, config);
@@ -50,6 +51,10 @@ public class IndexSpec {
         return indexes[pos];
     }
 
+    public boolean isUnification() {
+        return unification;
+    }
+
     private void init(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config) {
         int keyDepth = config.getCompositeKeyDepth();
         IndexPrecedenceOption indexPrecedenceOption = config.getIndexPrecedenceOption();
@@ -60,7 +65,9 @@ public class IndexSpec {
         if (constraintType == ConstraintTypeOperator.EQUAL) {
             List<FieldIndex> indexList = new ArrayList<>();
             if (isEqualIndexable(constraints[firstIndexableConstraint])) {
-                indexList.add(((IndexableConstraint) constraints[firstIndexableConstraint]).getFieldIndex());
+                IndexableConstraint indexableConstraint = (IndexableConstraint) constraints[firstIndexableConstraint];
+                indexList.add(indexableConstraint.getFieldIndex());
+                unification = indexableConstraint.isUnification();
             }
 
             // look for other EQUAL constraint to eventually add them to the index
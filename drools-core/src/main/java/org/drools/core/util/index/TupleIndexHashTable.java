@@ -219,6 +219,17 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
         return bucket != null ? bucket.getFirst() : null;
     }
 
+    @Override
+    public Tuple getFirstConcurrently(final Tuple tuple) {
+        TupleList bucket = get( this.index.newHashEntryOf( tuple, !left ) );
+        return bucket != null ? bucket.getFirst() : null;
+    }
+
+    @Override
+    public boolean isConcurrentLookupSupported() {
+        return true;
+    }
+
     public boolean isIndexed() {
         return true;
     }
@@ -431,7 +442,10 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
         } catch (UnsupportedOperationException e) {
             return null;
         }
+        return get( hashEntry );
+    }
 
+    private TupleList get(final HashEntry hashEntry) {
         int index = indexOf( hashEntry.hashCode(), this.table.length );
         TupleList entry = this.table[index];
 
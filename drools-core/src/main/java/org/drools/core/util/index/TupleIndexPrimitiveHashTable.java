@@ -0,0 +1,415 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import org.drools.base.base.ValueType;
+import org.drools.base.rule.Declaration;
+import org.drools.base.rule.accessor.ReadAccessor;
+import org.drools.base.util.FieldIndex;
+import org.drools.core.reteoo.AbstractTuple;
+import org.drools.core.reteoo.Tuple;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.Iterator;
+import org.drools.core.util.LinkedList;
+
+/**
+ * Equality index specialised for a single int, long or double join key. The key is read through the primitive
+ * accessors of the extractors and stored unboxed in the bucket, together with its hash, so neither adding nor
+ * looking up a tuple allocates a key object. Buckets are kept in an open addressing table with linear probing,
+ * so there is no chain of buckets sharing the same slot.
+ */
+public class TupleIndexPrimitiveHashTable implements TupleMemory {
+
+    private static final int DEFAULT_CAPACITY = 128;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private enum KeyType {
+        INT, LONG, DOUBLE
+    }
+
+    private final FieldIndex fieldIndex;
+    private final ReadAccessor rightExtractor;
+    private final Declaration leftDeclaration;
+    private final KeyType keyType;
+    private final boolean left;
+
+    private PrimitiveIndexTupleList[] table;
+    private int threshold;
+    private int size;
+    private int factSize;
+
+    private FullFastIterator fullFastIterator;
+
+    public TupleIndexPrimitiveHashTable(FieldIndex fieldIndex, boolean left) {
+        this.fieldIndex = fieldIndex;
+        this.rightExtractor = fieldIndex.getRightExtractor();
+        this.leftDeclaration = (Declaration) fieldIndex.getLeftExtractor();
+        this.keyType = keyTypeOf(rightExtractor.getValueType());
+        this.left = left;
+        init(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns true if the given index can be stored in a primitive hash table: it must be made of a single field,
+     * whose right and left extractors return the same primitive int, long or double value.
+     */
+    public static boolean isSupported(IndexSpec indexSpec) {
+        if (indexSpec.getIndexes().length != 1 || indexSpec.isUnification()) {
+            return false;
+        }
+        FieldIndex fieldIndex = indexSpec.getIndex(0);
+        if (fieldIndex.requiresCoercion() || !(fieldIndex.getLeftExtractor() instanceof Declaration)) {
+            return false;
+        }
+        Declaration declaration = (Declaration) fieldIndex.getLeftExtractor();
+        return declaration.getExtractor() != null && keyTypeOf(fieldIndex.getRightExtractor().getValueType()) != null;
+    }
+
+    private static KeyType keyTypeOf(ValueType valueType) {
+        if (valueType == ValueType.PINTEGER_TYPE) {
+            return KeyType.INT;
+        }
+        if (valueType == ValueType.PLONG_TYPE) {
+            return KeyType.LONG;
+        }
+        if (valueType == ValueType.PDOUBLE_TYPE) {
+            return KeyType.DOUBLE;
+        }
+        return null;
+    }
+
+    private void init(int capacity) {
+        this.table = new PrimitiveIndexTupleList[capacity];
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+        this.size = 0;
+    }
+
+    private long keyOf(Tuple tuple, boolean isLeftTuple) {
+        if (isLeftTuple) {
+            Object object = tuple.getObject(leftDeclaration);
+            switch (keyType) {
+                case INT:
+                    return leftDeclaration.getIntValue(null, object);
+                case LONG:
+                    return leftDeclaration.getLongValue(null, object);
+                default:
+                    return Double.doubleToLongBits(leftDeclaration.getDoubleValue(null, object));
+            }
+        }
+
+        Object object = tuple.getFactHandle().getObject();
+        switch (keyType) {
+            case INT:
+                return rightExtractor.getIntValue(null, object);
+            case LONG:
+                return rightExtractor.getLongValue(null, object);
+            default:
+                // same semantic of Double.equals(), used when the key is boxed
+                return Double.doubleToLongBits(rightExtractor.getDoubleValue(null, object));
+        }
+    }
+
+    static int hashOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int slotOf(long key, int hash) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        PrimitiveIndexTupleList bucket = table[slot];
+        while (bucket != null) {
+            if (bucket.key == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+            bucket = table[slot];
+        }
+        return -1 - slot;
+    }
+
+    @Override
+    public Tuple getFirst(Tuple tuple) {
+        long key = keyOf(tuple, !left);
+        int slot = slotOf(key, hashOf(key));
+        return slot >= 0 ? table[slot].getFirst() : null;
+    }
+
+    @Override
+    public void add(Tuple tuple) {
+        getOrCreate(keyOf(tuple, left)).add(tuple);
+        this.factSize++;
+    }
+
+    @Override
+    public void remove(Tuple tuple) {
+        PrimitiveIndexTupleList bucket = (PrimitiveIndexTupleList) tuple.getMemory();
+        bucket.remove(tuple);
+        this.factSize--;
+        if (bucket.getFirst() == null) {
+            removeBucket(bucket);
+        }
+        tuple.clear();
+    }
+
+    @Override
+    public void removeAdd(Tuple tuple) {
+        PrimitiveIndexTupleList bucket = (PrimitiveIndexTupleList) tuple.getMemory();
+        long key = keyOf(tuple, left);
+        if (bucket.key == key) {
+            // it's the same bucket, so just move the tuple at the end of it
+            bucket.removeAdd(tuple);
+            return;
+        }
+
+        bucket.remove(tuple);
+        if (bucket.getFirst() == null) {
+            removeBucket(bucket);
+        }
+        getOrCreate(key).add(tuple);
+    }
+
+    private PrimitiveIndexTupleList getOrCreate(long key) {
+        int hash = hashOf(key);
+        int slot = slotOf(key, hash);
+        if (slot >= 0) {
+            return table[slot];
+        }
+
+        PrimitiveIndexTupleList bucket = new PrimitiveIndexTupleList(key, hash);
+        if (size >= threshold) {
+            resize(table.length * 2);
+            slot = slotOf(key, hash);
+        }
+        table[-1 - slot] = bucket;
+        size++;
+        return bucket;
+    }
+
+    private void removeBucket(PrimitiveIndexTupleList bucket) {
+        int mask = table.length - 1;
+        int slot = bucket.hash & mask;
+        while (table[slot] != bucket) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = null;
+        size--;
+
+        // backward shift deletion: moves back the following buckets of the same cluster, so lookups never
+        // need tombstones to keep probing past the freed slot
+        int current = (slot + 1) & mask;
+        while (table[current] != null) {
+            int ideal = table[current].hash & mask;
+            boolean canMove = slot <= current ? ( ideal <= slot || ideal > current ) : ( ideal <= slot && ideal > current );
+            if (canMove) {
+                table[slot] = table[current];
+                table[current] = null;
+                slot = current;
+            }
+            current = (current + 1) & mask;
+        }
+    }
+
+    private void resize(int newCapacity) {
+        PrimitiveIndexTupleList[] oldTable = this.table;
+        this.table = new PrimitiveIndexTupleList[newCapacity];
+        this.threshold = (int) (newCapacity * LOAD_FACTOR);
+        int mask = newCapacity - 1;
+        for (PrimitiveIndexTupleList bucket : oldTable) {
+            if (bucket != null) {
+                int slot = bucket.hash & mask;
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = bucket;
+            }
+        }
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public boolean isConcurrentLookupSupported() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return this.factSize;
+    }
+
+    public FieldIndex getFieldIndex() {
+        return fieldIndex;
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        return new FullIterator(new FullFastIterator(this));
+    }
+
+    @Override
+    public FastIterator<AbstractTuple> fastIterator() {
+        return LinkedList.fastIterator;
+    }
+
+    @Override
+    public FastIterator<AbstractTuple> fullFastIterator() {
+        if (fullFastIterator == null) {
+            fullFastIterator = new FullFastIterator(this);
+        } else {
+            fullFastIterator.reset();
+        }
+        return fullFastIterator;
+    }
+
+    @Override
+    public FastIterator<AbstractTuple> fullFastIterator(AbstractTuple tuple) {
+        if (fullFastIterator == null) {
+            fullFastIterator = new FullFastIterator(this);
+        }
+        fullFastIterator.resume((PrimitiveIndexTupleList) tuple.getMemory());
+        return fullFastIterator;
+    }
+
+    @Override
+    public Tuple[] toArray() {
+        Tuple[] result = new Tuple[this.factSize];
+        int index = 0;
+        for (PrimitiveIndexTupleList bucket : this.table) {
+            if (bucket != null) {
+                for (Tuple entry = bucket.getFirst(); entry != null; entry = entry.getNext()) {
+                    result[index++] = entry;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public IndexType getIndexType() {
+        return IndexType.EQUAL;
+    }
+
+    @Override
+    public void clear() {
+        init(DEFAULT_CAPACITY);
+        this.factSize = 0;
+        this.fullFastIterator = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        Iterator<Tuple> it = iterator();
+        for ( Tuple tuple = it.next(); tuple != null; tuple = it.next() ) {
+            builder.append(tuple).append("\n");
+        }
+        return builder.toString();
+    }
+
+    public static class PrimitiveIndexTupleList extends TupleList {
+        private final long key;
+        private final int hash;
+
+        PrimitiveIndexTupleList(long key, int hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+
+        public long getKey() {
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return this == object;
+        }
+    }
+
+    public static class FullFastIterator implements FastIterator<AbstractTuple> {
+        private final TupleIndexPrimitiveHashTable hashTable;
+        private int row;
+
+        public FullFastIterator(TupleIndexPrimitiveHashTable hashTable) {
+            this.hashTable = hashTable;
+        }
+
+        public void resume(PrimitiveIndexTupleList target) {
+            PrimitiveIndexTupleList[] table = hashTable.table;
+            int mask = table.length - 1;
+            row = target.hash & mask;
+            while (table[row] != target) {
+                row = (row + 1) & mask;
+            }
+            row++; // row always points to the slot after the current bucket
+        }
+
+        @Override
+        public AbstractTuple next(AbstractTuple tuple) {
+            if (tuple != null) {
+                AbstractTuple next = tuple.getNext();
+                if (next != null) {
+                    return next;
+                }
+            }
+
+            PrimitiveIndexTupleList[] table = hashTable.table;
+            while (row < table.length) {
+                PrimitiveIndexTupleList bucket = table[row++];
+                if (bucket != null) {
+                    return (AbstractTuple) bucket.getFirst();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isFullIterator() {
+            return true;
+        }
+
+        public void reset() {
+            this.row = 0;
+        }
+    }
+
+    public static class FullIterator implements Iterator<Tuple> {
+        private final FullFastIterator fullFastIterator;
+        private AbstractTuple tuple;
+
+        public FullIterator(FullFastIterator fullFastIterator) {
+            this.fullFastIterator = fullFastIterator;
+        }
+
+        @Override
+        public Tuple next() {
+            this.tuple = fullFastIterator.next(tuple);
+            return this.tuple;
+        }
+    }
+}
@@ -251,6 +251,11 @@ public class TupleList<C> implements TupleMemory, Entry<TupleList<C>>, Serializa
         return false;
     }
 
+    @Override
+    public boolean isConcurrentLookupSupported() {
+        return true;
+    }
+
     public TupleList getNext() {
         return this.next;
     }
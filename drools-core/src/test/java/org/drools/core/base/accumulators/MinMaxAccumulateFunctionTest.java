@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MinMaxAccumulateFunctionTest {
+
+    @Test
+    public void reversesTheCurrentMinAndMax() {
+        IntegerMinAccumulateFunction min = new IntegerMinAccumulateFunction();
+        IntegerMaxAccumulateFunction max = new IntegerMaxAccumulateFunction();
+        IntegerMinAccumulateFunction.MinData minData = min.createContext();
+        IntegerMaxAccumulateFunction.MaxData maxData = max.createContext();
+        min.init(minData);
+        max.init(maxData);
+
+        assertThat(min.supportsReverse()).isTrue();
+        assertThat(max.supportsReverse()).isTrue();
+        assertThat(min.getResult(minData)).isNull();
+
+        for (int value : new int[] { 5, 1, 9, 1, 7 }) {
+            min.accumulate(minData, value);
+            max.accumulate(maxData, value);
+        }
+        assertThat(min.getResult(minData)).isEqualTo(1);
+        assertThat(max.getResult(maxData)).isEqualTo(9);
+
+        // the min occurs twice, so it is still there after one of them has been reversed
+        assertThat(min.tryReverse(minData, 1)).isTrue();
+        assertThat(min.getResult(minData)).isEqualTo(1);
+        assertThat(min.tryReverse(minData, 1)).isTrue();
+        assertThat(min.getResult(minData)).isEqualTo(5);
+
+        assertThat(max.tryReverse(maxData, 9)).isTrue();
+        assertThat(max.getResult(maxData)).isEqualTo(7);
+
+        min.init(minData);
+        assertThat(min.getResult(minData)).isNull();
+    }
+
+    @Test
+    public void comparesNumbersOfDifferentTypes() {
+        NumericMaxAccumulateFunction max = new NumericMaxAccumulateFunction();
+        NumericMaxAccumulateFunction.MaxData data = max.createContext();
+        max.init(data);
+
+        max.accumulate(data, 3);
+        max.accumulate(data, 2.5d);
+        max.accumulate(data, 7L);
+        assertThat(max.getResult(data)).isEqualTo(7L);
+
+        max.reverse(data, 7L);
+        assertThat(max.getResult(data)).isEqualTo(3);
+    }
+
+    @Test
+    public void serializesTheAccumulatedValues() throws Exception {
+        NumericMinAccumulateFunction min = new NumericMinAccumulateFunction();
+        NumericMinAccumulateFunction.MinData data = min.createContext();
+        min.accumulate(data, 4);
+        min.accumulate(data, 2.5d);
+
+        NumericMinAccumulateFunction.MinData copy = copy(data);
+        assertThat(min.getResult(copy)).isEqualTo(2.5d);
+        min.reverse(copy, 2.5d);
+        assertThat(min.getResult(copy)).isEqualTo(4);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Serializable> T copy(T object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.base.common.EvaluationExecutor;
+import org.drools.base.common.PartitionsManager;
+import org.junit.Test;
+import org.kie.internal.conf.EvaluationExecutorOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EvaluationExecutorTest {
+
+    @Test(timeout = 10000L)
+    public void testNestedEvaluationsOnBoundedCustomExecutor() {
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        try {
+            EvaluationExecutor executor = EvaluationExecutor.create(EvaluationExecutorOption.custom(pool));
+            AtomicInteger counter = new AtomicInteger();
+            // the nested evaluations run inline instead of waiting for the single thread of the pool
+            executor.invokeAll(4, i -> executor.invokeAll(4, j -> counter.incrementAndGet()));
+            assertThat(counter.get()).isEqualTo(16);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000L)
+    public void testEvaluationOnSaturatedCustomExecutor() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        try {
+            pool.execute(() -> {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            EvaluationExecutor executor = EvaluationExecutor.create(EvaluationExecutorOption.custom(pool));
+            AtomicInteger counter = new AtomicInteger();
+            // the caller runs the tasks that the busy pool didn't start
+            executor.invokeAll(4, i -> counter.incrementAndGet());
+            assertThat(counter.get()).isEqualTo(4);
+        } finally {
+            blocker.countDown();
+            pool.shutdown();
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testShutdownOnlyOwnedExecutors() {
+        PartitionsManager partitionsManager = new PartitionsManager();
+        partitionsManager.setEvaluationExecutorOption(EvaluationExecutorOption.forkJoin(2));
+        EvaluationExecutor forkJoin = partitionsManager.getEvaluationExecutor();
+        forkJoin.invokeAll(2, i -> { });
+
+        partitionsManager.shutdownEvaluationExecutor();
+        assertThatThrownBy(() -> forkJoin.invokeAll(2, i -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(partitionsManager.getEvaluationExecutor()).isNotSameAs(forkJoin);
+        partitionsManager.shutdownEvaluationExecutor();
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            partitionsManager.setEvaluationExecutorOption(EvaluationExecutorOption.custom(pool));
+            partitionsManager.getEvaluationExecutor().invokeAll(2, i -> { });
+            partitionsManager.shutdownEvaluationExecutor();
+            // the caller manages the lifecycle of its own executor
+            assertThat(pool.isShutdown()).isFalse();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDeserializedCustomExecutor() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        EvaluationExecutorOption deserialized;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(EvaluationExecutorOption.custom(pool));
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                deserialized = (EvaluationExecutorOption) in.readObject();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // the executor supplied by the caller isn't serialized, so the shared one is used instead
+        assertThat(deserialized).isEqualTo(EvaluationExecutorOption.SHARED);
+        AtomicInteger counter = new AtomicInteger();
+        EvaluationExecutor.create(deserialized).invokeAll(4, i -> counter.incrementAndGet());
+        assertThat(counter.get()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.api.runtime.ClassObjectFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapObjectStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private long idCounter;
+
+    @Test
+    public void storesSerializableFactsOffHeap() {
+        OffHeapObjectStore store = newStore(false);
+        Person mario = new Person("Mario", 46);
+
+        InternalFactHandle handle = insert(store, mario);
+
+        assertThat(handle).isInstanceOf(OffHeapFactHandle.class);
+        assertThat(((OffHeapFactHandle) handle).isOffHeap()).isTrue();
+        assertThat(store.getStorage().getLiveBytes()).isPositive();
+        assertThat(handle.getObject()).isSameAs(mario);
+        assertThat(store.getHandleForObject(mario)).isSameAs(handle);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void deserializesUnloadedFacts() {
+        OffHeapObjectStore store = newStore(false);
+        Person mario = new Person("Mario", 46);
+        OffHeapFactHandle handle = (OffHeapFactHandle) insert(store, mario);
+
+        handle.unload();
+        assertThat(handle.getObjectIfLoaded()).isNull();
+
+        Object copy = handle.getObject();
+        assertThat(copy).isNotSameAs(mario).isEqualTo(mario);
+        assertThat(handle.getObject()).isSameAs(copy);
+
+        // both the inserted fact and its deserialized copy can be found by identity
+        assertThat(store.getHandleForObject(copy)).isSameAs(handle);
+        assertThat(store.getHandleForObject(mario)).isNull();
+        assertThat(store.getHandleForObject(new Person("Mario", 46))).isNull();
+    }
+
+    @Test
+    public void findsEqualFactsWithEqualityBehaviour() {
+        OffHeapObjectStore store = newStore(true);
+        OffHeapFactHandle handle = (OffHeapFactHandle) insert(store, new Person("Mario", 46));
+        handle.unload();
+
+        assertThat(store.getHandleForObject(new Person("Mario", 46))).isSameAs(handle);
+        assertThat(store.getHandleForObject(new Person("Mark", 42))).isNull();
+    }
+
+    @Test
+    public void keepsNotSerializableFactsOnHeap() {
+        OffHeapObjectStore store = newStore(false);
+        Object fact = new Object();
+
+        InternalFactHandle handle = insert(store, fact);
+
+        assertThat(handle).isNotInstanceOf(OffHeapFactHandle.class);
+        assertThat(store.getHandleForObject(fact)).isSameAs(handle);
+        assertThat(store.getStorage().getLiveBytes()).isZero();
+    }
+
+    @Test
+    public void removingAFactBringsItBackOnHeap() {
+        OffHeapObjectStore store = newStore(false);
+        OffHeapFactHandle handle = (OffHeapFactHandle) insert(store, new Person("Mario", 46));
+        handle.unload();
+
+        store.removeHandle(handle);
+
+        assertThat(handle.isOffHeap()).isFalse();
+        assertThat(handle.getObject()).isEqualTo(new Person("Mario", 46));
+        assertThat(store.isEmpty()).isTrue();
+        assertThat(store.getStorage().getLiveBytes()).isZero();
+    }
+
+    @Test
+    public void updatingAFactRefreshesItsSerializedCopy() {
+        OffHeapObjectStore store = newStore(false);
+        Person mario = new Person("Mario", 46);
+        OffHeapFactHandle handle = (OffHeapFactHandle) insert(store, mario);
+
+        mario.age = 47;
+        handle.setObject(mario);
+        handle.unload();
+
+        assertThat(((Person) handle.getObject()).age).isEqualTo(47);
+        assertThat(store.getHandleForObject(handle.getObject())).isSameAs(handle);
+    }
+
+    @Test
+    public void iteratesByClassWithoutDeserializing() {
+        OffHeapObjectStore store = newStore(false);
+        OffHeapFactHandle mario = (OffHeapFactHandle) insert(store, new Person("Mario", 46));
+        insert(store, new Employee("Mark", 42));
+        insert(store, "not a person");
+        mario.unload();
+
+        assertThat(collect(store.getStoreForClass(Employee.class).iterator())).hasSize(1);
+        assertThat(collect(store.iterateFactHandles(new ClassObjectFilter(Person.class)))).hasSize(2);
+        assertThat(mario.getObjectIfLoaded()).isNull();
+
+        assertThat(collect(store.iterateObjects())).hasSize(3).contains(new Person("Mario", 46), "not a person");
+    }
+
+    @Test
+    public void windowClonesOfOffHeapEventsDontPinThem() {
+        OffHeapObjectStore store = newStore(false);
+        Person mario = new Person("Mario", 46);
+        long id = ++idCounter;
+        OffHeapEventHandle handle = (OffHeapEventHandle) store.createEventHandle(id, mario, id, 1000L, 10L, null);
+        store.addHandle(handle, mario);
+
+        assertThat(handle.isOffHeap()).isTrue();
+        assertThat(handle.getEndTimestamp()).isEqualTo(1010L);
+
+        DefaultEventHandle windowClone = handle.cloneAndLink();
+        assertThat(windowClone.getObject()).isSameAs(mario);
+
+        handle.unload();
+        assertThat(handle.getObjectIfLoaded()).isNull();
+        assertThat(windowClone.getObjectClassName()).isEqualTo(Person.class.getName());
+
+        Object copy = windowClone.getObject();
+        assertThat(copy).isNotSameAs(mario).isEqualTo(mario);
+        assertThat(handle.getObject()).isSameAs(copy);
+        assertThat(store.getHandleForObject(copy)).isSameAs(handle);
+
+        store.removeHandle(handle);
+        assertThat(handle.isOffHeap()).isFalse();
+        assertThat(windowClone.getObject()).isSameAs(copy);
+        assertThat(store.getStorage().getLiveBytes()).isZero();
+    }
+
+    @Test
+    public void storesFactsInMappedFiles() throws Exception {
+        OffHeapFactStorage storage = new OffHeapFactStorage(folder.getRoot().toPath(), 1024, getClass().getClassLoader());
+        OffHeapObjectStore store = new OffHeapObjectStore(storage, false);
+
+        List<OffHeapFactHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add((OffHeapFactHandle) insert(store, new Person("Person" + i, i)));
+        }
+        assertThat(folder.getRoot().list()).hasSizeGreaterThan(1);
+
+        for (int i = 0; i < 100; i++) {
+            OffHeapFactHandle handle = handles.get(i);
+            handle.unload();
+            assertThat(handle.getObject()).isEqualTo(new Person("Person" + i, i));
+        }
+
+        handles.forEach(store::removeHandle);
+        assertThat(storage.getLiveBytes()).isZero();
+        // only the chunk currently being filled is kept
+        assertThat(folder.getRoot().list()).hasSize(1);
+
+        store.clear();
+        assertThat(folder.getRoot().list()).isEmpty();
+    }
+
+    private OffHeapObjectStore newStore(boolean equality) {
+        return new OffHeapObjectStore(new OffHeapFactStorage(null, 1024, getClass().getClassLoader()), equality);
+    }
+
+    private InternalFactHandle insert(OffHeapObjectStore store, Object object) {
+        long id = ++idCounter;
+        InternalFactHandle handle = store.createFactHandle(id, object, id, null);
+        if (handle == null) {
+            handle = new DefaultFactHandle(id, object);
+        }
+        store.addHandle(handle, object);
+        return handle;
+    }
+
+    private static List<Object> collect(Iterator<?> iterator) {
+        List<Object> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    public static class Person implements Serializable {
+        private final String name;
+        private int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Person person = (Person) o;
+            return age == person.age && name.equals(person.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, age);
+        }
+    }
+
+    public static class Employee extends Person {
+        public Employee(String name, int age) {
+            super(name, age);
+        }
+    }
+}
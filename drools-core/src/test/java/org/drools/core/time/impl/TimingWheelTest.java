@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTest {
+
+    @Test
+    public void pollsTimeoutsInDeadlineOrder() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.add("c", 5_000_000L);
+        wheel.add("a", 10L);
+        wheel.add("b", 70L);
+        wheel.add("b'", 70L);
+
+        assertThat(wheel.size()).isEqualTo(4);
+        assertThat(wheel.getNextDeadline()).isEqualTo(10L);
+        assertThat(wheel.poll(9L)).isNull();
+
+        assertThat(pollAll(wheel, 100L)).containsExactly("a", "b", "b'");
+        assertThat(wheel.getNextDeadline()).isEqualTo(5_000_000L);
+        assertThat(wheel.poll(4_999_999L)).isNull();
+
+        TimingWheel.Timeout<String> timeout = wheel.poll(Long.MAX_VALUE);
+        assertThat(timeout.getElement()).isEqualTo("c");
+        assertThat(timeout.getDeadline()).isEqualTo(5_000_000L);
+        assertThat(timeout.isScheduled()).isFalse();
+        assertThat(wheel.isEmpty()).isTrue();
+        assertThat(wheel.getNextDeadline()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void expiredTimeoutsArePolledFirst() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        wheel.add("later", 1001L);
+        wheel.add("past", 10L);
+
+        assertThat(wheel.getNextDeadline()).isEqualTo(10L);
+        assertThat(pollAll(wheel, 1000L)).containsExactly("past");
+        assertThat(pollAll(wheel, 1001L)).containsExactly("later");
+    }
+
+    @Test
+    public void removesTimeouts() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timeout<String> a = wheel.add("a", 100_000L);
+        TimingWheel.Timeout<String> b = wheel.add("b", 100_000L);
+        wheel.add("c", 100_001L);
+
+        assertThat(wheel.remove(a)).isTrue();
+        assertThat(wheel.remove(a)).isFalse();
+        assertThat(a.isScheduled()).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+
+        assertThat(wheel.remove(b)).isTrue();
+        assertThat(wheel.getNextDeadline()).isEqualTo(100_001L);
+        assertThat(pollAll(wheel, Long.MAX_VALUE)).containsExactly("c");
+    }
+
+    @Test
+    public void behavesAsAPriorityQueue() {
+        Random random = new Random(0);
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        List<TimingWheel.Timeout<Long>> timeouts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long deadline = random.nextInt(4) == 0 ? random.nextInt(1000) : (long) (random.nextDouble() * 100_000_000_000L);
+            timeouts.add(wheel.add(deadline, deadline));
+        }
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < timeouts.size(); i++) {
+            if (i % 3 == 0) {
+                wheel.remove(timeouts.get(i));
+            } else {
+                expected.add(timeouts.get(i).getDeadline());
+            }
+        }
+        expected.sort(Comparator.naturalOrder());
+
+        List<Long> polled = new ArrayList<>();
+        long time = 0;
+        while (!wheel.isEmpty()) {
+            time += random.nextInt(1_000_000_000);
+            assertThat(wheel.getNextPollTime()).isLessThanOrEqualTo(wheel.getNextDeadline());
+            for (TimingWheel.Timeout<Long> timeout = wheel.poll(time); timeout != null; timeout = wheel.poll(time)) {
+                assertThat(timeout.getDeadline()).isLessThanOrEqualTo(time);
+                polled.add(timeout.getElement());
+            }
+        }
+        assertThat(polled).isEqualTo(expected);
+    }
+
+    private static List<String> pollAll(TimingWheel<String> wheel, long time) {
+        List<String> polled = new ArrayList<>();
+        for (TimingWheel.Timeout<String> timeout = wheel.poll(time); timeout != null; timeout = wheel.poll(time)) {
+            polled.add(timeout.getElement());
+        }
+        return polled;
+    }
+}
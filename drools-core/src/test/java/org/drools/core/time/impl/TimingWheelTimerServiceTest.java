@@ -0,0 +1,88 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.base.time.JobHandle;
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.JDKTimerServiceTest.DelayedTrigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJob;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJobContext;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTimerServiceTest {
+
+    @Test
+    public void testRealtimeTimingWheel() throws Exception {
+        TimerService timeService = createTimerService(ClockType.REALTIME_CLOCK);
+        assertThat(timeService).isInstanceOf(TimingWheelTimerService.class);
+
+        HelloWorldJobContext single = new HelloWorldJobContext("single", timeService);
+        timeService.scheduleJob(new HelloWorldJob(), single, new DelayedTrigger(100));
+        HelloWorldJobContext repeated = new HelloWorldJobContext("repeated", timeService);
+        timeService.scheduleJob(new HelloWorldJob(), repeated, new DelayedTrigger(new long[] { 100, 100, 100 }));
+        HelloWorldJobContext removed = new HelloWorldJobContext("removed", timeService);
+        JobHandle removedHandle = timeService.scheduleJob(new HelloWorldJob(), removed, new DelayedTrigger(200));
+        timeService.removeJob(removedHandle);
+
+        Thread.sleep(500);
+        timeService.shutdown();
+        assertThat(single.getList()).hasSize(1);
+        assertThat(repeated.getList()).hasSize(3);
+        assertThat(removed.getList()).isEmpty();
+    }
+
+    @Test
+    public void testPseudoClockTimingWheel() {
+        TimingWheelPseudoClockScheduler scheduler = (TimingWheelPseudoClockScheduler) createTimerService(ClockType.PSEUDO_CLOCK);
+        HelloWorldJobContext first = new HelloWorldJobContext("first", scheduler);
+        HelloWorldJobContext second = new HelloWorldJobContext("second", scheduler);
+        HelloWorldJobContext removed = new HelloWorldJobContext("removed", scheduler);
+
+        scheduler.scheduleJob(new HelloWorldJob(), second, new PointInTimeTrigger(2000));
+        scheduler.scheduleJob(new HelloWorldJob(), first, new PointInTimeTrigger(1000));
+        JobHandle removedHandle = scheduler.scheduleJob(new HelloWorldJob(), removed, new PointInTimeTrigger(1500));
+        assertThat(scheduler.getTimeToNextJob()).isEqualTo(1000L);
+
+        scheduler.removeJob(removedHandle);
+        scheduler.advanceTime(1500, TimeUnit.MILLISECONDS);
+        assertThat(first.getList()).hasSize(1);
+        assertThat(second.getList()).isEmpty();
+        assertThat(scheduler.getTimeToNextJob()).isEqualTo(500L);
+
+        scheduler.advanceTime(1, TimeUnit.DAYS);
+        assertThat(second.getList()).hasSize(1);
+        assertThat(removed.getList()).isEmpty();
+        assertThat(scheduler.getTimeToNextJob()).isEqualTo(-1L);
+        assertThat(scheduler.getCurrentTime()).isEqualTo(1500L + TimeUnit.DAYS.toMillis(1));
+    }
+
+    private static TimerService createTimerService(ClockType clockType) {
+        SessionConfiguration config = RuleBaseFactory.newKnowledgeSessionConfiguration().as(SessionConfiguration.KEY);
+        config.setClockType(clockType);
+        config.setTimingWheel(true);
+        return config.createTimerService();
+    }
+}
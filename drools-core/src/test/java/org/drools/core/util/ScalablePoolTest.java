@@ -18,6 +18,8 @@
  */
 package org.drools.core.util;
 
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -109,6 +111,73 @@ public class ScalablePoolTest {
         check( monitor, 5, 2, 5 );
     }
 
+    @Test
+    public void testMaxSizeEvictsLeastRecentlyUsed() {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 3, 2, -1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        // no more than the max size is eagerly created
+        check( monitor, 2, 0, 0 );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        PooledResource resource3 = pool.get();
+        check( monitor, 3, 0, 0 );
+
+        pool.release( resource1 );
+        pool.release( resource2 );
+        check( monitor, 3, 2, 0 );
+
+        // the pool is full, so the least recently released resource is disposed
+        pool.release( resource3 );
+        check( monitor, 3, 3, 1 );
+
+        // the most recently released resource is lent first
+        assertThat(pool.get()).isSameAs(resource3);
+        assertThat(pool.get()).isSameAs(resource2);
+
+        ScalablePool.Statistics statistics = pool.getStatistics();
+        assertThat(statistics.getHits()).isEqualTo(4);
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getEvictions()).isEqualTo(1);
+        assertThat(statistics.getIdleSize()).isZero();
+        assertThat(statistics.getSize()).isEqualTo(2);
+
+        pool.shutdown();
+        check( monitor, 3, 3, 3 );
+    }
+
+    @Test
+    public void testIdleTimeout() {
+        Monitor monitor = new Monitor();
+        long[] now = new long[1];
+        ScalablePool<PooledResource> pool = new ScalablePool<PooledResource>( 2, -1, 10, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose ) {
+            @Override
+            protected long nanoTime() {
+                return now[0];
+            }
+        };
+        check( monitor, 2, 0, 0 );
+
+        PooledResource resource1 = pool.get();
+        now[0] = TimeUnit.MILLISECONDS.toNanos( 5 );
+        pool.release( resource1 );
+
+        // the eagerly created resource has been idle for too long
+        now[0] = TimeUnit.MILLISECONDS.toNanos( 12 );
+        assertThat(pool.get()).isSameAs(resource1);
+        check( monitor, 2, 1, 1 );
+
+        pool.release( resource1 );
+        now[0] = TimeUnit.MILLISECONDS.toNanos( 30 );
+        PooledResource resource2 = pool.get();
+        assertThat(resource2).isNotSameAs(resource1);
+        check( monitor, 3, 2, 2 );
+
+        assertThat(pool.getStatistics().getEvictions()).isEqualTo(2);
+        assertThat(pool.getStatistics().getMisses()).isEqualTo(1);
+    }
+
     private void check( Monitor monitor, int expectedNew, int expectedReset, int expectedDispose ) {
         assertThat(monitor.newCounter).isEqualTo(expectedNew);
         assertThat(monitor.resetCounter).isEqualTo(expectedReset);
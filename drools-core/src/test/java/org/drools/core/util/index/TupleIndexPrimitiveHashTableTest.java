@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.drools.base.base.ClassObjectType;
+import org.drools.base.base.ValueResolver;
+import org.drools.base.base.ValueType;
+import org.drools.base.base.extractors.BaseObjectClassFieldReader;
+import org.drools.base.rule.Declaration;
+import org.drools.base.rule.Pattern;
+import org.drools.base.util.FieldIndex;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.reteoo.AbstractTuple;
+import org.drools.core.reteoo.JoinNodeLeftTuple;
+import org.drools.core.reteoo.RightTuple;
+import org.drools.core.reteoo.RightTupleImpl;
+import org.drools.core.reteoo.Tuple;
+import org.drools.core.util.FastIterator;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TupleIndexPrimitiveHashTableTest {
+
+    public static class Item {
+        private long id;
+        private final double weight;
+
+        public Item(long id, double weight) {
+            this.id = id;
+            this.weight = weight;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+    }
+
+    private static class ItemReader extends BaseObjectClassFieldReader {
+        private final Function<Item, Object> getter;
+
+        ItemReader(Class<?> fieldType, ValueType valueType, Function<Item, Object> getter) {
+            super(0, fieldType, valueType);
+            this.getter = getter;
+        }
+
+        @Override
+        public Object getValue(ValueResolver valueResolver, Object object) {
+            return getter.apply((Item) object);
+        }
+    }
+
+    private static FieldIndex idIndex() {
+        return fieldIndex(new ItemReader(long.class, ValueType.PLONG_TYPE, Item::getId));
+    }
+
+    private static FieldIndex weightIndex() {
+        return fieldIndex(new ItemReader(double.class, ValueType.PDOUBLE_TYPE, Item::getWeight));
+    }
+
+    private static FieldIndex fieldIndex(ItemReader reader) {
+        Pattern pattern = new Pattern(0, new ClassObjectType(Item.class));
+        return new FieldIndex(reader, new Declaration("$key", reader, pattern));
+    }
+
+    private static RightTuple rightTuple(long id, Item item) {
+        return new RightTupleImpl(new DefaultFactHandle(id, item), null);
+    }
+
+    private static Tuple leftTuple(Item item) {
+        return new JoinNodeLeftTuple(new DefaultFactHandle(0, item), null, true);
+    }
+
+    private static List<Tuple> bucketOf(TupleIndexPrimitiveHashTable table, Item key) {
+        List<Tuple> tuples = new ArrayList<>();
+        for (Tuple tuple = table.getFirst(leftTuple(key)); tuple != null; tuple = tuple.getNext()) {
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
+    @Test
+    public void testAddAndGetFirst() {
+        TupleIndexPrimitiveHashTable table = new TupleIndexPrimitiveHashTable(idIndex(), false);
+        assertThat(table.getFirst(leftTuple(new Item(1, 0)))).isNull();
+
+        // enough distinct keys to force several resizes of the open addressing table
+        List<RightTuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            RightTuple rightTuple = rightTuple(i, new Item(i % 500, 0));
+            tuples.add(rightTuple);
+            table.add(rightTuple);
+        }
+        assertThat(table.size()).isEqualTo(1000);
+
+        for (int i = 0; i < 500; i++) {
+            List<Tuple> bucket = bucketOf(table, new Item(i, 0));
+            assertThat(bucket).containsExactly(tuples.get(i), tuples.get(i + 500));
+        }
+        assertThat(table.getFirst(leftTuple(new Item(500, 0)))).isNull();
+    }
+
+    @Test
+    public void testRemove() {
+        TupleIndexPrimitiveHashTable table = new TupleIndexPrimitiveHashTable(idIndex(), false);
+        List<RightTuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            RightTuple rightTuple = rightTuple(i, new Item(i, 0));
+            tuples.add(rightTuple);
+            table.add(rightTuple);
+        }
+
+        // removing every other bucket shifts back the clustered buckets, the remaining ones must be still reachable
+        for (int i = 0; i < 300; i += 2) {
+            table.remove(tuples.get(i));
+        }
+        assertThat(table.size()).isEqualTo(150);
+        for (int i = 0; i < 300; i++) {
+            List<Tuple> bucket = bucketOf(table, new Item(i, 0));
+            if (i % 2 == 0) {
+                assertThat(bucket).isEmpty();
+            } else {
+                assertThat(bucket).containsExactly(tuples.get(i));
+            }
+        }
+
+        for (int i = 1; i < 300; i += 2) {
+            table.remove(tuples.get(i));
+        }
+        assertThat(table.size()).isZero();
+        assertThat(table.toArray()).isEmpty();
+    }
+
+    @Test
+    public void testRemoveAdd() {
+        TupleIndexPrimitiveHashTable table = new TupleIndexPrimitiveHashTable(idIndex(), false);
+        Item item = new Item(1, 0);
+        RightTuple first = rightTuple(1, item);
+        RightTuple second = rightTuple(2, new Item(1, 0));
+        table.add(first);
+        table.add(second);
+
+        // same key, the tuple is moved at the end of its bucket
+        table.removeAdd(first);
+        assertThat(bucketOf(table, new Item(1, 0))).containsExactly(second, first);
+
+        // the key changed, the tuple is moved to the new bucket
+        item.setId(2);
+        table.removeAdd(first);
+        assertThat(bucketOf(table, new Item(1, 0))).containsExactly(second);
+        assertThat(bucketOf(table, new Item(2, 0))).containsExactly(first);
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDoubleKeysFollowDoubleEquals() {
+        TupleIndexPrimitiveHashTable table = new TupleIndexPrimitiveHashTable(weightIndex(), false);
+        RightTuple nan = rightTuple(1, new Item(0, Double.NaN));
+        RightTuple zero = rightTuple(2, new Item(0, 0.0));
+        table.add(nan);
+        table.add(zero);
+
+        assertThat(bucketOf(table, new Item(0, Double.NaN))).containsExactly(nan);
+        assertThat(bucketOf(table, new Item(0, 0.0))).containsExactly(zero);
+        assertThat(bucketOf(table, new Item(0, -0.0))).isEmpty();
+    }
+
+    @Test
+    public void testFullFastIterator() {
+        TupleIndexPrimitiveHashTable table = new TupleIndexPrimitiveHashTable(idIndex(), true);
+        for (int i = 0; i < 200; i++) {
+            table.add(new JoinNodeLeftTuple(new DefaultFactHandle(i, new Item(i % 70, 0)), null, true));
+        }
+
+        Set<Tuple> visited = new HashSet<>();
+        FastIterator<AbstractTuple> it = table.fullFastIterator();
+        for (AbstractTuple tuple = it.next(null); tuple != null; tuple = it.next(tuple)) {
+            assertThat(visited.add(tuple)).isTrue();
+        }
+        assertThat(visited).hasSize(200);
+        assertThat(table.toArray()).hasSize(200).containsOnlyElementsOf(visited);
+    }
+}
@@ -19,7 +19,7 @@
 package org.drools.kiesession.agenda;
 
 import org.drools.base.common.NetworkNode;
-import org.drools.base.common.PartitionsManager;
+import org.drools.base.common.EvaluationExecutor;
 import org.drools.core.common.ActivationsFilter;
 import org.drools.core.common.AgendaGroupsManager;
 import org.drools.core.common.InternalActivationGroup;
@@ -53,10 +53,10 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.runAsync;
-import static org.drools.base.common.PartitionsManager.doOnForkJoinPool;
 
 public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
@@ -110,6 +110,10 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         return agendas[0].getWorkingMemory();
     }
 
+    private EvaluationExecutor getEvaluationExecutor() {
+        return getReteEvaluator().getKnowledgeBase().getEvaluationExecutor();
+    }
+
     @Override
     public AgendaGroupsManager getAgendaGroupsManager() {
         return agendas[0].getAgendaGroupsManager();
@@ -159,7 +163,9 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
     }
 
     private int parallelFire( AgendaFilter agendaFilter, int fireLimit ) {
-        return doOnForkJoinPool(() -> Stream.of(agendas).parallel().mapToInt(a -> a.internalFireAllRules( agendaFilter, fireLimit, false )).sum() );
+        int[] fireCounts = new int[agendas.length];
+        getEvaluationExecutor().invokeAll(agendas.length, i -> fireCounts[i] = agendas[i].internalFireAllRules( agendaFilter, fireLimit, false ));
+        return IntStream.of(fireCounts).sum();
     }
 
     @Override
@@ -183,7 +189,8 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
             log.trace("Starting Fire Until Halt");
         }
 
-        ExecutorService fireUntilHaltExecutor = PartitionsManager.borrowFireUntilHaltExecutors();
+        EvaluationExecutor evaluationExecutor = getEvaluationExecutor();
+        ExecutorService fireUntilHaltExecutor = evaluationExecutor.borrowFireUntilHaltExecutor();
         if (executionStateMachine.toFireUntilHalt()) {
             try {
                 while ( isFiring() ) {
@@ -196,7 +203,7 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
                 }
             } finally {
                 executionStateMachine.immediateHalt( propagationList );
-                PartitionsManager.offerFireUntilHaltExecutors(fireUntilHaltExecutor);
+                evaluationExecutor.offerFireUntilHaltExecutor(fireUntilHaltExecutor);
             }
         }
 
@@ -497,7 +504,10 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
     @Override
     public void resetKnowledgeHelper() {
-        throw new UnsupportedOperationException( "This method has to be called on the single partitioned agendas" );
+        // TMS can be enabled by a logical insert fired by any of the partitions
+        for ( DefaultAgenda agenda : agendas ) {
+            agenda.resetKnowledgeHelper();
+        }
     }
 
     @Override
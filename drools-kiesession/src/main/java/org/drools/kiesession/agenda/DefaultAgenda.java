@@ -35,6 +35,7 @@ import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.InternalWorkingMemoryEntryPoint;
 import org.drools.core.common.PropagationContext;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.common.ReteEvaluator.InternalOperationType;
 import org.drools.core.common.RuleFlowGroup;
 import org.drools.core.concurrent.GroupEvaluator;
 import org.drools.core.concurrent.ParallelGroupEvaluator;
@@ -42,6 +43,7 @@ import org.drools.core.concurrent.SequentialGroupEvaluator;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.impl.InternalRuleBase;
 import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
@@ -64,6 +66,7 @@ import org.kie.api.conf.EventProcessingOption;
 import org.kie.api.event.rule.MatchCancelledCause;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.api.runtime.rule.AgendaGroup;
+import org.kie.internal.runtime.conf.PropagationListOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,6 +76,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Rule-firing Agenda.
@@ -191,8 +196,12 @@ public class DefaultAgenda implements InternalAgenda {
             return new ThreadUnsafePropagationList( workingMemory );
         }
 
-        return workingMemory.getRuleSessionConfiguration().hasForceEagerActivationFilter() ?
-               new SynchronizedBypassPropagationList( workingMemory ) :
+        if (workingMemory.getRuleSessionConfiguration().hasForceEagerActivationFilter()) {
+            return new SynchronizedBypassPropagationList( workingMemory );
+        }
+
+        return workingMemory.getRuleSessionConfiguration().getPropagationListOption() == PropagationListOption.LOCK_FREE ?
+               new LockFreePropagationList( workingMemory ) :
                new SynchronizedPropagationList( workingMemory );
     }
 
@@ -545,6 +554,94 @@ public class DefaultAgenda implements InternalAgenda {
         }
     }
 
+    @Override
+    public void scheduleFireUntilHalt(final AgendaFilter agendaFilter, final Executor executor) {
+        if ( !executionStateMachine.toFireUntilHalt() ) {
+            return;
+        }
+        ScheduledFireUntilHalt scheduledFireUntilHalt = new ScheduledFireUntilHalt( this, agendaFilter, executor );
+        propagationList.setFiringUntilHalt( true );
+        propagationList.setRestWakeUp( scheduledFireUntilHalt::wakeUp );
+        // starts at rest, so the first firing can be scheduled like all the following ones
+        executionStateMachine.inactiveOnFireUntilHalt();
+        scheduledFireUntilHalt.wakeUp();
+    }
+
+    /**
+     * Fires the activations of an agenda in event driven fireUntilHalt mode. Each firing runs on the executor until
+     * the engine comes to rest, then it leaves the state machine in INACTIVE_ON_FIRING_UNTIL_HALT, as a thread waiting
+     * on rest would do, and returns. The propagation list wakes it up when a new entry arrives, scheduling a new firing.
+     */
+    static class ScheduledFireUntilHalt {
+        private final DefaultAgenda agenda;
+        private final AgendaFilter agendaFilter;
+        private final Executor executor;
+
+        // true while a firing is scheduled or running, so that there is never more than one of them
+        private final AtomicBoolean scheduled = new AtomicBoolean( false );
+
+        private volatile boolean stopped = false;
+
+        ScheduledFireUntilHalt( DefaultAgenda agenda, AgendaFilter agendaFilter, Executor executor ) {
+            this.agenda = agenda;
+            this.agendaFilter = agendaFilter;
+            this.executor = executor;
+        }
+
+        void wakeUp() {
+            if (!stopped && scheduled.compareAndSet( false, true )) {
+                executor.execute( this::fire );
+            }
+        }
+
+        private void fire() {
+            if (stopped || !agenda.executionStateMachine.toFireUntilHalt()) {
+                scheduled.set( false );
+                return;
+            }
+
+            InternalWorkingMemory workingMemory = agenda.getWorkingMemory();
+            workingMemory.startOperation( InternalOperationType.FIRE );
+            ScheduledRestHandler restHandler = new ScheduledRestHandler();
+            boolean atRest = false;
+            try {
+                agenda.fireLoop( agendaFilter, -1, restHandler, false );
+                atRest = restHandler.atRest && agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT;
+            } catch (RuntimeException e) {
+                log.error( "Error while firing until halt", e );
+            } finally {
+                if (atRest) {
+                    agenda.executionStateMachine.inactiveOnFireUntilHalt();
+                    scheduled.set( false );
+                    // an entry added before this firing has been unscheduled couldn't schedule a new one
+                    if (agenda.hasPendingPropagations()) {
+                        wakeUp();
+                    }
+                } else {
+                    // halted, disposed or failed: no further firing must be scheduled
+                    stopped = true;
+                    agenda.propagationList.setRestWakeUp( null );
+                    agenda.propagationList.setFiringUntilHalt( false );
+                    agenda.executionStateMachine.immediateHalt( agenda.propagationList );
+                }
+                workingMemory.endOperation( InternalOperationType.FIRE );
+            }
+        }
+
+        private static class ScheduledRestHandler implements RestHandler {
+            private boolean atRest;
+
+            @Override
+            public PropagationEntry handleRest( DefaultAgenda agenda, boolean isInternalFire ) {
+                // the engine stays in FIRING_UNTIL_HALT state until the firing loop is over, so the
+                // entries added in the meanwhile are enqueued and found by the check on pending propagations
+                PropagationEntry head = agenda.propagationList.takeAll();
+                atRest = head == null;
+                return head;
+            }
+        }
+    }
+
     void internalFireUntilHalt( AgendaFilter agendaFilter, boolean isInternalFire ) {
         propagationList.setFiringUntilHalt( true );
         try {
@@ -681,20 +778,11 @@ public class DefaultAgenda implements InternalAgenda {
                     deactivated = true;
                 }
 
-                PropagationEntry head;
-                // this must use the same sync target as takeAllPropagations, to ensure this entire block is atomic, up to the point of wait
-                synchronized (agenda.propagationList) {
-                    head = agenda.propagationList.takeAll();
-
-                    // if halt() has called, the thread should not be put into a wait state
-                    // instead this is just a safe way to make sure the queue is flushed before exiting the loop
-                    if (head == null && (
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT )) {
-                        agenda.propagationList.waitOnRest();
-                        head = agenda.propagationList.takeAll();
-                    }
-                }
+                // if halt() has called, the thread should not be put into a wait state
+                // instead this is just a safe way to make sure the queue is flushed before exiting the loop
+                PropagationEntry head = agenda.propagationList.takeAllOrWaitOnRest( () ->
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT );
 
                 if (deactivated) {
                     agenda.executionStateMachine.toFireUntilHalt();
@@ -32,6 +32,9 @@ import org.drools.core.common.IdentityObjectStore;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.InternalWorkingMemoryEntryPoint;
+import org.drools.core.common.OffHeapHandle;
+import org.drools.core.common.OffHeapFactStorage;
+import org.drools.core.common.OffHeapObjectStore;
 import org.drools.core.common.ObjectStore;
 import org.drools.core.common.ObjectStoreWrapper;
 import org.drools.core.common.ObjectTypeConfigurationRegistry;
@@ -40,6 +43,7 @@ import org.drools.core.common.PropagationContextFactory;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.TruthMaintenanceSystemFactory;
 import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.reteoo.ClassObjectTypeConf;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
@@ -51,6 +55,7 @@ import org.drools.util.bitmask.AllSetBitMask;
 import org.drools.util.bitmask.BitMask;
 import org.kie.api.conf.KieBaseMutabilityOption;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.OffHeapFactsOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,10 +64,15 @@ import java.beans.PropertyChangeListener;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -97,6 +107,8 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     private boolean isEqualityBehaviour = false;
 
+    private boolean offHeapEvents = false;
+
     protected NamedEntryPoint() {
         lock = null;
         reteEvaluator = null;
@@ -109,7 +121,9 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         this.entryPointNode = entryPointNode;
         this.reteEvaluator = reteEvaluator;
         this.ruleBase = this.reteEvaluator.getKnowledgeBase();
-        this.lock = reteEvaluator.getRuleSessionConfiguration().isThreadSafe() ? new ReentrantLock() : null;
+        // the partitions of a parallel evaluation change the object store concurrently, e.g. through the TMS
+        this.lock = reteEvaluator.getRuleSessionConfiguration().isThreadSafe() || ruleBase.getRuleBaseConfiguration().isParallelEvaluation() ?
+                new ReentrantLock() : null;
         this.handleFactory = this.reteEvaluator.getFactHandleFactory();
 
         RuleBaseConfiguration conf = this.ruleBase.getRuleBaseConfiguration();
@@ -117,21 +131,28 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         this.isEqualityBehaviour = RuleBaseConfiguration.AssertBehaviour.EQUALITY.equals(conf.getAssertBehaviour());
 
         this.objectStore = createObjectStore(entryPoint, conf, reteEvaluator);
+        this.offHeapEvents = this.objectStore instanceof OffHeapObjectStore && reteEvaluator.getRuleSessionConfiguration().isOffHeapEvents();
     }
 
     protected ObjectStore createObjectStore(EntryPointId entryPoint, RuleBaseConfiguration conf, ReteEvaluator reteEvaluator) {
+        OffHeapFactsOption offHeapFacts = reteEvaluator.getRuleSessionConfiguration().getOffHeapFactsOption();
+        if (offHeapFacts != null && offHeapFacts.isEnabled()) {
+            return new OffHeapObjectStore( OffHeapFactStorage.create( offHeapFacts, ruleBase.getRootClassLoader() ), isEqualityBehaviour );
+        }
         boolean useClassAwareStore = isEqualityBehaviour || conf.getOption(KieBaseMutabilityOption.KEY).isMutabilityEnabled();
         return useClassAwareStore ?
                 new ClassAwareObjectStore( isEqualityBehaviour, this.lock ) :
                 new IdentityObjectStore();
     }
 
+    @Override
     public void lock() {
         if (lock != null) {
             lock.lock();
         }
     }
 
+    @Override
     public void unlock() {
         if (lock != null) {
             lock.unlock();
@@ -240,6 +261,144 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        if ( this.reteEvaluator.isSequential() ) {
+            return InternalWorkingMemoryEntryPoint.super.insertAll( objects );
+        }
+
+        Object[] facts = objects.toArray();
+        FactHandle[] handles = new FactHandle[facts.length];
+        try {
+            this.reteEvaluator.startOperation(ReteEvaluator.InternalOperationType.INSERT);
+            lock();
+            this.ruleBase.executeQueuedActions();
+
+            ObjectTypeConf[] typeConfs = new ObjectTypeConf[facts.length];
+            int batchableCount = 0;
+            for ( int i = 0; i < facts.length; i++ ) {
+                if ( facts[i] != null ) {
+                    typeConfs[i] = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, facts[i] );
+                    if ( isBatchable( typeConfs[i] ) ) {
+                        batchableCount++;
+                    }
+                }
+            }
+
+            InsertionBatch batch = new InsertionBatch( batchableCount );
+            for ( int i = 0; i < facts.length; i++ ) {
+                Object object = facts[i];
+                if ( object == null ) {
+                    continue;
+                }
+                if ( !isBatchable( typeConfs[i] ) ) {
+                    // the facts collected so far are propagated first, in order to preserve the insertion order
+                    batch.propagate();
+                    handles[i] = insert( object );
+                    continue;
+                }
+
+                InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+                if ( handle == null ) {
+                    if ( !batch.isReserved() ) {
+                        batch.reserve( batchableRunLength( facts, typeConfs, i ) );
+                    }
+                    handle = batch.add( object, typeConfs[i] );
+                }
+                handles[i] = handle;
+            }
+            batch.propagate();
+        } finally {
+            unlock();
+            this.reteEvaluator.endOperation(ReteEvaluator.InternalOperationType.INSERT);
+        }
+        return new ArrayList<>( asList( handles ) );
+    }
+
+    private static boolean isBatchable(ObjectTypeConf typeConf) {
+        // facts under truth maintenance or with property change support need the checks of a single insertion
+        return !typeConf.isTMSEnabled() && !typeConf.isDynamic();
+    }
+
+    private static int batchableRunLength(Object[] facts, ObjectTypeConf[] typeConfs, int start) {
+        int end = start;
+        while ( end < facts.length && ( facts[end] == null || isBatchable( typeConfs[end] ) ) ) {
+            end++;
+        }
+        return end - start;
+    }
+
+    /**
+     * The facts of an insertAll not yet propagated. Their ids and recencies are reserved in bulk for each run of
+     * batchable facts, so that a fact inserted one at a time between two runs keeps the recency of its position,
+     * while the ones reserved for the facts that were already in the entry point are left unused.
+     */
+    private class InsertionBatch {
+        private final Object[] objects;
+        private final InternalFactHandle[] handles;
+        private final PropagationContext[] contexts;
+        private final ObjectTypeConf[] typeConfs;
+
+        private long nextId;
+        private long nextRecency;
+        private boolean reserved;
+
+        private int size;
+        private int propagated;
+
+        private InsertionBatch(int capacity) {
+            this.objects = new Object[capacity];
+            this.handles = new InternalFactHandle[capacity];
+            this.contexts = new PropagationContext[capacity];
+            this.typeConfs = new ObjectTypeConf[capacity];
+        }
+
+        private boolean isReserved() {
+            return reserved;
+        }
+
+        private void reserve(int count) {
+            this.nextId = handleFactory.getNextIds( count );
+            this.nextRecency = handleFactory.getNextRecencies( count );
+            this.reserved = true;
+        }
+
+        private InternalFactHandle add(Object object, ObjectTypeConf typeConf) {
+            InternalFactHandle handle = createHandle( nextId++, nextRecency++, object, typeConf );
+            PropagationContext pctx = pctxFactory.createPropagationContext(reteEvaluator.getNextPropagationIdCounter(),
+                    PropagationContext.Type.INSERTION,
+                    null,
+                    null,
+                    handle,
+                    entryPoint);
+            objectStore.addHandle( handle, object );
+
+            objects[size] = object;
+            handles[size] = handle;
+            contexts[size] = pctx;
+            typeConfs[size] = typeConf;
+            size++;
+            return handle;
+        }
+
+        private void propagate() {
+            // the next run of batchable facts comes after a fact inserted one at a time, so it needs new recencies
+            reserved = false;
+            if ( propagated == size ) {
+                return;
+            }
+            boolean whole = propagated == 0 && size == handles.length;
+            entryPointNode.assertObjects( whole ? handles : Arrays.copyOfRange( handles, propagated, size ),
+                                          whole ? contexts : Arrays.copyOfRange( contexts, propagated, size ),
+                                          whole ? typeConfs : Arrays.copyOfRange( typeConfs, propagated, size ),
+                                          reteEvaluator );
+            for ( int i = propagated; i < size; i++ ) {
+                reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted( contexts[i], handles[i], objects[i], reteEvaluator );
+            }
+            propagated = size;
+        }
+    }
+
     public void insert(InternalFactHandle handle) {
         Object object = handle.getObject();
         ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
@@ -296,6 +455,45 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         update( (InternalFactHandle) handle, object, mask, object.getClass(), null);
     }
 
+    @Override
+    public void updateAll(Map<? extends FactHandle, String[]> modifiedProperties) {
+        Map<InternalFactHandle, BitMask> masks = new LinkedHashMap<>();
+        // the masks of the facts of the same class modified in the same properties are calculated once
+        Map<String[], Map<Class<?>, BitMask>> masksByProperties = new IdentityHashMap<>();
+        for (Map.Entry<? extends FactHandle, String[]> entry : modifiedProperties.entrySet()) {
+            String[] properties = entry.getValue();
+            Object object = entry.getKey().getObject();
+            BitMask mask;
+            if (properties.length == 0) {
+                mask = allSetBitMask();
+            } else if (object instanceof Fact) {
+                mask = calculateUpdateBitMask(ruleBase, object, properties);
+            } else {
+                mask = masksByProperties.computeIfAbsent(properties, p -> new HashMap<>())
+                        .computeIfAbsent(object.getClass(), c -> calculateUpdateBitMask(ruleBase, object, properties));
+            }
+            // distinct handles of the same fact, as in an IdentityHashMap, are coalesced merging their masks
+            masks.merge((InternalFactHandle) entry.getKey(), mask, (m1, m2) -> m1.clone().setAll(m2));
+        }
+
+        lock();
+        try {
+            this.reteEvaluator.startOperation(ReteEvaluator.InternalOperationType.UPDATE);
+            try {
+                for (Map.Entry<InternalFactHandle, BitMask> entry : masks.entrySet()) {
+                    Object object = entry.getKey().getObject();
+                    // the masks calculated once per class are shared, while the propagation context may alter its own one
+                    BitMask mask = entry.getValue().clone();
+                    update(entry.getKey(), object, mask, mask.isAllSet() ? Object.class : object.getClass(), null);
+                }
+            } finally {
+                this.reteEvaluator.endOperation(ReteEvaluator.InternalOperationType.UPDATE);
+            }
+        } finally {
+            unlock();
+        }
+    }
+
     public static BitMask calculateUpdateBitMask(InternalRuleBase ruleBase, Object object, String[] modifiedProperties) {
         String modifiedTypeName;
         List<String> accessibleProperties;
@@ -366,6 +564,9 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
                 if (changedObject || isEqualityBehaviour) {
                     this.objectStore.updateHandle(handle, object);
+                } else if (handle instanceof OffHeapHandle) {
+                    // the fact has been modified in place, so its serialized copy has to be refreshed
+                    handle.setObject(object);
                 }
 
                 this.handleFactory.increaseFactHandleRecency(handle);
@@ -533,6 +734,26 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         return propagationContext;
     }
 
+    @Override
+    public void immediateDeleteAll(InternalFactHandle[] handles, ObjectTypeConf[] typeConfs, RuleImpl rule, TerminalNode terminalNode) {
+        Object[] objects = new Object[handles.length];
+        PropagationContext[] propagationContexts = new PropagationContext[handles.length];
+        for (int i = 0; i < handles.length; i++) {
+            objects[i] = handles[i].getObject();
+            propagationContexts[i] = pctxFactory.createPropagationContext( this.reteEvaluator.getNextPropagationIdCounter(), PropagationContext.Type.DELETION,
+                                                                           rule, terminalNode,
+                                                                           handles[i], this.entryPoint );
+        }
+
+        this.entryPointNode.immediateDeleteObjects( handles, propagationContexts, typeConfs, this.reteEvaluator );
+
+        for (int i = 0; i < handles.length; i++) {
+            afterRetract(handles[i], rule, terminalNode);
+            this.objectStore.removeHandle( handles[i] );
+            this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectRetracted(propagationContexts[i], handles[i], objects[i], this.reteEvaluator);
+        }
+    }
+
     protected void afterRetract(InternalFactHandle handle, RuleImpl rule, TerminalNode terminalNode) {
 
     }
@@ -660,9 +881,42 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     private InternalFactHandle createHandle(final Object object,
                                             ObjectTypeConf typeConf) {
+        if ( isOffHeapStorable( typeConf ) ) {
+            InternalFactHandle handle = createOffHeapHandle( this.handleFactory.getNextId(), this.handleFactory.getNextRecency(), object, (ClassObjectTypeConf) typeConf );
+            if ( handle != null ) {
+                return handle;
+            }
+        }
         return this.handleFactory.newFactHandle( object, typeConf, this.reteEvaluator, this );
     }
 
+    private InternalFactHandle createHandle(long id,
+                                            long recency,
+                                            Object object,
+                                            ObjectTypeConf typeConf) {
+        if ( isOffHeapStorable( typeConf ) ) {
+            InternalFactHandle handle = createOffHeapHandle( id, recency, object, (ClassObjectTypeConf) typeConf );
+            if ( handle != null ) {
+                return handle;
+            }
+        }
+        return this.handleFactory.newFactHandle( id, object, recency, typeConf, this.reteEvaluator, this );
+    }
+
+    private boolean isOffHeapStorable(ObjectTypeConf typeConf) {
+        return this.objectStore instanceof OffHeapObjectStore && typeConf instanceof ClassObjectTypeConf && ( !typeConf.isEvent() || offHeapEvents );
+    }
+
+    private InternalFactHandle createOffHeapHandle(long id, long recency, Object object, ClassObjectTypeConf typeConf) {
+        OffHeapObjectStore offHeapStore = (OffHeapObjectStore) this.objectStore;
+        if ( typeConf.isEvent() ) {
+            return offHeapStore.createEventHandle( id, object, recency,
+                                                   typeConf.getEventTimestamp( object, this.reteEvaluator ),
+                                                   typeConf.getEventDuration( object, this.reteEvaluator ), this );
+        }
+        return offHeapStore.createFactHandle( id, object, recency, this );
+    }
+
     public void propertyChange(final PropertyChangeEvent event) {
         final Object object = event.getSource();
         FactHandle handle = getFactHandle( object );
@@ -18,6 +18,7 @@
  */
 package org.drools.kiesession.rulebase;
 
+import org.drools.base.common.EvaluationExecutor;
 import org.drools.base.common.RuleBasePartitionId;
 import org.drools.base.definitions.InternalKnowledgePackage;
 import org.drools.base.definitions.rule.impl.RuleImpl;
@@ -773,6 +774,16 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
         return delegate.getParallelEvaluationSlotsCount();
     }
 
+    @Override
+    public EvaluationExecutor getEvaluationExecutor() {
+        return delegate.getEvaluationExecutor();
+    }
+
+    @Override
+    public void shutdownEvaluationExecutor() {
+        delegate.shutdownEvaluationExecutor();
+    }
+
     @Override
     public FactType getFactType(String packageName, String typeName) {
         return delegate.getFactType(packageName, typeName);
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.drools.core.impl.EnvironmentFactory;
+import org.drools.core.util.ScalablePool;
 import org.kie.api.runtime.Environment;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.KieSessionsPool;
@@ -47,6 +48,13 @@ public abstract class AbstractKieSessionsPool implements KieSessionsPool {
         pools.clear();
     }
 
+    /**
+     * Returns the hits, misses, evictions and borrow latency of all the sessions pooled by this pool
+     */
+    public ScalablePool.Statistics getStatistics() {
+        return pools.values().stream().map( StatefulSessionPool::getStatistics ).reduce( ScalablePool.Statistics.EMPTY, ScalablePool.Statistics::merge );
+    }
+
     protected StatefulSessionPool getPool( KieSessionConfiguration conf, boolean stateless) {
         return getPool( null, conf, stateless);
     }
@@ -38,6 +38,7 @@ import org.drools.core.base.InternalViewChangedEventListener;
 import org.drools.core.base.NonCloningQueryViewListener;
 import org.drools.core.base.QueryRowWithSubruleIndex;
 import org.drools.core.base.StandardQueryViewChangedEventListener;
+import org.drools.core.base.StreamingQueryViewListener;
 import org.drools.core.common.ActivationsManager;
 import org.drools.core.common.ConcurrentNodeMemories;
 import org.drools.core.common.EndOperationListener;
@@ -111,8 +112,10 @@ import org.kie.api.runtime.process.WorkItemManager;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.api.runtime.rule.FactHandle;
 import org.kie.api.runtime.rule.LiveQuery;
+import org.kie.api.runtime.rule.QueryResultsRow;
 import org.kie.api.runtime.rule.ViewChangedEventListener;
 import org.kie.api.time.SessionClock;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
 import org.kie.internal.event.rule.RuleEventListener;
 import org.kie.internal.event.rule.RuleEventManager;
 import org.kie.internal.marshalling.MarshallerFactory;
@@ -134,12 +137,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.toList;
 import static org.drools.base.base.ClassObjectType.InitialFact_ObjectType;
@@ -195,6 +200,9 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
 
     protected ReentrantLock lock;
 
+    // true while the consumer of streamQueryResults is running, only read by the thread holding the lock
+    private boolean consumingQueryResults;
+
     /**
      * This must be thread safe as it is incremented and read via different
      * EntryPoints
@@ -615,10 +623,48 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
     }
 
     protected QueryResultsImpl internalGetQueryResult(boolean calledFromRHS, String queryName, Object... arguments) {
+        DroolsQueryImpl queryObject = new DroolsQueryImpl(queryName,
+                                                          arguments,
+                                                          getQueryListenerInstance(),
+                                                          false );
+
+        TerminalNode[] tnodes = executeQuery(calledFromRHS, queryObject);
+
+        List<Map<String, Declaration>> decls = new ArrayList<>();
+        if ( tnodes != null ) {
+            for ( TerminalNode node : tnodes ) {
+                decls.add( node.getSubRule().getOuterDeclarations() );
+            }
+        }
+
+        return new QueryResultsImpl( (List<QueryRowWithSubruleIndex>) queryObject.getQueryResultCollector().getResults(),
+                                     decls.toArray( new Map[decls.size()] ),
+                                     this,
+                                     ( queryObject.getQuery() != null ) ? queryObject.getQuery().getParameters()  : new Declaration[0] );
+    }
 
+    @Override
+    public long streamQueryResults(String queryName, Predicate<QueryResultsRow> consumer, Object... arguments) {
+        // the consumer runs in the middle of the evaluation of the query, while this thread holds the session lock
+        StreamingQueryViewListener listener = new StreamingQueryViewListener( row -> {
+            consumingQueryResults = true;
+            try {
+                return consumer.test( row );
+            } finally {
+                consumingQueryResults = false;
+            }
+        } );
+        executeQuery( false, new DroolsQueryImpl( queryName, arguments, listener, false ) );
+        return listener.getRowsCount();
+    }
+
+    private TerminalNode[] executeQuery(boolean calledFromRHS, DroolsQueryImpl queryObject) {
         try {
             if (!calledFromRHS) {
                 this.lock.lock();
+                if (consumingQueryResults) {
+                    throw new IllegalStateException( "Cannot execute query " + queryObject.getName() + " from the consumer of streamQueryResults" );
+                }
             }
 
             this.kBase.executeQueuedActions();
@@ -632,11 +678,6 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
                 agenda.executeFlush();
             }
 
-            DroolsQueryImpl queryObject = new DroolsQueryImpl(queryName,
-                                                              arguments,
-                                                              getQueryListenerInstance(),
-                                                              false );
-
             InternalFactHandle handle = this.handleFactory.newFactHandle( queryObject,
                                                                           null,
                                                                           this,
@@ -646,21 +687,11 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
                                                                                  null, null, handle, getEntryPoint());
 
 
-            TerminalNode[] tnodes = evalQuery(queryName, queryObject, handle, pCtx, calledFromRHS);
-
-            List<Map<String, Declaration>> decls = new ArrayList<>();
-            if ( tnodes != null ) {
-                for ( TerminalNode node : tnodes ) {
-                    decls.add( node.getSubRule().getOuterDeclarations() );
-                }
-            }
+            TerminalNode[] tnodes = evalQuery(queryObject.getName(), queryObject, handle, pCtx, calledFromRHS);
 
             this.handleFactory.destroyFactHandle( handle);
 
-            return new QueryResultsImpl( (List<QueryRowWithSubruleIndex>) queryObject.getQueryResultCollector().getResults(),
-                                         decls.toArray( new Map[decls.size()] ),
-                                         this,
-                                         ( queryObject.getQuery() != null ) ? queryObject.getQuery().getParameters()  : new Declaration[0] );
+            return tnodes;
         } finally {
             if (!calledFromRHS) {
                 this.lock.unlock();
@@ -1132,6 +1163,31 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         }
     }
 
+    public void scheduleFireUntilHalt() {
+        scheduleFireUntilHalt( null, ExecutorProviderFactory.getExecutorProvider().getExecutor() );
+    }
+
+    /**
+     * Keeps firing activations until a halt is called, like {@link #fireUntilHalt(AgendaFilter)}, but without
+     * blocking the caller or any other thread while there is no activation to fire. This method returns immediately
+     * and the activations are fired on the given executor by a task scheduled each time the engine is woken up
+     * from its rest by a new propagation, so a session waiting for events doesn't hold any thread.
+     *
+     * @param agendaFilter
+     *            filters the activations that may fire
+     * @param executor
+     *            runs the tasks firing the activations, one at a time
+     *
+     * @throws IllegalStateException
+     *             if this method is called when running in sequential mode
+     */
+    public void scheduleFireUntilHalt(final AgendaFilter agendaFilter, final Executor executor) {
+        if ( isSequential() ) {
+            throw new IllegalStateException( "scheduleFireUntilHalt() can not be called in sequential mode." );
+        }
+        agenda.scheduleFireUntilHalt( agendaFilter, executor );
+    }
+
     /**
      * Returns the fact Object for the given <code>FactHandle</code>. It
      * actually attempts to return the value from the handle, before retrieving
@@ -1267,6 +1323,24 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return this.entryPointsManager.getDefaultEntryPoint().insert(object, dynamic, rule, terminalNode);
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        checkAlive();
+        return this.entryPointsManager.getDefaultEntryPoint().insertAll(objects);
+    }
+
+    @Override
+    public void updateAll(Collection<? extends FactHandle> handles, String... modifiedProperties) {
+        checkAlive();
+        this.entryPointsManager.getDefaultEntryPoint().updateAll(handles, modifiedProperties);
+    }
+
+    @Override
+    public void updateAll(Map<? extends FactHandle, String[]> modifiedProperties) {
+        checkAlive();
+        this.entryPointsManager.getDefaultEntryPoint().updateAll(modifiedProperties);
+    }
+
     public void retract(FactHandle handle) {
         delete(handle);
     }
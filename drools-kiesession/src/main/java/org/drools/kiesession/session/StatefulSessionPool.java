@@ -20,6 +20,7 @@ package org.drools.kiesession.session;
 
 import java.util.function.Supplier;
 
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.core.util.ScalablePool;
 
@@ -30,7 +31,9 @@ public class StatefulSessionPool {
 
     public StatefulSessionPool(InternalKnowledgeBase kbase, int initialSize, Supplier<StatefulKnowledgeSessionImpl> supplier) {
         this.kbase = kbase;
-        this.pool = new ScalablePool<>(initialSize, supplier, s -> s.reset(), s -> s.fromPool(null).dispose());
+        RuleBaseConfiguration conf = kbase.getRuleBaseConfiguration();
+        this.pool = new ScalablePool<>(initialSize, conf.getSessionPoolMaxSize(), conf.getSessionPoolIdleTimeout(),
+                                       supplier, s -> s.reset(), s -> s.fromPool(null).dispose());
     }
 
     public InternalKnowledgeBase getKieBase() {
@@ -45,6 +48,10 @@ public class StatefulSessionPool {
         pool.release( session );
     }
 
+    public ScalablePool.Statistics getStatistics() {
+        return pool.getStatistics();
+    }
+
     public void shutdown() {
         pool.shutdown();
     }
@@ -102,6 +102,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.drools.compiler.kie.builder.impl.AbstractKieModule.checkStreamMode;
+import static org.drools.compiler.kie.builder.impl.AbstractKieModule.setCopyOnWriteUpdates;
 import static org.drools.model.impl.ModelComponent.areEqualInModel;
 import static org.drools.modelcompiler.util.StringUtil.fileNameToClass;
 import static org.kie.api.io.ResourceType.determineResourceType;
@@ -197,6 +198,7 @@ public class CanonicalKieModule implements InternalKieModule {
             kbConf.setOption(kBaseModel.getDeclarativeAgenda());
             kbConf.setOption(kBaseModel.getSequential());
             kbConf.setOption(kBaseModel.getMutability());
+            setCopyOnWriteUpdates(kBaseModel, kbConf);
         }
         return kbConf;
     }
@@ -86,14 +86,21 @@ public class ReliableSessionInitializer {
 
         private void onWorkingMemoryAction(InternalWorkingMemory session, PropagationEntry entry) {
             if (entry instanceof PropagationEntry.Insert) {
-                InternalFactHandle fh = ((PropagationEntry.Insert) entry).getHandle();
-                if (fh.isValid()) {
-                    WorkingMemoryEntryPoint ep = fh.getEntryPoint(session);
-                    ((SimpleReliableObjectStore) ep.getObjectStore()).putIntoPersistedStorage(fh, true);
+                persistPropagated(session, ((PropagationEntry.Insert) entry).getHandle());
+            } else if (entry instanceof PropagationEntry.InsertBatch) {
+                for (InternalFactHandle fh : ((PropagationEntry.InsertBatch) entry).getHandles()) {
+                    persistPropagated(session, fh);
                 }
             }
         }
 
+        private void persistPropagated(InternalWorkingMemory session, InternalFactHandle fh) {
+            if (fh.isValid()) {
+                WorkingMemoryEntryPoint ep = fh.getEntryPoint(session);
+                ((SimpleReliableObjectStore) ep.getObjectStore()).putIntoPersistedStorage(fh, true);
+            }
+        }
+
         private void populateSessionFromStorage(InternalWorkingMemory session) {
             Map<InternalWorkingMemoryEntryPoint, List<StoredObject>> notPropagatedByEntryPoint = new HashMap<>();
 
@@ -39,6 +39,8 @@ import org.kie.api.KieBase;
 import org.kie.api.definition.KiePackage;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectDeletedEvent;
 import org.kie.api.runtime.rule.FactHandle;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
@@ -739,6 +741,59 @@ public class TruthMaintenanceTest extends CommonTestMethodBase {
         }
     }
 
+    @Test
+    public void testLogicalInsertionsOfCancelledJustificationRetractedTogether() {
+        String str =
+                "package org.drools.mvel.compiler\n" +
+                "rule JustifyMany when\n" +
+                "    Cheese( type == \"stilton\" )\n" +
+                "then\n" +
+                "    for (int i = 0; i < 100; i++) {\n" +
+                "        insertLogical( new Person( \"p\" + i, i ) );\n" +
+                "    }\n" +
+                "    insertLogical( \"justified\" );\n" +
+                "end\n" +
+                "rule JustifyFirst when\n" +
+                "    Cheese( type == \"brie\" )\n" +
+                "then\n" +
+                "    insertLogical( new Person( \"p0\", 0 ) );\n" +
+                "end\n" +
+                "rule CountPersons when\n" +
+                "    Number( intValue > 0 ) from accumulate( Person(), count() )\n" +
+                "    $s : String()\n" +
+                "then\n" +
+                "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString( str );
+        KieSession ksession = createKnowledgeSession( kbase );
+        try {
+            List<Object> retracted = new ArrayList<>();
+            ksession.addEventListener( new DefaultRuleRuntimeEventListener() {
+                @Override
+                public void objectDeleted( ObjectDeletedEvent event ) {
+                    retracted.add( event.getOldObject() );
+                }
+            } );
+
+            FactHandle stilton = ksession.insert( new Cheese( "stilton", 10 ) );
+            ksession.insert( new Cheese( "brie", 10 ) );
+            assertThat(ksession.fireAllRules()).isEqualTo(3);
+            assertThat(ksession.getObjects( new ClassObjectFilter( Person.class ) )).hasSize(100);
+
+            ksession.delete( stilton );
+            assertThat(ksession.fireAllRules()).isZero();
+            // only the person still justified by the other rule survives
+            assertThat(new ArrayList<Object>( ksession.getObjects( new ClassObjectFilter( Person.class ) ) )).containsExactly( new Person( "p0", 0 ) );
+            assertThat(ksession.getObjects( new ClassObjectFilter( String.class ) )).isEmpty();
+            assertThat(retracted).hasSize(101).contains( "justified" ).doesNotContain( new Person( "p0", 0 ) );
+
+            TruthMaintenanceSystem tms = TruthMaintenanceSystemFactory.get().getOrCreateTruthMaintenanceSystem( (ReteEvaluator) ksession );
+            assertThat(tms.getEqualityKeysSize()).isEqualTo(1);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
     public InternalFactHandle getFactHandle(FactHandle factHandle,
                                             StatefulKnowledgeSessionImpl session) {
         Map<Long, FactHandle> handles = new HashMap<>();
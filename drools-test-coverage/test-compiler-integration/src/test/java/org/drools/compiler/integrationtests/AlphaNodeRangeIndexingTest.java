@@ -1171,4 +1171,102 @@ public class AlphaNodeRangeIndexingTest {
         fired = ksession.fireAllRules();
         assertThat(fired).isEqualTo(2);
     }
+
+    @Test
+    public void testIntervals() {
+        final StringBuilder drl = new StringBuilder("package org.drools.compiler.test\n" +
+                                                    "import " + Person.class.getCanonicalName() + "\n");
+        for (int i = 0; i < 10; i++) {
+            drl.append("rule tier" + i + "\n when\n" +
+                       "   Person( age > " + (i * 10) + " && <= " + (i * 10 + 10) + " )\n" +
+                       "then\n end\n");
+        }
+        drl.append("rule overlapping\n when\n" +
+                   "   Person( age > 10 && < 35 )\n" +
+                   "then\n end\n" +
+                   "rule halfBounded\n when\n" +
+                   "   Person( age >= 50 )\n" +
+                   "then\n end\n");
+
+        final KieBase kbase = createKieBaseWithRangeIndexThresholdValue(drl.toString(), 3);
+
+        final AlphaRangeIndex alphaRangeIndex = getRangeIndex(kbase, Person.class);
+        assertThat(alphaRangeIndex.getMatchingIntervalSinks(15)).hasSize(2);
+        assertThat(alphaRangeIndex.getMatchingHalfBoundedSinks(15)).isEmpty();
+        assertThat(alphaRangeIndex.getMatchingIntervalSinks(55)).hasSize(1);
+        assertThat(alphaRangeIndex.getMatchingHalfBoundedSinks(55)).hasSize(1);
+
+        assertFired(kbase, 0, 0);
+        assertFired(kbase, 10, 1);
+        assertFired(kbase, 15, 2);
+        assertFired(kbase, 20, 2);
+        assertFired(kbase, 30, 2);
+        assertFired(kbase, 35, 1);
+        assertFired(kbase, 50, 2);
+        assertFired(kbase, 105, 1);
+
+        kbase.removeRule("org.drools.compiler.test", "tier1");
+        if (this.kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            // after removeRule, ANC is not recreated
+            return;
+        }
+        assertThat(alphaRangeIndex.getMatchingIntervalSinks(15)).hasSize(1);
+        assertFired(kbase, 15, 1);
+        assertFired(kbase, 20, 1);
+    }
+
+    @Test
+    public void testIntervalsSharingBoundWithOtherNodes() {
+        final String drl = "package org.drools.compiler.test\n" +
+                           "import " + Person.class.getCanonicalName() + "\n" +
+                           "rule test1\n when\n" +
+                           "   Person( age > 10 && <= 20 )\n" +
+                           "then\n end\n" +
+                           "rule test2\n when\n" +
+                           "   Person( age > 20 && <= 30 )\n" +
+                           "then\n end\n" +
+                           "rule test3\n when\n" +
+                           "   Person( age > 30 && <= 40 )\n" +
+                           "then\n end\n" +
+                           "rule test4\n when\n" +
+                           "   Person( age > 20, name == \"Paul\" )\n" +
+                           "then\n end\n";
+
+        final KieBase kbase = createKieBaseWithRangeIndexThresholdValue(drl, 3);
+
+        // age > 20 has also a child that isn't a range constraint, so it can't be part of an interval
+        final AlphaRangeIndex alphaRangeIndex = getRangeIndex(kbase, Person.class);
+        assertThat(alphaRangeIndex.getMatchingIntervalSinks(25)).isEmpty();
+        assertThat(alphaRangeIndex.getMatchingHalfBoundedSinks(25)).hasSize(1);
+        assertThat(alphaRangeIndex.getMatchingIntervalSinks(15)).hasSize(1);
+
+        assertFired(kbase, 15, 1);
+        assertFired(kbase, 25, 1);
+        assertFired(kbase, 35, 1);
+
+        final KieSession ksession = kbase.newKieSession();
+        ksession.insert(new Person("Paul", 25));
+        assertThat(ksession.fireAllRules()).isEqualTo(2);
+        ksession.dispose();
+    }
+
+    private AlphaRangeIndex getRangeIndex(KieBase kbase, Class<?> factClass) {
+        ObjectSinkPropagator objectSinkPropagator = KieUtil.getObjectTypeNode(kbase, factClass).getObjectSinkPropagator();
+        if (this.kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            objectSinkPropagator = ((CompiledNetwork) objectSinkPropagator).getOriginalSinkPropagator();
+        }
+        final Collection<AlphaRangeIndex> rangeIndexes = ((CompositeObjectSinkAdapter) objectSinkPropagator).getRangeIndexMap().values();
+        assertThat(rangeIndexes).hasSize(1);
+        return rangeIndexes.iterator().next();
+    }
+
+    private void assertFired(KieBase kbase, int age, int expectedFired) {
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.insert(new Person("John", age));
+            assertThat(ksession.fireAllRules()).as("age " + age).isEqualTo(expectedFired);
+        } finally {
+            ksession.dispose();
+        }
+    }
 }
@@ -21,6 +21,7 @@ package org.drools.compiler.integrationtests.incrementalcompilation;
 import org.drools.commands.runtime.rule.FireAllRulesCommand;
 import org.drools.compiler.kie.builder.impl.DrlProject;
 import org.drools.core.ClassObjectFilter;
+import org.drools.base.common.EvaluationExecutor;
 import org.drools.base.definitions.rule.impl.RuleImpl;
 import org.drools.core.event.DefaultAgendaEventListener;
 import org.drools.core.impl.InternalRuleBase;
@@ -74,6 +75,8 @@ import org.kie.api.runtime.rule.FactHandle;
 import org.kie.internal.builder.IncrementalResults;
 import org.kie.internal.builder.InternalKieBuilder;
 import org.kie.internal.command.CommandFactory;
+import org.kie.internal.conf.CopyOnWriteUpdatesOption;
+import org.kie.internal.conf.EvaluationExecutorOption;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -5226,4 +5229,155 @@ public class IncrementalCompilationTest {
         fired = ksession.fireAllRules();
         assertThat(fired).isEqualTo(4);
     }
+
+    @Test
+    public void testCopyOnWriteUpdateKeepsRunningSessionsOnPreviousVersion() {
+        final String drl1 = "package org.drools.compiler\n" +
+                "import " + Message.class.getCanonicalName() + ";\n" +
+                "global java.util.List list\n" +
+                "rule R1 when\n" +
+                "   $m : Message( message == \"Hello World\" )\n" +
+                "then\n" +
+                "   list.add( \"R1\" );\n" +
+                "end\n";
+
+        final String drl2 = "package org.drools.compiler\n" +
+                "import " + Message.class.getCanonicalName() + ";\n" +
+                "global java.util.List list\n" +
+                "rule R2 when\n" +
+                "   $m : Message( message == \"Hello World\" )\n" +
+                "then\n" +
+                "   list.add( \"R2\" );\n" +
+                "end\n";
+
+        System.setProperty(CopyOnWriteUpdatesOption.PROPERTY_NAME, "true");
+        try {
+            final KieServices ks = KieServices.Factory.get();
+            final ReleaseId releaseId1 = ks.newReleaseId("org.kie", "test-cow-upgrade", "1.0.0");
+            KieUtil.getKieModuleFromDrls(releaseId1, kieBaseTestConfiguration, drl1);
+
+            final KieContainer kc = ks.newKieContainer(releaseId1);
+            final KieBase kbase1 = kc.getKieBase();
+            final KieSession ksession1 = kc.newKieSession();
+            final List<String> list1 = new ArrayList<>();
+            ksession1.setGlobal("list", list1);
+            ksession1.insert(new Message("Hello World"));
+
+            final ReleaseId releaseId2 = ks.newReleaseId("org.kie", "test-cow-upgrade", "1.1.0");
+            KieUtil.getKieModuleFromDrls(releaseId2, kieBaseTestConfiguration, drl2);
+            final Results results = kc.updateToVersion(releaseId2);
+            assertThat(results.hasMessages(Level.ERROR)).isFalse();
+
+            // the new version has been built next to the previous one, that is left untouched
+            final KieBase kbase2 = kc.getKieBase();
+            assertThat(kbase2).isNotSameAs(kbase1);
+            assertThat(kbase1.getRule("org.drools.compiler", "R1")).isNotNull();
+            assertThat(kbase1.getRule("org.drools.compiler", "R2")).isNull();
+            assertThat(kbase2.getRule("org.drools.compiler", "R1")).isNull();
+            assertThat(kbase2.getRule("org.drools.compiler", "R2")).isNotNull();
+
+            // the existing session keeps running on the previous version
+            assertThat(ksession1.getKieBase()).isSameAs(kbase1);
+            ksession1.insert(new Message("Hello World"));
+            assertThat(ksession1.fireAllRules()).isEqualTo(2);
+            assertThat(list1).containsExactly("R1", "R1");
+            ksession1.dispose();
+
+            // while the new sessions use the new one
+            final KieSession ksession2 = kc.newKieSession();
+            final List<String> list2 = new ArrayList<>();
+            ksession2.setGlobal("list", list2);
+            ksession2.insert(new Message("Hello World"));
+            assertThat(ksession2.fireAllRules()).isEqualTo(1);
+            assertThat(list2).containsExactly("R2");
+            ksession2.dispose();
+        } finally {
+            System.clearProperty(CopyOnWriteUpdatesOption.PROPERTY_NAME);
+        }
+    }
+
+    @Test
+    public void testCopyOnWriteUpdateReleasesPreviousVersionExecutor() {
+        final String drl1 = "package org.drools.compiler\n" +
+                "rule R1 when\n" +
+                "   String()\n" +
+                "then\n" +
+                "end\n";
+
+        final String drl2 = "package org.drools.compiler\n" +
+                "rule R2 when\n" +
+                "   String()\n" +
+                "then\n" +
+                "end\n";
+
+        System.setProperty(CopyOnWriteUpdatesOption.PROPERTY_NAME, "true");
+        System.setProperty(EvaluationExecutorOption.PROPERTY_NAME, "forkjoin:1");
+        try {
+            final KieServices ks = KieServices.Factory.get();
+            final ReleaseId releaseId1 = ks.newReleaseId("org.kie", "test-cow-executor", "1.0.0");
+            KieUtil.getKieModuleFromDrls(releaseId1, kieBaseTestConfiguration, drl1);
+
+            final KieContainer kc = ks.newKieContainer(releaseId1);
+            final InternalRuleBase kbase1 = (InternalRuleBase) kc.getKieBase();
+            final KieSession ksession1 = kc.newKieSession();
+            final EvaluationExecutor executor1 = kbase1.getEvaluationExecutor();
+
+            final ReleaseId releaseId2 = ks.newReleaseId("org.kie", "test-cow-executor", "1.1.0");
+            KieUtil.getKieModuleFromDrls(releaseId2, kieBaseTestConfiguration, drl2);
+            assertThat(kc.updateToVersion(releaseId2).hasMessages(Level.ERROR)).isFalse();
+            assertThat(kc.getKieBase()).isNotSameAs(kbase1);
+
+            // the previous version keeps its executor while one of its sessions is still running
+            assertThat(kbase1.getEvaluationExecutor()).isSameAs(executor1);
+
+            // and releases it with its last session
+            ksession1.dispose();
+            final EvaluationExecutor executor2 = kbase1.getEvaluationExecutor();
+            assertThat(executor2).isNotSameAs(executor1);
+            kbase1.shutdownEvaluationExecutor();
+            kc.dispose();
+        } finally {
+            System.clearProperty(CopyOnWriteUpdatesOption.PROPERTY_NAME);
+            System.clearProperty(EvaluationExecutorOption.PROPERTY_NAME);
+        }
+    }
+
+    @Test
+    public void testCopyOnWriteUpdatesEnabledByNewKieModule() {
+        final String drl1 = "package org.drools.compiler\n" +
+                "rule R1 when\n" +
+                "   String()\n" +
+                "then\n" +
+                "end\n";
+
+        final String drl2 = "package org.drools.compiler\n" +
+                "rule R2 when\n" +
+                "   String()\n" +
+                "then\n" +
+                "end\n";
+
+        final KieServices ks = KieServices.Factory.get();
+        final ReleaseId releaseId1 = ks.newReleaseId("org.kie", "test-cow-kmodule", "1.0.0");
+        KieUtil.getKieModuleFromDrls(releaseId1, kieBaseTestConfiguration, drl1);
+
+        final KieContainer kc = ks.newKieContainer(releaseId1);
+        final KieBase kbase1 = kc.getKieBase();
+        final KieSession ksession1 = kc.newKieSession();
+
+        // the kmodule of the new version turns the copy-on-write updates on, and the update to it already follows it
+        final Map<String, String> kieModuleConfigurationProperties = new HashMap<>();
+        kieModuleConfigurationProperties.put(CopyOnWriteUpdatesOption.PROPERTY_NAME, "true");
+        final ReleaseId releaseId2 = ks.newReleaseId("org.kie", "test-cow-kmodule", "1.1.0");
+        KieUtil.getKieModuleFromDrls(releaseId2, kieBaseTestConfiguration, KieSessionTestConfiguration.STATEFUL_REALTIME,
+                                     kieModuleConfigurationProperties, drl2);
+        assertThat(kc.updateToVersion(releaseId2).hasMessages(Level.ERROR)).isFalse();
+
+        final KieBase kbase2 = kc.getKieBase();
+        assertThat(kbase2).isNotSameAs(kbase1);
+        assertThat(kbase1.getRule("org.drools.compiler", "R1")).isNotNull();
+        assertThat(ksession1.getKieBase()).isSameAs(kbase1);
+        assertThat(((InternalRuleBase) kbase2).getRuleBaseConfiguration().isCopyOnWriteUpdates()).isTrue();
+        ksession1.dispose();
+        kc.dispose();
+    }
 }
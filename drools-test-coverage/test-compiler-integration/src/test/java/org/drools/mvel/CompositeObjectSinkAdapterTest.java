@@ -18,6 +18,7 @@
  */
 package org.drools.mvel;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -36,6 +37,7 @@ import org.drools.core.reteoo.BetaNode;
 import org.drools.core.reteoo.CompositeObjectSinkAdapter;
 import org.drools.core.reteoo.CompositeObjectSinkAdapter.HashKey;
 import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.ObjectSinkPropagator;
 import org.drools.core.reteoo.ReteooFactHandleFactory;
 import org.drools.core.reteoo.builder.BuildContext;
 import org.drools.base.rule.PredicateConstraint;
@@ -50,6 +52,11 @@ import org.junit.runners.Parameterized;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(Parameterized.class)
 public class CompositeObjectSinkAdapterTest {
@@ -395,6 +402,75 @@ public class CompositeObjectSinkAdapterTest {
 
     }
 
+    @Test
+    public void testPropagationToHashedPrimitiveField() {
+        extractor = store.getReader( Cheese.class, "price" );
+        final AlphaNode al1 = createAlphaNode(cheesePriceEqualsTo(100));
+        final AlphaNode al2 = createAlphaNode(cheesePriceEqualsTo(200));
+        final AlphaNode al3 = createAlphaNode(cheesePriceEqualsTo(300));
+        final AlphaNode al4 = createAlphaNode(cheesePriceEqualsTo(400));
+        ad.addObjectSink( al1 );
+        ad.addObjectSink( al2 );
+        ad.addObjectSink( al3 );
+        ad.addObjectSink( al4 );
+        assertThat(ad.getHashedFieldIndexes().get(0).isHashed()).isTrue();
+
+        final ObjectSinkPropagator matched = mock(ObjectSinkPropagator.class);
+        final ObjectSinkPropagator notMatched = mock(ObjectSinkPropagator.class);
+        al1.setObjectSinkPropagator( notMatched );
+        al2.setObjectSinkPropagator( matched );
+        al3.setObjectSinkPropagator( notMatched );
+        al4.setObjectSinkPropagator( notMatched );
+
+        ad.propagateAssertObject( newCheeseHandle( "brie", 200 ), null, null );
+
+        verify(matched).propagateAssertObject(any(), any(), any());
+        verify(notMatched, never()).propagateAssertObject(any(), any(), any());
+
+        // still hashed after the removal
+        ad.removeObjectSink( al2 );
+        ad.propagateAssertObject( newCheeseHandle( "brie", 200 ), null, null );
+        verify(matched).propagateAssertObject(any(), any(), any());
+    }
+
+    @Test
+    public void testHashedPropagationDoesNotAllocate() {
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        extractor = store.getReader( Cheese.class, "type" );
+        ad.addObjectSink( createAlphaNode(cheeseTypeEqualsTo("stilton")) );
+        ad.addObjectSink( createAlphaNode(cheeseTypeEqualsTo("brie")) );
+        ad.addObjectSink( createAlphaNode(cheeseTypeEqualsTo("muzzarela")) );
+        if (!useLambdaConstraint) {
+            // the executable model extracts the value of the field through a lambda that always boxes it
+            extractor = store.getReader( Cheese.class, "price" );
+            ad.addObjectSink( createAlphaNode(cheesePriceEqualsTo(1000)) );
+            ad.addObjectSink( createAlphaNode(cheesePriceEqualsTo(2000)) );
+            ad.addObjectSink( createAlphaNode(cheesePriceEqualsTo(3000)) );
+        }
+
+        final InternalFactHandle handle = newCheeseHandle( "brie", 2000 );
+        final int insertsCount = 10_000;
+        final Runnable inserts = () -> {
+            for (int i = 0; i < insertsCount; i++) {
+                ad.propagateAssertObject( handle, null, null );
+            }
+        };
+        inserts.run();
+
+        final long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        final long measurementOverhead = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        before = threadBean.getThreadAllocatedBytes(threadId);
+        inserts.run();
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // tolerates one-off allocations by the jvm, while a single object allocated per insert would fail
+        assertThat((allocated - measurementOverhead) / insertsCount).isZero();
+    }
+
 	private AlphaNodeFieldConstraint cheeseTypeEqualsTo(String value) {
 		return ConstraintTestUtil.createCheeseTypeEqualsConstraint(extractor, value, useLambdaConstraint);
 	}
@@ -407,6 +483,10 @@ public class CompositeObjectSinkAdapterTest {
 		return ConstraintTestUtil.createCheeseCharObjectTypeEqualsConstraint(extractor, value, useLambdaConstraint);
 	}
 	
+	private AlphaNodeFieldConstraint cheesePriceEqualsTo(int value) {
+		return ConstraintTestUtil.createCheesePriceEqualsConstraint(extractor, value, useLambdaConstraint);
+	}
+
 	private AlphaNodeFieldConstraint cheesePriceGreaterThan(int value) {
 		return ConstraintTestUtil.createCheesePriceGreaterConstraint(extractor, value, useLambdaConstraint);
 	}
@@ -419,6 +499,13 @@ public class CompositeObjectSinkAdapterTest {
 	}
    
 
+	private InternalFactHandle newCheeseHandle(String type, int price) {
+		return new ReteooFactHandleFactory().newFactHandle( new Cheese( type, price ),
+                                                            null,
+                                                            null,
+                                                            new DisconnectedWorkingMemoryEntryPoint( "DEFAULT" ) );
+	}
+
 	private MockBetaNode createBetaNode() {
 		return new MockBetaNode( buildContext.getNextNodeId(),
                                                     new MockBetaNode( ),
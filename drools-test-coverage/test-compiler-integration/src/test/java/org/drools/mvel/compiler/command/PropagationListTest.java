@@ -18,19 +18,26 @@
  */
 package org.drools.mvel.compiler.command;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.SynchronizedPropagationList;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class PropagationListTest {
 
     @Test @Ignore
@@ -96,6 +103,37 @@ public class PropagationListTest {
         }
     }
 
+    @Test(timeout = 20000)
+    public void testLockFreeKeepsTheOrderOfEachProducer() throws Exception {
+        final int OBJECT_NR = 100000;
+        final int THREAD_NR = 4;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_NR);
+        try {
+            final Checker checker = new Checker(THREAD_NR);
+            final PropagationList propagationList = new LockFreePropagationList(null);
+
+            final List<Future<Boolean>> producers = new ArrayList<>();
+            for (int i = 0; i < THREAD_NR; i++) {
+                producers.add(executor.submit(getTask(OBJECT_NR, checker, propagationList, i)));
+            }
+
+            // the entries are taken while the producers are still adding them
+            while (!producers.stream().allMatch(Future::isDone)) {
+                propagationList.flush();
+            }
+            for (final Future<Boolean> producer : producers) {
+                assertThat(producer.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+            propagationList.flush();
+
+            assertThat(propagationList.isEmpty()).isTrue();
+            assertThat(checker.counters).containsOnly(OBJECT_NR);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void analyzeResults(final long[] results) {
         long min = results[0];
         long max = results[0];
@@ -137,6 +175,12 @@ public class PropagationListTest {
             this.j = j;
         }
 
+        @Override
+        public void execute(final ReteEvaluator reteEvaluator) {
+            // there is no ReteEvaluator to notify of the executed action
+            internalExecute(reteEvaluator);
+        }
+
         @Override
         public void internalExecute(final ReteEvaluator reteEvaluator) {
             checker.check(this);
@@ -31,14 +31,19 @@ import org.kie.api.conf.SequentialOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
+import org.kie.internal.conf.CompactFactHandlesOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
+import org.kie.internal.conf.CopyOnWriteUpdatesOption;
+import org.kie.internal.conf.EvaluationExecutorOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.ParallelExecutionOption;
 import org.kie.internal.conf.SequentialAgendaOption;
+import org.kie.internal.conf.SessionsPoolIdleTimeoutOption;
+import org.kie.internal.conf.SessionsPoolMaxSizeOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
 
@@ -156,6 +161,94 @@ public class KnowledgeBaseConfigurationTest {
         assertThat(config.getProperty(IndexLeftBetaMemoryOption.PROPERTY_NAME)).isEqualTo("false");
     }
     
+    @Test
+    public void testCompactFactHandlesConfiguration() {
+        assertThat(config.getOption(CompactFactHandlesOption.KEY)).isEqualTo(CompactFactHandlesOption.NO);
+
+        // setting the option using the type safe method
+        config.setOption( CompactFactHandlesOption.YES );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CompactFactHandlesOption.KEY)).isEqualTo(CompactFactHandlesOption.YES);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CompactFactHandlesOption.PROPERTY_NAME)).isEqualTo("true");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( CompactFactHandlesOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CompactFactHandlesOption.KEY)).isEqualTo(CompactFactHandlesOption.NO);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CompactFactHandlesOption.PROPERTY_NAME)).isEqualTo("false");
+    }
+
+    @Test
+    public void testCopyOnWriteUpdatesConfiguration() {
+        assertThat(config.getOption(CopyOnWriteUpdatesOption.KEY)).isEqualTo(CopyOnWriteUpdatesOption.NO);
+
+        // setting the option using the type safe method
+        config.setOption( CopyOnWriteUpdatesOption.YES );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CopyOnWriteUpdatesOption.KEY)).isEqualTo(CopyOnWriteUpdatesOption.YES);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CopyOnWriteUpdatesOption.PROPERTY_NAME)).isEqualTo("true");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( CopyOnWriteUpdatesOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(CopyOnWriteUpdatesOption.KEY)).isEqualTo(CopyOnWriteUpdatesOption.NO);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(CopyOnWriteUpdatesOption.PROPERTY_NAME)).isEqualTo("false");
+    }
+
+    @Test
+    public void testSessionsPoolMaxSizeConfiguration() {
+        assertThat(config.getOption(SessionsPoolMaxSizeOption.KEY)).isEqualTo(SessionsPoolMaxSizeOption.get(-1));
+
+        // setting the option using the type safe method
+        config.setOption( SessionsPoolMaxSizeOption.get(10) );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(SessionsPoolMaxSizeOption.KEY)).isEqualTo(SessionsPoolMaxSizeOption.get(10));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(SessionsPoolMaxSizeOption.PROPERTY_NAME)).isEqualTo("10");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( SessionsPoolMaxSizeOption.PROPERTY_NAME,
+                            "20" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(SessionsPoolMaxSizeOption.KEY)).isEqualTo(SessionsPoolMaxSizeOption.get(20));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(SessionsPoolMaxSizeOption.PROPERTY_NAME)).isEqualTo("20");
+    }
+
+    @Test
+    public void testSessionsPoolIdleTimeoutConfiguration() {
+        assertThat(config.getOption(SessionsPoolIdleTimeoutOption.KEY)).isEqualTo(SessionsPoolIdleTimeoutOption.get(-1));
+
+        // setting the option using the type safe method
+        config.setOption( SessionsPoolIdleTimeoutOption.get(60000) );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(SessionsPoolIdleTimeoutOption.KEY)).isEqualTo(SessionsPoolIdleTimeoutOption.get(60000));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(SessionsPoolIdleTimeoutOption.PROPERTY_NAME)).isEqualTo("60000");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( SessionsPoolIdleTimeoutOption.PROPERTY_NAME,
+                            "1000" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(SessionsPoolIdleTimeoutOption.KEY)).isEqualTo(SessionsPoolIdleTimeoutOption.get(1000));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(SessionsPoolIdleTimeoutOption.PROPERTY_NAME)).isEqualTo("1000");
+    }
+
     @Test
     public void testIndexRightBetaMemoryConfiguration() {
         // setting the option using the type safe method
@@ -285,6 +378,35 @@ public class KnowledgeBaseConfigurationTest {
         assertThat(config.getProperty(AlphaRangeIndexThresholdOption.PROPERTY_NAME)).isEqualTo(String.valueOf(AlphaRangeIndexThresholdOption.DEFAULT_VALUE));
     }
 
+    @Test
+    public void testEvaluationExecutorConfiguration() {
+        assertThat(config.getOption(EvaluationExecutorOption.KEY)).isEqualTo(EvaluationExecutorOption.SHARED);
+
+        // setting the option using the type safe method
+        config.setOption( EvaluationExecutorOption.forkJoin(4) );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(EvaluationExecutorOption.KEY)).isEqualTo(EvaluationExecutorOption.forkJoin(4));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(EvaluationExecutorOption.PROPERTY_NAME)).isEqualTo("forkjoin:4");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( EvaluationExecutorOption.PROPERTY_NAME,
+                            "virtual" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(EvaluationExecutorOption.KEY)).isEqualTo(EvaluationExecutorOption.VIRTUAL_THREADS);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(EvaluationExecutorOption.PROPERTY_NAME)).isEqualTo("virtual");
+
+        // If empty, default value is set
+        config.setProperty( EvaluationExecutorOption.PROPERTY_NAME,
+                            "" );
+
+        assertThat(config.getOption(EvaluationExecutorOption.KEY)).isEqualTo(EvaluationExecutorOption.SHARED);
+        assertThat(config.getProperty(EvaluationExecutorOption.PROPERTY_NAME)).isEqualTo("shared");
+    }
+
     @Test
     public void testBetaRangeIndexenabledConfiguration() {
         // setting the option using the enum
@@ -0,0 +1,149 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.core.common.CompactFactHandle;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.impl.InternalRuleBase;
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.CompactFactHandlesOption;
+import org.kie.internal.conf.ParallelExecutionOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class CompactFactHandlesTest {
+
+    private static final String DRL =
+            "package org.drools.mvel.compiler\n" +
+            "global java.util.List list\n" +
+            "rule Likes when\n" +
+            "    $p : Person( age >= 18, $likes : likes )\n" +
+            "    Cheese( type == $likes )\n" +
+            "then\n" +
+            "    list.add( $p.getName() );\n" +
+            "end\n" +
+            "rule NoCheese when\n" +
+            "    Person( name == \"Mark\", $likes : likes )\n" +
+            "    not Cheese( type == $likes )\n" +
+            "then\n" +
+            "    list.add( \"no \" + $likes );\n" +
+            "end\n";
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public CompactFactHandlesTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testCompactFactHandles() {
+        checkCompactFactHandles(CompactFactHandlesOption.YES);
+    }
+
+    @Test
+    public void testCompactFactHandlesWithParallelEvaluation() {
+        checkCompactFactHandles(CompactFactHandlesOption.YES, ParallelExecutionOption.PARALLEL_EVALUATION);
+    }
+
+    private void checkCompactFactHandles(KieBaseOption... options) {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("compact-handles-test", kieBaseTestConfiguration, DRL);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, options);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final Person mark = new Person("Mark", "stilton", 37);
+            final FactHandle markHandle = ksession.insert(mark);
+            final FactHandle kidHandle = ksession.insert(new Person("Kid", 10));
+
+            // the partitions could create the tuples of a compact handle concurrently, so plain handles are used instead
+            assertThat(markHandle instanceof CompactFactHandle).isEqualTo(!((InternalRuleBase) kbase).isPartitioned());
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("no stilton");
+            list.clear();
+
+            final FactHandle cheeseHandle = ksession.insert(new Cheese("stilton", 10));
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("Mark");
+            list.clear();
+
+            mark.setAge(38);
+            ksession.update(markHandle, mark);
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("Mark");
+            list.clear();
+
+            ksession.delete(cheeseHandle);
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("no stilton");
+            list.clear();
+
+            ksession.delete(markHandle);
+            ksession.delete(kidHandle);
+            ksession.fireAllRules();
+            assertThat(((InternalFactHandle) markHandle).hasMatches()).isFalse();
+            assertThat(ksession.getFactCount()).isZero();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testFactNotMatchingAnyRuleHasNoLinkedTuples() {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("compact-handles-test", kieBaseTestConfiguration, DRL);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, CompactFactHandlesOption.YES);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.setGlobal("list", new ArrayList<>());
+            final InternalFactHandle kid = (InternalFactHandle) ksession.insert(new Person("Kid", 10));
+            final InternalFactHandle cheese = (InternalFactHandle) ksession.insert(new Cheese("brie", 10));
+            ksession.fireAllRules();
+
+            assertThat(kid.hasMatches()).isFalse();
+            assertThat(cheese.hasMatches()).isTrue();
+            assertThat(kid.getObjectClassName()).isEqualTo(Person.class.getName());
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -21,19 +21,32 @@ package org.drools.mvel.integrationtests;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.mvel.compiler.Cheese;
 import org.drools.mvel.compiler.Person;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
 import org.drools.testcoverage.common.util.TestParametersUtil;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.ParallelExecutionOption;
+import org.kie.internal.runtime.conf.ForceEagerActivationOption;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -161,4 +174,104 @@ public class FireUntilHaltTest {
         assertThat(alive).as("Thread should have died!").isFalse();
         assertThat(list.size()).isEqualTo(1);
     }
+
+    @Test(timeout = 10000)
+    public void testScheduleFireUntilHalt() throws Exception {
+        checkScheduleFireUntilHalt(null);
+    }
+
+    @Test(timeout = 10000)
+    public void testScheduleFireUntilHaltWithBypassPropagationList() throws Exception {
+        // the eager activations make the session use a SynchronizedBypassPropagationList
+        final KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ForceEagerActivationOption.YES);
+        checkScheduleFireUntilHalt(conf);
+    }
+
+    private void checkScheduleFireUntilHalt(KieSessionConfiguration conf) throws Exception {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global java.util.List list;" +
+                "global java.util.concurrent.CountDownLatch latch;" +
+                "rule R when\n" +
+                "    Person( age >= 18, $name : name )\n" +
+                "then\n" +
+                "    list.add($name);" +
+                "    latch.countDown();" +
+                "end";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        KieSession kSession = kbase.newKieSession(conf, null);
+
+        final List<String> list = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(2);
+        kSession.setGlobal("list", list);
+        kSession.setGlobal("latch", latch);
+
+        // a single thread executor: the scheduled firings must give it back while the session is at rest
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ((StatefulKnowledgeSessionImpl) kSession).scheduleFireUntilHalt(null, executor);
+
+            kSession.insert(new Person("Mario", 17));
+            kSession.insert(new Person("Mark", 40));
+            kSession.insert(new Person("Edson", 38));
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(list).containsExactlyInAnyOrder("Mark", "Edson");
+
+            final Future<Boolean> task = executor.submit(() -> true);
+            assertThat(task.get(5, TimeUnit.SECONDS)).as("The session at rest must not hold the executor thread").isTrue();
+
+            kSession.halt();
+
+            // once halted the session doesn't fire anymore until it is explicitly asked to
+            final Future<?> drained = executor.submit(() -> { });
+            drained.get(5, TimeUnit.SECONDS);
+            kSession.insert(new Person("Luca", 50));
+            executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+            assertThat(list).hasSize(2);
+
+            assertThat(kSession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactlyInAnyOrder("Mark", "Edson", "Luca");
+        } finally {
+            kSession.dispose();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void testScheduleFireUntilHaltOnParallelAgenda() throws Exception {
+        final StringBuilder drl = new StringBuilder( "global java.util.concurrent.CountDownLatch latch;\n" );
+        final int ruleNr = 10;
+        for (int i = 0; i < ruleNr; i++) {
+            drl.append( "rule R" ).append( i ).append( " when\n" )
+               .append( "    Integer( intValue == " ).append( i ).append( " )\n" )
+               .append( "then\n" )
+               .append( "    latch.countDown();\n" )
+               .append( "end\n" );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, drl.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, ParallelExecutionOption.FULLY_PARALLEL);
+        final KieSession kSession = kbase.newKieSession();
+        assertThat(((InternalWorkingMemory) kSession).getAgenda().isParallelAgenda()).isTrue();
+
+        final CountDownLatch latch = new CountDownLatch(ruleNr);
+        kSession.setGlobal("latch", latch);
+
+        // the composite agenda has no event driven mode, so it fires until halt on a thread of the executor
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ((StatefulKnowledgeSessionImpl) kSession).scheduleFireUntilHalt(null, executor);
+            for (int i = 0; i < ruleNr; i++) {
+                kSession.insert(i);
+            }
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            kSession.halt();
+            kSession.dispose();
+            executor.shutdownNow();
+        }
+    }
 }
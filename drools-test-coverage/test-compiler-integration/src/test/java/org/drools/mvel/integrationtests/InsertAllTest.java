@@ -0,0 +1,143 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.core.common.InternalFactHandle;
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class InsertAllTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public InsertAllTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testInsertAll() {
+        final String drl =
+                "package org.drools.mvel.compiler\n" +
+                "global java.util.List list\n" +
+                "rule Likes when\n" +
+                "    $p : Person( $likes : likes )\n" +
+                "    Cheese( type == $likes )\n" +
+                "then\n" +
+                "    list.add( $p.getName() );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("insert-all-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final Person mario = new Person("Mario", "stilton");
+            final Person mark = new Person("Mark", "brie");
+            final FactHandle edsonHandle = ksession.insert(new Person("Edson", "stilton"));
+
+            final List<FactHandle> handles = ksession.insertAll(Arrays.asList(mario, new Cheese("stilton"), mark, null, new Cheese("brie"), mario));
+
+            assertThat(handles).hasSize(6);
+            assertThat(handles.get(3)).isNull();
+            // a fact inserted twice gets the same handle
+            assertThat(handles.get(5)).isSameAs(handles.get(0));
+            assertThat(ksession.getFactHandle(mark)).isSameAs(handles.get(2));
+            assertThat(ksession.getFactCount()).isEqualTo(5);
+
+            // the handles of the batch are allocated in bulk
+            final long firstId = ((InternalFactHandle) handles.get(0)).getId();
+            assertThat(firstId).isGreaterThan(((InternalFactHandle) edsonHandle).getId());
+            assertThat(((InternalFactHandle) handles.get(1)).getId()).isEqualTo(firstId + 1);
+            assertThat(((InternalFactHandle) handles.get(2)).getId()).isEqualTo(firstId + 2);
+            assertThat(((InternalFactHandle) handles.get(4)).getId()).isEqualTo(firstId + 3);
+
+            assertThat(ksession.fireAllRules()).isEqualTo(3);
+            assertThat(list).containsExactlyInAnyOrder("Mario", "Edson", "Mark");
+
+            ksession.delete(handles.get(1));
+            assertThat(ksession.insertAll(Arrays.asList(new Cheese("stilton"), new Person("Luca", "brie")))).hasSize(2);
+            list.clear();
+            assertThat(ksession.fireAllRules()).isEqualTo(3);
+            assertThat(list).containsExactlyInAnyOrder("Mario", "Edson", "Luca");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testInsertAllWithLogicalInsertions() {
+        final String drl =
+                "package org.drools.mvel.compiler\n" +
+                "rule Names when\n" +
+                "    Person( $name : name )\n" +
+                "then\n" +
+                "    insertLogical( $name );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("insert-all-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<FactHandle> handles = ksession.insertAll(Arrays.asList(new Person("Mario"), "Mario", new Person("Mark")));
+            assertThat(handles).doesNotContainNull();
+
+            ksession.fireAllRules();
+            // the logical insertion of an already stated fact doesn't create another one
+            assertThat((Collection<Object>) ksession.getObjects(new ClassObjectFilter(String.class))).containsExactlyInAnyOrder("Mario", "Mark");
+
+            ksession.delete(handles.get(2));
+            ksession.fireAllRules();
+            assertThat((Collection<Object>) ksession.getObjects(new ClassObjectFilter(String.class))).containsExactly("Mario");
+
+            // the Strings are now under truth maintenance and inserted one at a time, but the recencies still follow the list
+            final List<FactHandle> mixed = ksession.insertAll(Arrays.asList(new Person("Luca"), "Stated", new Person("Max"), new Person("Edson")));
+            final long lucaRecency = ((InternalFactHandle) mixed.get(0)).getRecency();
+            final long statedRecency = ((InternalFactHandle) mixed.get(1)).getRecency();
+            final long maxRecency = ((InternalFactHandle) mixed.get(2)).getRecency();
+            assertThat(statedRecency).isGreaterThan(lucaRecency);
+            assertThat(maxRecency).isGreaterThan(statedRecency);
+            assertThat(((InternalFactHandle) mixed.get(3)).getRecency()).isEqualTo(maxRecency + 1);
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.OffHeapEventHandle;
+import org.drools.core.common.OffHeapFactHandle;
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.runtime.conf.OffHeapEventsOption;
+import org.kie.internal.runtime.conf.OffHeapFactsOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class OffHeapEventsTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public OffHeapEventsTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseStreamConfigurations(true);
+    }
+
+    @Test
+    public void testTimeWindowOverOffHeapEvents() {
+        final String drl =
+                "package org.drools.mvel.compiler\n" +
+                "global java.util.List list\n" +
+                "declare Person\n" +
+                "    @role( event )\n" +
+                "end\n" +
+                "rule TotalAge when\n" +
+                "    Cheese( $type : type )\n" +
+                "    accumulate( Person( likes == $type, $age : age ) over window:time( 1h ); $total : sum( $age ), $count : count() ; $count > 0 )\n" +
+                "then\n" +
+                "    list.add( $total.intValue() );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("off-heap-events-test", kieBaseTestConfiguration, drl);
+        final KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        conf.setOption(OffHeapFactsOption.DIRECT_MEMORY);
+        conf.setOption(OffHeapEventsOption.YES);
+        final KieSession ksession = kbase.newKieSession(conf, null);
+        try {
+            final List<Integer> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final SessionPseudoClock clock = ksession.getSessionClock();
+
+            final FactHandle cheeseHandle = ksession.insert(new Cheese("stilton", 10));
+            assertThat(cheeseHandle).isInstanceOf(OffHeapFactHandle.class);
+
+            final FactHandle marioHandle = ksession.insert(new Person("Mario", "stilton", 46));
+            assertThat(marioHandle).isInstanceOf(OffHeapEventHandle.class);
+            assertThat(((OffHeapEventHandle) marioHandle).isOffHeap()).isTrue();
+            assertThat(((OffHeapEventHandle) marioHandle).getStartTimestamp()).isEqualTo(clock.getCurrentTime());
+
+            clock.advanceTime(30, TimeUnit.MINUTES);
+            ksession.insert(new Person("Mark", "stilton", 42));
+            ksession.insert(new Person("Edson", "brie", 35));
+            ksession.fireAllRules();
+            assertThat(list).containsExactly(88);
+
+            // Mario's event leaves the window
+            clock.advanceTime(40, TimeUnit.MINUTES);
+            ksession.fireAllRules();
+            assertThat(list).containsExactly(88, 42);
+            assertThat(((OffHeapEventHandle) marioHandle).isOffHeap()).isFalse();
+            assertThat(((Person) marioHandle.getObject()).getName()).isEqualTo("Mario");
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.core.common.OffHeapFactHandle;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.runtime.rule.QueryResults;
+import org.kie.internal.runtime.conf.OffHeapFactsOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class OffHeapFactsTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public OffHeapFactsTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testRulesAndQueriesOnOffHeapFacts() {
+        final String drl =
+                "package org.drools.mvel.compiler\n" +
+                "global java.util.List list\n" +
+                "query adults\n" +
+                "    Person( age >= 18, $name : name )\n" +
+                "end\n" +
+                "rule Birthday when\n" +
+                "    $p : Person( name == \"Mark\", age < 18 )\n" +
+                "then\n" +
+                "    modify( $p ) { setAge( 18 ) }\n" +
+                "end\n" +
+                "rule Adult when\n" +
+                "    Person( age >= 18, $name : name )\n" +
+                "then\n" +
+                "    list.add( $name );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("off-heap-test", kieBaseTestConfiguration, drl);
+        final KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(OffHeapFactsOption.DIRECT_MEMORY);
+        final KieSession ksession = kbase.newKieSession(conf, null);
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final Person mario = new Person("Mario", 46);
+            final FactHandle marioHandle = ksession.insert(mario);
+            ksession.insert(new Person("Mark", 17));
+            ksession.insert(new Person("Edson", 10));
+
+            assertThat(marioHandle).isInstanceOf(OffHeapFactHandle.class);
+            assertThat(((OffHeapFactHandle) marioHandle).isOffHeap()).isTrue();
+            assertThat(ksession.getFactHandle(mario)).isSameAs(marioHandle);
+
+            ksession.fireAllRules();
+            assertThat(list).containsExactlyInAnyOrder("Mario", "Mark");
+
+            final QueryResults results = ksession.getQueryResults("adults");
+            assertThat(results.size()).isEqualTo(2);
+
+            mario.setAge(12);
+            ksession.update(marioHandle, mario);
+            assertThat(((Person) marioHandle.getObject()).getAge()).isEqualTo(12);
+            assertThat(ksession.getQueryResults("adults").size()).isEqualTo(1);
+
+            ksession.delete(marioHandle);
+            assertThat(((OffHeapFactHandle) marioHandle).isOffHeap()).isFalse();
+            assertThat(ksession.getFactCount()).isEqualTo(2);
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
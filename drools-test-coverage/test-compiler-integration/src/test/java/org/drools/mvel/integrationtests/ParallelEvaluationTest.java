@@ -18,6 +18,11 @@
  */
 package org.drools.mvel.integrationtests;
 
+import org.drools.base.common.EvaluationExecutorStats;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.common.TruthMaintenanceSystem;
+import org.drools.core.common.TruthMaintenanceSystemFactory;
+import org.drools.core.impl.InternalRuleBase;
 import org.drools.mvel.compiler.util.debug.DebugList;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
@@ -29,11 +34,17 @@ import org.junit.runners.Parameterized;
 import org.kie.api.KieBase;
 import org.kie.api.builder.KieModule;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.EvaluationExecutorOption;
 import org.kie.internal.conf.ParallelExecutionOption;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -139,4 +150,186 @@ public class ParallelEvaluationTest {
                 .flatMap(i -> Arrays.asList(i, i+1).stream()).collect(Collectors.toList());
         assertThat(list).isEqualTo(expected);
     }
+
+    @Test
+    public void testLogicalInsertsFromPartitions() {
+        int ruleNr = 40;
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < ruleNr; i++) {
+            // the rules justify the same facts from different partitions
+            sb.append( getRule( i, "insertLogical( Long.valueOf(" + (i % 4) + ") );\n" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, ParallelExecutionOption.PARALLEL_EVALUATION );
+        assertThat(((InternalRuleBase) kbase).getRuleBaseConfiguration().isParallelEvaluation()).isTrue();
+
+        KieSession ksession = kbase.newKieSession();
+        try {
+            List<Integer> list = new DebugList<>();
+            ksession.setGlobal( "list", list );
+
+            List<FactHandle> strings = new ArrayList<>();
+            for (int i = 0; i < ruleNr; i++) {
+                ksession.insert( i );
+                strings.add( ksession.insert( "" + i ) );
+            }
+
+            assertThat(ksession.fireAllRules()).isEqualTo(ruleNr);
+            assertThat(ksession.getObjects( Long.class::isInstance )).hasSize(4);
+
+            // the activations are cancelled, and their logical dependencies removed, by the parallel evaluation
+            for (int i = 0; i < ruleNr; i++) {
+                if (i % 4 != 0) {
+                    ksession.delete( strings.get(i) );
+                }
+            }
+            ksession.fireAllRules();
+            assertThat(new ArrayList<Object>( ksession.getObjects( Long.class::isInstance ) )).containsExactly( 0L );
+
+            TruthMaintenanceSystem tms = TruthMaintenanceSystemFactory.get().getOrCreateTruthMaintenanceSystem( (ReteEvaluator) ksession );
+            assertThat(tms.getEqualityKeysSize()).isEqualTo(1);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testDistinctLogicalInsertsFromPartitionsKeepObjectStoreConsistent() {
+        int ruleNr = 40;
+        int factsPerRule = 50;
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < ruleNr; i++) {
+            // every rule justifies its own facts, so the partitions work on distinct equality keys
+            sb.append( getRule( i, "for (int j = 0; j < " + factsPerRule + "; j++) { insertLogical( Long.valueOf(" + (i * factsPerRule) + "L + j) ); }\n" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, ParallelExecutionOption.FULLY_PARALLEL );
+
+        KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.setGlobal( "list", new DebugList<Integer>() );
+            TruthMaintenanceSystem tms = TruthMaintenanceSystemFactory.get().getOrCreateTruthMaintenanceSystem( (ReteEvaluator) ksession );
+
+            for (int round = 0; round < 5; round++) {
+                List<FactHandle> strings = new ArrayList<>();
+                for (int i = 0; i < ruleNr; i++) {
+                    ksession.insert( i );
+                    strings.add( ksession.insert( "" + i ) );
+                }
+
+                // the consequences of the partitions insert the logical facts concurrently
+                assertThat(ksession.fireAllRules()).isEqualTo(ruleNr);
+                assertThat(ksession.getFactCount()).isEqualTo(2L * ruleNr + ruleNr * factsPerRule);
+                Collection<FactHandle> longHandles = ksession.getFactHandles( Long.class::isInstance );
+                assertThat(longHandles).hasSize(ruleNr * factsPerRule);
+                for (FactHandle fh : longHandles) {
+                    assertThat(ksession.getFactHandle( ksession.getObject( fh ) )).isSameAs(fh);
+                }
+                assertThat(tms.getEqualityKeysSize()).isEqualTo(ruleNr * factsPerRule);
+
+                // the partitions cancel the activations, and retract their logical facts, concurrently
+                strings.forEach( ksession::delete );
+                ksession.fireAllRules();
+                assertThat(ksession.getObjects( Long.class::isInstance )).isEmpty();
+                assertThat(ksession.getFactCount()).isEqualTo(ruleNr);
+                assertThat(tms.getEqualityKeysSize()).isZero();
+
+                new ArrayList<FactHandle>( ksession.getFactHandles() ).forEach( ksession::delete );
+                assertThat(ksession.getFactCount()).isZero();
+            }
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testDedicatedForkJoinExecutor() {
+        EvaluationExecutorStats stats = checkSalienceWithExecutor( EvaluationExecutorOption.forkJoin(4) );
+        assertThat(stats.getParallelism()).isEqualTo(4);
+        assertThat(stats.getInvocations()).isPositive();
+    }
+
+    @Test
+    public void testCustomExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            EvaluationExecutorStats stats = checkSalienceWithExecutor( EvaluationExecutorOption.custom(executor) );
+            assertThat(stats.getParallelism()).isEqualTo(4);
+            assertThat(stats.getInvocations()).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 40000L)
+    public void testFireUntilHaltWithBoundedCustomExecutor() throws InterruptedException {
+        int ruleNr = 10;
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < ruleNr; i++) {
+            sb.append( getRule( i, "" ) );
+        }
+
+        // the fireUntilHalt of each partition blocks its thread, so it must not run on the single thread of this pool
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                      ParallelExecutionOption.FULLY_PARALLEL, EvaluationExecutorOption.custom(executor) );
+        KieSession ksession = kbase.newKieSession();
+        try {
+            CountDownLatch done = new CountDownLatch(1);
+            DebugList<Integer> list = new DebugList<>();
+            list.onItemAdded = ( l -> { if (l.size() == ruleNr) {
+                done.countDown();
+            }} );
+            ksession.setGlobal( "list", list );
+
+            new Thread(ksession::fireUntilHalt).start();
+            for (int i = 0; i < ruleNr; i++) {
+                ksession.insert( i );
+                ksession.insert( "" + i );
+            }
+
+            done.await();
+            assertThat(list).hasSize(ruleNr);
+        } finally {
+            ksession.halt();
+            ksession.dispose();
+            executor.shutdownNow();
+        }
+    }
+
+    private EvaluationExecutorStats checkSalienceWithExecutor(EvaluationExecutorOption executorOption) {
+        int ruleNr = 20;
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < ruleNr; i++) {
+            sb.append( getRule( i, "", "salience " + i ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                      ParallelExecutionOption.PARALLEL_EVALUATION, executorOption );
+
+        KieSession ksession = kbase.newKieSession();
+
+        List<Integer> list = new DebugList<>();
+        ksession.setGlobal( "list", list );
+
+        for (int i = 0; i < ruleNr; i++) {
+            ksession.insert( i );
+            ksession.insert( "" + i );
+        }
+
+        ksession.fireAllRules();
+
+        List<Integer> expected = Stream.iterate(ruleNr-1, i -> i-1).limit(ruleNr).collect(Collectors.toList());
+        assertThat(list).isEqualTo(expected);
+
+        return ((InternalRuleBase) kbase).getEvaluationExecutor().getStats();
+    }
 }
@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.core.impl.InternalRuleBase;
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.conf.EvaluationExecutorOption;
+import org.kie.internal.conf.ParallelJoinThresholdOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class ParallelJoinTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public ParallelJoinTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testIndexedJoin() {
+        String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p : Person( $age : age )\n" +
+                "    $c : Cheese( price == $age )\n" +
+                "then\n" +
+                "    list.add($p.getName() + \":\" + $c.getType());\n" +
+                "end\n";
+
+        assertSameResults(drl);
+    }
+
+    @Test
+    public void testNotIndexedJoin() {
+        String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p : Person( $age : age )\n" +
+                "    $c : Cheese( price > $age, price < $age + 5 )\n" +
+                "then\n" +
+                "    list.add($p.getName() + \":\" + $c.getType());\n" +
+                "end\n";
+
+        assertSameResults(drl);
+    }
+
+    @Test
+    public void testThresholdBoundary() {
+        String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p : Person( $age : age )\n" +
+                "    $c : Cheese( price == $age )\n" +
+                "then\n" +
+                "    list.add($p.getName() + \":\" + $c.getType());\n" +
+                "end\n";
+
+        // the left inserts are evaluated in parallel only when they are at least as many as the threshold
+        Evaluation below = evaluate(drl, ParallelJoinThresholdOption.get(100), 99);
+        assertThat(below.invocations).isZero();
+        assertThat(below.results).hasSize(99);
+
+        Evaluation atThreshold = evaluate(drl, ParallelJoinThresholdOption.get(100), 100);
+        assertThat(atThreshold.invocations).isEqualTo(1);
+        assertThat(atThreshold.results).hasSize(100);
+    }
+
+    private void assertSameResults(String drl) {
+        Evaluation sequential = evaluate(drl, ParallelJoinThresholdOption.get(ParallelJoinThresholdOption.DEFAULT_VALUE), 3000);
+        Evaluation parallel = evaluate(drl, ParallelJoinThresholdOption.get(100), 3000);
+
+        assertThat(sequential.results).isNotEmpty();
+        assertThat(sequential.invocations).isZero();
+        assertThat(parallel.invocations).isPositive();
+        // the children of the join are created in the same order, so also the rules fire in the same order
+        assertThat(parallel.results).isEqualTo(sequential.results);
+    }
+
+    private Evaluation evaluate(String drl, ParallelJoinThresholdOption thresholdOption, int personsNr) {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, drl);
+        // a dedicated executor, so that its invocations are only the ones of this kbase
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                      thresholdOption, EvaluationExecutorOption.forkJoin(2));
+
+        KieSession ksession = kbase.newKieSession();
+        try {
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            for (int i = 0; i < 100; i++) {
+                ksession.insert(new Cheese("cheese" + i, i));
+            }
+            for (int i = 0; i < personsNr; i++) {
+                ksession.insert(new Person("person" + i, i % 120));
+            }
+
+            ksession.fireAllRules();
+            return new Evaluation(list, ((InternalRuleBase) kbase).getEvaluationExecutor().getStats().getInvocations());
+        } finally {
+            ksession.dispose();
+            ((InternalRuleBase) kbase).shutdownEvaluationExecutor();
+        }
+    }
+
+    private static class Evaluation {
+        private final List<String> results;
+        private final long invocations;
+
+        private Evaluation(List<String> results, long invocations) {
+            this.results = results;
+            this.invocations = invocations;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.integrationtests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.drools.base.common.DroolsObjectOutputStream;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.compiler.kie.builder.impl.KieModuleKieProject;
+import org.drools.compiler.kie.builder.impl.KiePackagesSnapshot;
+import org.drools.compiler.kproject.models.KieBaseModelImpl;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class PrebuiltKieBaseTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public PrebuiltKieBaseTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        // only the KieBases built from DRL are prebuilt
+        return TestParametersUtil.getKieBaseCloudConfigurations(false);
+    }
+
+    @Test
+    public void testKieBaseFromPrebuiltPackages() throws Exception {
+        final KieServices ks = KieServices.get();
+        final ReleaseId releaseId = ks.newReleaseId("org.kie", "prebuilt-kbase-test", "1.0.0");
+        final InternalKieModule kieModule = (InternalKieModule) KieUtil.getKieModuleFromDrls(releaseId, kieBaseTestConfiguration, getDrl("Hello"));
+        final String kBaseName = getKBaseName(kieModule);
+
+        final byte[] kjar = putEntries(kieModule.getBytes(), Collections.singletonMap(KiePackagesSnapshot.getSnapshotPath(kBaseName), writeSnapshot(kieModule, kBaseName)));
+        final KieModule prebuiltKieModule = ks.getRepository().addKieModule(ks.getResources().newByteArrayResource(kjar));
+
+        try {
+            assertThat(fireGreetings(ks.newKieContainer(releaseId))).containsExactly("Hello Mario");
+            // the packages have been restored from the image, and not compiled
+            assertThat(((InternalKieModule) prebuiltKieModule).getKnowledgePackagesForKieBase(kBaseName)).isNull();
+        } finally {
+            ks.getRepository().removeKieModule(releaseId);
+        }
+    }
+
+    @Test
+    public void testPrebuiltPackagesOfChangedResourcesAreIgnored() throws Exception {
+        final KieServices ks = KieServices.get();
+        final ReleaseId releaseId = ks.newReleaseId("org.kie", "prebuilt-kbase-stale-test", "1.0.0");
+        final InternalKieModule kieModule = (InternalKieModule) KieUtil.getKieModuleFromDrls(releaseId, kieBaseTestConfiguration, getDrl("Hello"));
+        final String kBaseName = getKBaseName(kieModule);
+        final byte[] snapshot = writeSnapshot(kieModule, kBaseName);
+
+        // the rules are edited, but the kjar still contains the image of the previous ones
+        final String drlName = kieModule.getFileNames().stream().filter(name -> name.endsWith(".drl")).findFirst().get();
+        final Map<String, byte[]> entries = new HashMap<>();
+        entries.put(drlName, getDrl("Welcome").getBytes(StandardCharsets.UTF_8));
+        entries.put(KiePackagesSnapshot.getSnapshotPath(kBaseName), snapshot);
+        final KieModule prebuiltKieModule = ks.getRepository().addKieModule(ks.getResources().newByteArrayResource(putEntries(kieModule.getBytes(), entries)));
+
+        try {
+            assertThat(fireGreetings(ks.newKieContainer(releaseId))).containsExactly("Welcome Mario");
+            assertThat(((InternalKieModule) prebuiltKieModule).getKnowledgePackagesForKieBase(kBaseName)).isNotNull();
+        } finally {
+            ks.getRepository().removeKieModule(releaseId);
+        }
+    }
+
+    @Test
+    public void testPrebuiltPackagesOfAnotherVersionAreIgnored() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DroolsObjectOutputStream out = new DroolsObjectOutputStream(bytes)) {
+            out.writeUTF("7.0.0.Final");
+            out.writeUTF("digest");
+            out.writeObject(new ArrayList<>());
+        }
+
+        assertThat(KiePackagesSnapshot.read("kbase", "digest", bytes.toByteArray(), getClass().getClassLoader())).isNull();
+    }
+
+    private static String getDrl(final String greeting) {
+        return "package org.drools.mvel.compiler\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list\n" +
+                "declare Greeting\n" +
+                "    message : String\n" +
+                "end\n" +
+                "rule Hello when\n" +
+                "    Person( age >= 18, $name : name )\n" +
+                "then\n" +
+                "    insert( new Greeting( \"" + greeting + " \" + $name ) );\n" +
+                "end\n" +
+                "rule Collect when\n" +
+                "    Greeting( $message : message )\n" +
+                "then\n" +
+                "    list.add( $message );\n" +
+                "end\n";
+    }
+
+    private static String getKBaseName(final InternalKieModule kieModule) {
+        return kieModule.getKieModuleModel().getKieBaseModels().keySet().iterator().next();
+    }
+
+    private static byte[] writeSnapshot(final InternalKieModule kieModule, final String kBaseName) {
+        final KieModuleKieProject kieProject = new KieModuleKieProject(kieModule);
+        kieProject.init();
+        final String digest = kieProject.getKieBaseDigest((KieBaseModelImpl) kieModule.getKieModuleModel().getKieBaseModels().get(kBaseName));
+        return KiePackagesSnapshot.write(digest, kieModule.getKnowledgePackagesForKieBase(kBaseName));
+    }
+
+    private static List<String> fireGreetings(final KieContainer kieContainer) {
+        final KieSession ksession = kieContainer.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Person("Mario", 46));
+            ksession.insert(new Person("Sofia", 10));
+            ksession.fireAllRules();
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static byte[] putEntries(final byte[] kjar, final Map<String, byte[]> entries) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(kjar));
+             ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                if (!entries.containsKey(entry.getName())) {
+                    out.putNextEntry(new ZipEntry(entry.getName()));
+                    in.transferTo(out);
+                    out.closeEntry();
+                }
+            }
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -284,6 +284,80 @@ public class QueryTest {
         assertThat(newSet).isEqualTo(set);
     }
 
+    @Test
+    public void testStreamQueryResults() {
+        String str = "";
+        str += "package org.drools.mvel.compiler.test  \n";
+        str += "import org.drools.mvel.compiler.Cheese \n";
+        str += "query cheeses( String $type ) \n";
+        str += "    $cheese : Cheese( type == $type, $price : price ) \n";
+        str += "end\n";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, str);
+        KieSession session = kbase.newKieSession();
+
+        for ( int i = 0; i < 10; i++ ) {
+            session.insert( new Cheese( "stilton", i ) );
+            session.insert( new Cheese( "cheddar", i ) );
+        }
+
+        List<Integer> prices = new ArrayList<>();
+        long count = session.streamQueryResults( "cheeses", row -> prices.add( (Integer) row.get( "$price" ) ), "stilton" );
+        assertThat(count).isEqualTo(10);
+        assertThat(prices).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // the consumer stops the query after the third row
+        List<Cheese> cheeses = new ArrayList<>();
+        count = session.streamQueryResults( "cheeses", row -> {
+            cheeses.add( (Cheese) row.get( "$cheese" ) );
+            return cheeses.size() < 3;
+        }, "cheddar" );
+        assertThat(count).isEqualTo(3);
+        assertThat(cheeses).hasSize(3).allMatch( cheese -> cheese.getType().equals( "cheddar" ) );
+
+        assertThat(session.getQueryResults( "cheeses", "cheddar" ).size()).isEqualTo(10);
+    }
+
+    @Test
+    public void testStreamQueryResultsRejectsQueriesFromConsumer() {
+        String str = "";
+        str += "package org.drools.mvel.compiler.test  \n";
+        str += "import org.drools.mvel.compiler.Cheese \n";
+        str += "query cheeses( String $type ) \n";
+        str += "    $cheese : Cheese( type == $type ) \n";
+        str += "end\n";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, str);
+        KieSession session = kbase.newKieSession();
+
+        for ( int i = 0; i < 3; i++ ) {
+            session.insert( new Cheese( "stilton", i ) );
+            session.insert( new Cheese( "cheddar", i ) );
+        }
+
+        List<Exception> errors = new ArrayList<>();
+        long count = session.streamQueryResults( "cheeses", row -> {
+            try {
+                session.streamQueryResults( "cheeses", nested -> true, "cheddar" );
+            } catch (IllegalStateException e) {
+                errors.add( e );
+            }
+            try {
+                session.getQueryResults( "cheeses", "cheddar" );
+            } catch (IllegalStateException e) {
+                errors.add( e );
+            }
+            return true;
+        }, "stilton" );
+
+        assertThat(count).isEqualTo(3);
+        assertThat(errors).hasSize(6);
+
+        // the session can be queried again once the consumer is done
+        assertThat(session.getQueryResults( "cheeses", "cheddar" ).size()).isEqualTo(3);
+        assertThat(session.streamQueryResults( "cheeses", row -> true, "cheddar" )).isEqualTo(3);
+    }
+
     @Test
     public void testTwoQuerries() throws Exception {
         // @see JBRULES-410 More than one Query definition causes an incorrect
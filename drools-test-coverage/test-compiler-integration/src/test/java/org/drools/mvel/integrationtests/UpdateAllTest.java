@@ -0,0 +1,186 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.common.InternalFactHandle;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectUpdatedEvent;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class UpdateAllTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public UpdateAllTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testUpdateAll() {
+        final String drl =
+                "package org.drools.mvel.compiler\n" +
+                "global java.util.List list\n" +
+                "rule Adult when\n" +
+                "    Person( age >= 18, $name : name )\n" +
+                "then\n" +
+                "    list.add( $name );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("update-all-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final List<Object> updated = new ArrayList<>();
+            ksession.addEventListener(new DefaultRuleRuntimeEventListener() {
+                @Override
+                public void objectUpdated(ObjectUpdatedEvent event) {
+                    updated.add(event.getObject());
+                }
+            });
+
+            final Person mario = new Person("Mario", 10);
+            final Person mark = new Person("Mark", 20);
+            final FactHandle marioHandle = ksession.insert(mario);
+            final FactHandle markHandle = ksession.insert(mark);
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mark");
+            list.clear();
+
+            // the updates of the same fact are coalesced into a single one
+            mario.setAge(15);
+            mario.setAge(20);
+            ksession.updateAll(Arrays.asList(marioHandle, marioHandle, marioHandle), "age");
+            assertThat(updated).containsExactly(mario);
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mario");
+            list.clear();
+            updated.clear();
+
+            // property reactivity still applies to the batch
+            mario.setLikes("stilton");
+            mark.setLikes("brie");
+            ksession.updateAll(Arrays.asList(marioHandle, markHandle), "likes");
+            assertThat(updated).containsExactly(mario, mark);
+            assertThat(ksession.fireAllRules()).isZero();
+            updated.clear();
+
+            // without properties the facts are considered wholly modified
+            ksession.updateAll(Arrays.asList(markHandle, marioHandle, markHandle));
+            assertThat(updated).containsExactly(mark, mario);
+            assertThat(ksession.fireAllRules()).isEqualTo(2);
+            assertThat(list).containsExactlyInAnyOrder("Mario", "Mark");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testUpdateAllWithPropertiesPerFact() {
+        final String drl =
+                "package org.drools.mvel.compiler\n" +
+                "global java.util.List list\n" +
+                "rule Adult when\n" +
+                "    Person( age >= 18, $name : name )\n" +
+                "then\n" +
+                "    list.add( $name );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("update-all-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final List<Object> updated = new ArrayList<>();
+            ksession.addEventListener(new DefaultRuleRuntimeEventListener() {
+                @Override
+                public void objectUpdated(ObjectUpdatedEvent event) {
+                    updated.add(event.getObject());
+                }
+            });
+
+            final Person mario = new Person("Mario", 20);
+            final Person mark = new Person("Mark", 20);
+            final FactHandle marioHandle = ksession.insert(mario);
+            final FactHandle markHandle = ksession.insert(mark);
+            assertThat(ksession.fireAllRules()).isEqualTo(2);
+            list.clear();
+
+            // each fact is reevaluated only if its own modified properties are relevant
+            mario.setAge(30);
+            mark.setLikes("brie");
+            final Map<FactHandle, String[]> modifiedProperties = new LinkedHashMap<>();
+            modifiedProperties.put(markHandle, new String[] { "likes" });
+            modifiedProperties.put(marioHandle, new String[] { "age" });
+            ksession.updateAll(modifiedProperties);
+            assertThat(updated).containsExactly(mark, mario);
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mario");
+            list.clear();
+            updated.clear();
+
+            // distinct handles of the same fact are coalesced into a single update, merging their modified properties
+            mark.setLikes("stilton");
+            mark.setAge(40);
+            final Map<FactHandle, String[]> byIdentity = new IdentityHashMap<>();
+            byIdentity.put(markHandle, new String[] { "likes" });
+            byIdentity.put(((InternalFactHandle) markHandle).clone(), new String[] { "age" });
+            ksession.updateAll(byIdentity);
+            assertThat(updated).containsExactly(mark);
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mark");
+            list.clear();
+            updated.clear();
+
+            // an empty set of properties means the fact is wholly modified
+            ksession.updateAll(Collections.singletonMap(marioHandle, new String[0]));
+            assertThat(updated).containsExactly(mario);
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mario");
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -31,6 +31,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.drools.core.impl.RuleBaseFactory;
 import org.drools.mvel.compiler.StockTick;
@@ -53,6 +54,7 @@ import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
 import org.kie.api.runtime.rule.QueryResults;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -557,6 +559,56 @@ public class MultithreadTest {
         }
     }
 
+    @Test(timeout = 20000)
+    public void testConcurrentInsertsWithLockFreePropagationList() throws Exception {
+        final String drl = "global java.util.concurrent.atomic.AtomicInteger counter;\n" +
+                "rule R when\n" +
+                "    Integer()\n" +
+                "then\n" +
+                "    counter.incrementAndGet();\n" +
+                "end";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+
+        final KieSessionConfiguration ksconf = KieServices.Factory.get().newKieSessionConfiguration();
+        ksconf.setOption(PropagationListOption.LOCK_FREE);
+        final KieSession ksession = kbase.newKieSession(ksconf, null);
+        assertThat(ksession.getSessionConfiguration().getOption(PropagationListOption.KEY)).isEqualTo(PropagationListOption.LOCK_FREE);
+
+        final AtomicInteger counter = new AtomicInteger();
+        ksession.setGlobal("counter", counter);
+
+        final int threadNr = 4;
+        final int factNr = 5000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadNr + 1);
+        try {
+            executor.submit((Runnable) ksession::fireUntilHalt);
+
+            final CompletionService<Boolean> ecs = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < threadNr; i++) {
+                final int thread = i;
+                ecs.submit(() -> {
+                    for (int j = 0; j < factNr; j++) {
+                        ksession.insert(thread * factNr + j);
+                    }
+                    return true;
+                });
+            }
+            for (int i = 0; i < threadNr; i++) {
+                assertThat(ecs.take().get()).isTrue();
+            }
+
+            while (counter.get() < threadNr * factNr) {
+                Thread.sleep(10);
+            }
+            assertThat(counter.get()).isEqualTo(threadNr * factNr);
+        } finally {
+            ksession.halt();
+            ksession.dispose();
+            executor.shutdownNow();
+        }
+    }
+
     @Test(timeout = 20000)
     public void testConcurrentFireAndDispose() throws InterruptedException {
         // DROOLS-1103
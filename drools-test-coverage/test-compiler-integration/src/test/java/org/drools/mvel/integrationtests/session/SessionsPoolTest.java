@@ -31,6 +31,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.drools.core.common.EventSupport;
 import org.drools.core.event.DefaultAgendaEventListener;
 import org.drools.core.event.DefaultRuleRuntimeEventListener;
+import org.drools.core.util.ScalablePool;
+import org.drools.kiesession.session.AbstractKieSessionsPool;
 import org.drools.mvel.compiler.FactA;
 import org.drools.mvel.compiler.FactB;
 import org.drools.mvel.compiler.FactC;
@@ -54,6 +56,7 @@ import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.internal.command.CommandFactory;
+import org.kie.internal.conf.SessionsPoolMaxSizeOption;
 import org.kie.internal.event.rule.RuleEventListener;
 import org.kie.internal.event.rule.RuleEventManager;
 
@@ -136,6 +139,36 @@ public class SessionsPoolTest {
         checkKieSession( ksession2 );
     }
 
+    @Test
+    public void testBoundedKieSessionsPool() {
+        KieBaseConfiguration kbConf = KieServices.get().newKieBaseConfiguration();
+        kbConf.setOption(SessionsPoolMaxSizeOption.get(1));
+        KieBase kBase = getKieContainer().newKieBase(kbConf);
+        KieSessionsPool pool = kBase.newKieSessionsPool( 1 );
+
+        KieSession ksession1 = pool.newKieSession();
+        KieSession ksession2 = pool.newKieSession();
+        checkKieSession( ksession1 );
+        checkKieSession( ksession2 );
+        ksession1.dispose();
+        // the pool already holds an idle session, so the least recently used one gets evicted
+        ksession2.dispose();
+
+        KieSession ksession3 = pool.newKieSession();
+        // the most recently released session is lent first
+        assertThat(ksession3).isSameAs(ksession2);
+        checkKieSession( ksession3 );
+        ksession3.dispose();
+
+        ScalablePool.Statistics statistics = ((AbstractKieSessionsPool) pool).getStatistics();
+        assertThat(statistics.getHits()).isEqualTo(2);
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getEvictions()).isEqualTo(1);
+        assertThat(statistics.getIdleSize()).isEqualTo(1);
+
+        pool.shutdown();
+    }
+
     @Test
     public void testKieSessionsPoolInMultithreadEnv() throws InterruptedException, ExecutionException {
         KieContainerSessionsPool pool = getKieContainer().newKieSessionsPool( 4 );
@@ -18,8 +18,10 @@
  */
 package org.drools.tms;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
@@ -42,6 +44,7 @@ import org.drools.tms.beliefsystem.BeliefSystem;
 import org.drools.tms.beliefsystem.BeliefSystemMode;
 import org.drools.tms.beliefsystem.ModedAssertion;
 import org.drools.tms.beliefsystem.jtms.JTMSBeliefSetImpl;
+import org.drools.tms.util.CustomKeyTransformerConcurrentHashMap;
 import org.drools.tms.util.CustomKeyTransformerHashMap;
 import org.kie.api.runtime.rule.FactHandle;
 
@@ -57,6 +60,10 @@ public class TruthMaintenanceSystemImpl implements TruthMaintenanceSystem {
 
     private final AssertBehaviour assertBehaviour;
 
+    // when the network is evaluated in parallel the partitions can insert and retract logical facts concurrently:
+    // the belief systems then also change the object store and propagate, so they run under the entry point lock
+    private final boolean parallelEvaluation;
+
     public TruthMaintenanceSystemImpl(InternalWorkingMemoryEntryPoint ep) {
         this.ep = ep;
 
@@ -64,7 +71,10 @@ public class TruthMaintenanceSystemImpl implements TruthMaintenanceSystem {
 
         this.typeConfReg = ep.getObjectTypeConfigurationRegistry();
 
-        this.equalityKeyMap = new CustomKeyTransformerHashMap<>(EqualityKeyPlaceholder::transformEqualityKey);
+        this.parallelEvaluation = ep.getKnowledgeBase().getRuleBaseConfiguration().isParallelEvaluation();
+        this.equalityKeyMap = parallelEvaluation ?
+                new CustomKeyTransformerConcurrentHashMap<>(EqualityKeyPlaceholder::transformEqualityKey) :
+                new CustomKeyTransformerHashMap<>(EqualityKeyPlaceholder::transformEqualityKey);
 
         this.defaultBeliefSystem = BeliefSystemFactory.createBeliefSystem(ep.getReteEvaluator().getRuleSessionConfiguration().getBeliefSystemType(), ep, this);
     }
@@ -114,6 +124,15 @@ public class TruthMaintenanceSystemImpl implements TruthMaintenanceSystem {
 
     @Override
     public InternalFactHandle insert(Object object, Object tmsValue, InternalMatch internalMatch) {
+        lockEntryPoint();
+        try {
+            return insertLogical( object, tmsValue, internalMatch );
+        } finally {
+            unlockEntryPoint();
+        }
+    }
+
+    private InternalFactHandle insertLogical(Object object, Object tmsValue, InternalMatch internalMatch) {
         ObjectTypeConf typeConf = typeConfReg.getOrCreateObjectTypeConf( ep.getEntryPoint(), object );
         if ( !typeConf.isTMSEnabled()) {
             enableTMS(object, typeConf);
@@ -161,9 +180,14 @@ public class TruthMaintenanceSystemImpl implements TruthMaintenanceSystem {
         final PropagationContext propagationContext = ep.getPctxFactory().createPropagationContext( ep.getReteEvaluator().getNextPropagationIdCounter(),
                                                                                                     PropagationContext.Type.DELETION,
                                                                                                     null, null, ifh, ep.getEntryPoint());
-        BeliefSet beliefSet = ((TruthMaintenanceSystemEqualityKey)key).getBeliefSet();
-        if ( beliefSet != null && !beliefSet.isEmpty() ) {
-            beliefSet.cancel(propagationContext);
+        lockEntryPoint();
+        try {
+            BeliefSet beliefSet = ((TruthMaintenanceSystemEqualityKey)key).getBeliefSet();
+            if ( beliefSet != null && !beliefSet.isEmpty() ) {
+                beliefSet.cancel(propagationContext);
+            }
+        } finally {
+            unlockEntryPoint();
         }
     }
 
@@ -258,20 +282,25 @@ public class TruthMaintenanceSystemImpl implements TruthMaintenanceSystem {
      * @param conf the type's configuration.
      */
     private void enableTMS(Object object, ObjectTypeConf conf) {
-        Iterator<InternalFactHandle> it = ep.getObjectStore().iterateFactHandles(ClassAwareObjectStore.getActualClass(object));
-
-        while (it.hasNext()) {
-            InternalFactHandle handle = it.next();
-            if (handle != null && handle.getEqualityKey() == null) {
-                EqualityKey key = new TruthMaintenanceSystemEqualityKey(handle);
-                handle.setEqualityKey(key);
-                key.setStatus(EqualityKey.STATED);
-                put(key);
+        lockEntryPoint();
+        try {
+            Iterator<InternalFactHandle> it = ep.getObjectStore().iterateFactHandles(ClassAwareObjectStore.getActualClass(object));
+
+            while (it.hasNext()) {
+                InternalFactHandle handle = it.next();
+                if (handle != null && handle.getEqualityKey() == null) {
+                    EqualityKey key = new TruthMaintenanceSystemEqualityKey(handle);
+                    handle.setEqualityKey(key);
+                    key.setStatus(EqualityKey.STATED);
+                    put(key);
+                }
             }
-        }
 
-        // Enable TMS for this type.
-        conf.enableTMS();
+            // Enable TMS for this type.
+            conf.enableTMS();
+        } finally {
+            unlockEntryPoint();
+        }
     }
 
     @Override
@@ -349,14 +378,73 @@ public class TruthMaintenanceSystemImpl implements TruthMaintenanceSystem {
 
         PropagationContext context = ((Tuple)activation).findMostRecentPropagationContext();
 
+        // the dependencies are removed in batches sharing the same belief system, so that the facts left without
+        // any justification can be retracted together
+        List<LogicalDependency<M>> batch = new ArrayList<>();
+        BeliefSystem<M> batchBeliefSystem = null;
         for ( LogicalDependency<M> node = list.getFirst(); node != null; node = node.getNext() ) {
-            removeLogicalDependency( node, context );
+            BeliefSystem<M> beliefSystem = ( (BeliefSet<M>) node.getJustified() ).getBeliefSystem();
+            if ( beliefSystem != batchBeliefSystem ) {
+                removeLogicalDependencies( batchBeliefSystem, batch, context );
+                batchBeliefSystem = beliefSystem;
+            }
+            batch.add( node );
         }
+        removeLogicalDependencies( batchBeliefSystem, batch, context );
         activation.setLogicalDependencies( null );
     }
 
+    private static <M extends ModedAssertion<M>> void removeLogicalDependencies(BeliefSystem<M> beliefSystem, List<LogicalDependency<M>> batch, PropagationContext context) {
+        if ( batch.size() == 1 ) {
+            removeLogicalDependency( batch.get(0), context );
+        } else if ( !batch.isEmpty() ) {
+            TruthMaintenanceSystemImpl tms = getParallelTms( beliefSystem );
+            if ( tms == null ) {
+                beliefSystem.deleteAll( batch, context );
+            } else {
+                tms.lockEntryPoint();
+                try {
+                    beliefSystem.deleteAll( batch, context );
+                } finally {
+                    tms.unlockEntryPoint();
+                }
+            }
+        }
+        batch.clear();
+    }
+
     public static <M extends ModedAssertion<M>> void removeLogicalDependency(final LogicalDependency<M> node, final PropagationContext context) {
         final BeliefSet<M> beliefSet = ( BeliefSet ) node.getJustified();
-        beliefSet.getBeliefSystem().delete( node, beliefSet, context );
+        final BeliefSystem<M> beliefSystem = beliefSet.getBeliefSystem();
+        TruthMaintenanceSystemImpl tms = getParallelTms( beliefSystem );
+        if ( tms == null ) {
+            beliefSystem.delete( node, beliefSet, context );
+            return;
+        }
+
+        tms.lockEntryPoint();
+        try {
+            beliefSystem.delete( node, beliefSet, context );
+        } finally {
+            tms.unlockEntryPoint();
+        }
+    }
+
+    private static TruthMaintenanceSystemImpl getParallelTms(BeliefSystem<?> beliefSystem) {
+        TruthMaintenanceSystem tms = beliefSystem.getTruthMaintenanceSystem();
+        return tms instanceof TruthMaintenanceSystemImpl && ( (TruthMaintenanceSystemImpl) tms ).parallelEvaluation ?
+                (TruthMaintenanceSystemImpl) tms : null;
+    }
+
+    private void lockEntryPoint() {
+        if ( parallelEvaluation ) {
+            ep.lock();
+        }
+    }
+
+    private void unlockEntryPoint() {
+        if ( parallelEvaluation ) {
+            ep.unlock();
+        }
     }
 }
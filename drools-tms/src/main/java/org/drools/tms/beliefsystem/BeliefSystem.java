@@ -18,6 +18,8 @@
  */
 package org.drools.tms.beliefsystem;
 
+import java.util.List;
+
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.TruthMaintenanceSystem;
 import org.drools.base.definitions.rule.impl.RuleImpl;
@@ -43,6 +45,16 @@ public interface BeliefSystem<M extends ModedAssertion<M>> {
     
     void delete(M mode, RuleImpl rule, InternalMatch internalMatch, Object payload, BeliefSet<M> beliefSet, PropagationContext context);
 
+    /**
+     * Deletes all the dependencies of a cancelled justification. Implementations can coalesce the retractions
+     * of the facts left without any justification.
+     */
+    default void deleteAll(List<LogicalDependency<M>> nodes, PropagationContext context) {
+        for (LogicalDependency<M> node : nodes) {
+            delete( node, (BeliefSet<M>) node.getJustified(), context );
+        }
+    }
+
     BeliefSet newBeliefSet(InternalFactHandle fh);
     
     LogicalDependency newLogicalDependency(TruthMaintenanceSystemInternalMatch<M> activation, BeliefSet<M> beliefSet, Object object, Object value);
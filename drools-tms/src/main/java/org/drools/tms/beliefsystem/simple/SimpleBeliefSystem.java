@@ -18,6 +18,9 @@
  */
 package org.drools.tms.beliefsystem.simple;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.tms.TruthMaintenanceSystemEqualityKey;
 import org.drools.tms.beliefsystem.BeliefSet;
@@ -121,22 +124,73 @@ public class SimpleBeliefSystem
 
     @Override
     public void delete(SimpleMode mode, RuleImpl rule, InternalMatch internalMatch, Object payload, BeliefSet<SimpleMode> beliefSet, PropagationContext context) {
+        InternalFactHandle bfh = beliefSet.getFactHandle();
+
+        if ( removeMode( mode, payload, beliefSet ) ) {
+            ep.immediateDelete(bfh, bfh.getObject(), getObjectTypeConf(beliefSet), context.getRuleOrigin(),
+                               internalMatch != null ? internalMatch.getTuple().getTupleSink() : null);
+        }
 
+        releaseEmptyBeliefSet( beliefSet );
+    }
+
+    @Override
+    public void deleteAll(List<LogicalDependency<SimpleMode>> nodes, PropagationContext context) {
+        InternalFactHandle[] handles = new InternalFactHandle[nodes.size()];
+        ObjectTypeConf[] typeConfs = new ObjectTypeConf[nodes.size()];
+        BeliefSet<SimpleMode>[] beliefSets = new BeliefSet[nodes.size()];
+        int retracted = 0;
+
+        for (int i = 0; i < beliefSets.length; i++) {
+            LogicalDependency<SimpleMode> node = nodes.get(i);
+            BeliefSet<SimpleMode> beliefSet = (BeliefSet<SimpleMode>) node.getJustified();
+            if ( removeMode( node.getMode(), node.getObject(), beliefSet ) ) {
+                handles[retracted] = beliefSet.getFactHandle();
+                typeConfs[retracted] = getObjectTypeConf(beliefSet);
+                retracted++;
+            }
+            beliefSets[i] = beliefSet;
+        }
+
+        if ( retracted > 0 ) {
+            // all the dependencies belong to the same cancelled justification
+            TruthMaintenanceSystemInternalMatch justifier = nodes.get(0).getJustifier();
+            ep.immediateDeleteAll( retracted == handles.length ? handles : Arrays.copyOf(handles, retracted),
+                                   retracted == typeConfs.length ? typeConfs : Arrays.copyOf(typeConfs, retracted),
+                                   context.getRuleOrigin(),
+                                   justifier != null ? justifier.getTuple().getTupleSink() : null );
+        }
+
+        // as for a single delete, the emptied belief sets are released only once their handles left the network
+        for (BeliefSet<SimpleMode> beliefSet : beliefSets) {
+            releaseEmptyBeliefSet( beliefSet );
+        }
+    }
+
+    /**
+     * Removes the mode from the belief set and returns true if its fact handle has no more justifications
+     * and then has to be deleted
+     */
+    private boolean removeMode(SimpleMode mode, Object payload, BeliefSet<SimpleMode> beliefSet) {
         beliefSet.remove( mode );
 
         InternalFactHandle bfh = beliefSet.getFactHandle();
 
         if ( beliefSet.isEmpty() && bfh.getEqualityKey() != null && bfh.getEqualityKey().getStatus() == EqualityKey.JUSTIFIED ) {
-            ep.immediateDelete(bfh, bfh.getObject(), getObjectTypeConf(beliefSet), context.getRuleOrigin(),
-                               internalMatch != null ? internalMatch.getTuple().getTupleSink() : null);
-        } else if ( !beliefSet.isEmpty() && bfh.getObject() == payload && payload != bfh.getObject() ) {
+            return true;
+        }
+        if ( !beliefSet.isEmpty() && bfh.getObject() == payload && payload != bfh.getObject() ) {
             // prime has changed, to update new object
             // Equality might have changed on the object, so remove (which uses the handle id) and add back in
             WorkingMemoryEntryPoint ep = bfh.getEntryPoint(this.ep.getReteEvaluator());
             ep.getObjectStore().updateHandle(bfh, beliefSet.getFirst().getObject().getObject());
             ep.update( bfh, bfh.getObject(), allSetButTraitBitMask(), Object.class, null );
         }
+        return false;
+    }
 
+    private void releaseEmptyBeliefSet(BeliefSet<SimpleMode> beliefSet) {
+        InternalFactHandle bfh = beliefSet.getFactHandle();
         if ( beliefSet.isEmpty() && bfh.getEqualityKey() != null ) {
             // if the beliefSet is empty, we must null the logical handle
             EqualityKey key = bfh.getEqualityKey();
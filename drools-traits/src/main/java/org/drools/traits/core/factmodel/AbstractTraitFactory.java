@@ -64,6 +64,9 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
 
     protected Map<String, Constructor> factoryCache = new HashMap<>();
 
+    // the constructors of the factoryCache indexed by core and trait class, so that donning a trait doesn't build its key
+    protected transient Map<Class<?>, Map<Class<?>, Constructor<T>>> proxyConstructors = new HashMap<>();
+
     protected Map<Class, Class<? extends CoreWrapper<?>>> wrapperCache = new HashMap<>();
 
     private final static TraitClassBuilderFactory traitClassBuilderFactory = new TraitClassBuilderFactory();
@@ -105,6 +108,7 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
         mode = (VirtualPropertyMode) in.readObject();
         factoryCache = (Map<String, Constructor>) in.readObject();
+        proxyConstructors = new HashMap<>();
         wrapperCache = (Map<Class, Class<? extends CoreWrapper<?>>>) in.readObject();
     }
 
@@ -123,13 +127,19 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
             return (T) core.getTrait(traitName);
         }
 
-        String key = getKey(core.getClass(), trait);
-
         Constructor<T> konst;
         synchronized (this) {
-            konst = factoryCache.get(key);
+            Map<Class<?>, Constructor<T>> constructorsByTrait = proxyConstructors.computeIfAbsent(core.getClass(), c -> new HashMap<>());
+            konst = constructorsByTrait.get(trait);
             if (konst == null) {
-                konst = cacheConstructor(key, core, trait);
+                String key = getKey(core.getClass(), trait);
+                konst = factoryCache.get(key);
+                if (konst == null) {
+                    konst = cacheConstructor(key, core, trait);
+                }
+                if (konst != null) {
+                    constructorsByTrait.put(trait, konst);
+                }
             }
         }
 
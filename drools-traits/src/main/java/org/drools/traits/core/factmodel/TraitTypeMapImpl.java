@@ -145,10 +145,9 @@ public class TraitTypeMapImpl<T extends String, K extends Thing<C>, C>
         Collection<K> subs = this.lowerDescendants( code );
         List<K> ret = new ArrayList<>( subs.size() );
         for ( K k : subs ) {
-            Key<K> t = new BitMaskKey<>( System.identityHashCode(k), k );
-            TraitType tt = (TraitType) t.getValue();
+            TraitType tt = (TraitType) k;
             if ( ! tt._isVirtual() ) {
-                ret.add( t.getValue() );
+                ret.add( k );
                 removeMember( tt._getTypeCode() );
                 K thing = innerMap.remove( tt._getTraitName() );
                 if ( thing instanceof TraitProxyImpl) {
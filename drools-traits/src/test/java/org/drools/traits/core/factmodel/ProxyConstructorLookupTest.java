@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.traits.core.factmodel;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.drools.base.factmodel.traits.Thing;
+import org.drools.base.factmodel.traits.Trait;
+import org.drools.traits.core.util.StandaloneTraitFactory;
+import org.drools.wiring.api.classloader.ProjectClassLoader;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProxyConstructorLookupTest {
+
+    @Trait
+    public interface Student extends Thing<Entity> {
+        String getSchool();
+        void setSchool(String school);
+    }
+
+    @Trait
+    public interface Worker extends Student {
+        String getCompany();
+        void setCompany(String company);
+    }
+
+    private StandaloneTraitFactory factory;
+
+    @Before
+    public void init() {
+        factory = new StandaloneTraitFactory(ProjectClassLoader.createProjectClassLoader());
+    }
+
+    @Test
+    public void testConstructorIndexedByCoreAndTraitClass() throws LogicalTypeInconsistencyException {
+        Student first = (Student) factory.don(new Entity("first"), Student.class);
+        Student second = (Student) factory.don(new Entity("second"), Student.class);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getClass()).isSameAs(first.getClass());
+
+        Map<Class<?>, ? extends Constructor<?>> constructorsByTrait = constructorsByTrait(Entity.class);
+        assertThat(constructorsByTrait).containsOnlyKeys(Student.class);
+        assertThat(constructorsByTrait.get(Student.class)).isSameAs(cachedConstructor(Entity.class, Student.class));
+        assertThat(constructorsByTrait.get(Student.class).getDeclaringClass()).isSameAs(first.getClass());
+    }
+
+    @Test
+    public void testConstructorsOfDifferentTraitsOnTheSameCore() throws LogicalTypeInconsistencyException {
+        Entity core = new Entity("core");
+        Student student = (Student) factory.don(core, Student.class);
+        Worker worker = (Worker) factory.don(core, Worker.class);
+
+        assertThat(worker.getClass()).isNotSameAs(student.getClass());
+
+        Map<Class<?>, ? extends Constructor<?>> constructorsByTrait = constructorsByTrait(Entity.class);
+        assertThat(constructorsByTrait).containsOnlyKeys(Student.class, Worker.class);
+        assertThat(constructorsByTrait.get(Worker.class).getDeclaringClass()).isSameAs(worker.getClass());
+
+        // donning a trait the core already has returns its proxy
+        assertThat(factory.don(core, Student.class)).isSameAs(student);
+    }
+
+    @Test
+    public void testIndexRebuiltFromFactoryCache() throws LogicalTypeInconsistencyException {
+        Student before = (Student) factory.don(new Entity("before"), Student.class);
+        Constructor<?> cached = cachedConstructor(Entity.class, Student.class);
+
+        // the index is transient: a deserialized factory only has the string-keyed cache
+        ((AbstractTraitFactory<?, ?>) factory).proxyConstructors = new HashMap<>();
+
+        Student after = (Student) factory.don(new Entity("after"), Student.class);
+        assertThat(after.getClass()).isSameAs(before.getClass());
+        assertThat(cachedConstructor(Entity.class, Student.class)).isSameAs(cached);
+        assertThat(constructorsByTrait(Entity.class).get(Student.class)).isSameAs(cached);
+    }
+
+    private Map<Class<?>, ? extends Constructor<?>> constructorsByTrait(Class<?> coreClass) {
+        return ((AbstractTraitFactory<?, ?>) factory).proxyConstructors.get(coreClass);
+    }
+
+    private Constructor<?> cachedConstructor(Class<?> coreClass, Class<?> trait) {
+        return ((AbstractTraitFactory<?, ?>) factory).factoryCache.get(AbstractTraitFactory.getKey(coreClass, trait));
+    }
+}
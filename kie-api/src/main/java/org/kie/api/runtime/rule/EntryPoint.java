@@ -18,7 +18,11 @@
  */
 package org.kie.api.runtime.rule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.kie.api.runtime.ObjectFilter;
 
@@ -63,6 +67,23 @@ public interface EntryPoint {
      */
     FactHandle insert(Object object);
 
+    /**
+     * Inserts all the given facts into this entry point. The result is the same as inserting them one by one,
+     * but implementations may propagate the whole batch at once, which is faster when loading many facts.
+     *
+     * @param objects
+     *        the facts to be inserted
+     *
+     * @return the fact handles created for the given facts, in the same order of the facts
+     */
+    default List<FactHandle> insertAll(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>(objects.size());
+        for (Object object : objects) {
+            handles.add(insert(object));
+        }
+        return handles;
+    }
+
     /**
      * Retracts the fact for which the given FactHandle was assigned.
      *
@@ -112,6 +133,44 @@ public interface EntryPoint {
                 Object object,
                 String... modifiedProperties);
 
+    /**
+     * Updates the facts of all the given FactHandles with the objects currently associated with them,
+     * specifying the set of properties that have been modified in all of them. When no property is given, the facts
+     * are considered wholly modified, as for {@link #update(FactHandle, Object)}. A FactHandle appearing more than
+     * once in the batch is updated only once.
+     *
+     * @param handles the FactHandles of the facts to be updated.
+     * @param modifiedProperties the list of the names of the properties modified in the updated facts.
+     * @see #updateAll(Map)
+     */
+    default void updateAll(Collection<? extends FactHandle> handles,
+                           String... modifiedProperties) {
+        Map<FactHandle, String[]> updates = new LinkedHashMap<>();
+        for (FactHandle handle : handles) {
+            updates.put(handle, modifiedProperties);
+        }
+        updateAll(updates);
+    }
+
+    /**
+     * Updates the facts of all the given FactHandles with the objects currently associated with them,
+     * specifying for each of them the set of properties that have been modified. A fact mapped to an empty
+     * set of properties is considered wholly modified, as for {@link #update(FactHandle, Object)}. The result
+     * is the same as updating them one by one, in the iteration order of the map.
+     *
+     * @param modifiedProperties the names of the properties modified in each updated fact, by FactHandle.
+     */
+    default void updateAll(Map<? extends FactHandle, String[]> modifiedProperties) {
+        for (Map.Entry<? extends FactHandle, String[]> entry : modifiedProperties.entrySet()) {
+            FactHandle handle = entry.getKey();
+            if (entry.getValue().length == 0) {
+                update(handle, handle.getObject());
+            } else {
+                update(handle, handle.getObject(), entry.getValue());
+            }
+        }
+    }
+
     /**
      * Returns the fact handle associated with the given object. It is important to note that this
      * method behaves in accordance with the configured assert behaviour for this {@link org.kie.api.KieBase}
@@ -19,6 +19,7 @@
 package org.kie.api.runtime.rule;
 
 import java.util.Collection;
+import java.util.function.Predicate;
 
 /**
  * The {@link RuleRuntime} is a super-interface for all {@link org.kie.api.runtime.KieSession}s.
@@ -77,6 +78,45 @@ public interface RuleRuntime
     QueryResults getQueryResults(String query,
                                  Object... arguments);
 
+    /**
+     * Executes the specified query passing each row of its results to the given consumer as soon as the query
+     * produces it, instead of collecting all of them into a QueryResults. The consumer can return false to stop
+     * the query: no further row is passed to it. A row is only valid while it is being consumed, so the consumer
+     * must copy the values it needs to keep.
+     * <p>
+     * The consumer runs in the middle of the network evaluation of the query, with the session locked by the calling
+     * thread. It must not insert, update or delete facts, fire rules or call back into the session in any other
+     * way, since the session is not in a consistent state: running another query on the same session from the
+     * consumer fails with an IllegalStateException, while the effects of the other calls are undefined.
+     * Collect what is needed and act on the session after this method returns.
+     * </p>
+     *
+     * @param query
+     *            The name of the query.
+     *
+     * @param consumer
+     *            The consumer of the rows, returning false when it doesn't want any further row
+     *
+     * @param arguments
+     *            The arguments used for the query
+     *
+     * @return The number of rows passed to the consumer
+     *
+     * @throws RuntimeException If the query does not exist
+     */
+    default long streamQueryResults(String query,
+                                    Predicate<QueryResultsRow> consumer,
+                                    Object... arguments) {
+        long count = 0;
+        for (QueryResultsRow row : getQueryResults(query, arguments)) {
+            count++;
+            if (!consumer.test(row)) {
+                break;
+            }
+        }
+        return count;
+    }
+
     LiveQuery openLiveQuery(String query,
                             Object[] arguments,
                             ViewChangedEventListener listener);
@@ -0,0 +1,63 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * An Enum for copyOnWriteUpdates option. When enabled a KieContainer updated to a new version builds a new
+ * KieBase next to the one currently in use and swaps it in, instead of incrementally updating the existing
+ * KieBase while all its sessions are paused. The sessions already created keep running on the previous
+ * version, that is released once they have all been disposed, while the new sessions use the new one.
+ *
+ * drools.copyOnWriteUpdates = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum CopyOnWriteUpdatesOption implements SingleValueRuleBaseOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the copy on write updates option
+     */
+    public static final String PROPERTY_NAME = "drools.copyOnWriteUpdates";
+
+    public static OptionKey<CopyOnWriteUpdatesOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private boolean value;
+
+    CopyOnWriteUpdatesOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isCopyOnWriteUpdates() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,171 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * Determines the executor used by a KieBase to run its parallel evaluations, like the ones of the partitions
+ * of the rete network and of the large joins.
+ *
+ * drools.evaluationExecutor = &lt;shared|forkjoin|forkjoin:n|virtual&gt;
+ *
+ * shared: the ForkJoinPool shared by all the KieBases of the JVM
+ * forkjoin: a ForkJoinPool dedicated to this KieBase, optionally with the given parallelism
+ * virtual: a new virtual thread for each task, requires Java 21 or later
+ *
+ * The dedicated executors are shut down when the KieContainer of the KieBase is disposed.
+ *
+ * An ExecutorService supplied by the caller can be configured only programmatically through {@link #custom(ExecutorService)}.
+ * Its lifecycle is managed by the caller and, since it is not serialized, a deserialized KieBase falls back to the shared executor.
+ *
+ * DEFAULT = shared
+ */
+public class EvaluationExecutorOption implements SingleValueRuleBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public enum Type {
+        SHARED, FORK_JOIN, VIRTUAL_THREADS, CUSTOM
+    }
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.evaluationExecutor";
+
+    public static OptionKey<EvaluationExecutorOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    public static final EvaluationExecutorOption SHARED = new EvaluationExecutorOption(Type.SHARED, -1, null);
+
+    public static final EvaluationExecutorOption VIRTUAL_THREADS = new EvaluationExecutorOption(Type.VIRTUAL_THREADS, -1, null);
+
+    private final Type type;
+
+    private final int parallelism;
+
+    private final transient ExecutorService executorService;
+
+    private EvaluationExecutorOption(Type type, int parallelism, ExecutorService executorService) {
+        this.type = type;
+        this.parallelism = parallelism;
+        this.executorService = executorService;
+    }
+
+    /**
+     * A ForkJoinPool dedicated to the KieBase having as parallelism the number of available processors
+     */
+    public static EvaluationExecutorOption forkJoin() {
+        return forkJoin(-1);
+    }
+
+    /**
+     * A ForkJoinPool dedicated to the KieBase having the given parallelism
+     */
+    public static EvaluationExecutorOption forkJoin(int parallelism) {
+        return new EvaluationExecutorOption(Type.FORK_JOIN, parallelism, null);
+    }
+
+    /**
+     * An ExecutorService supplied and managed by the caller. It is never shut down by the KieBase.
+     */
+    public static EvaluationExecutorOption custom(ExecutorService executorService) {
+        return new EvaluationExecutorOption(Type.CUSTOM, -1, Objects.requireNonNull(executorService));
+    }
+
+    public static EvaluationExecutorOption determineEvaluationExecutor(final String value) {
+        if (value == null || value.trim().isEmpty() || "shared".equalsIgnoreCase(value.trim())) {
+            return SHARED;
+        }
+        String trimmed = value.trim().toLowerCase();
+        if ("virtual".equals(trimmed)) {
+            return VIRTUAL_THREADS;
+        }
+        if ("forkjoin".equals(trimmed)) {
+            return forkJoin();
+        }
+        if (trimmed.startsWith("forkjoin:")) {
+            try {
+                return forkJoin(Integer.parseInt(trimmed.substring("forkjoin:".length())));
+            } catch (NumberFormatException e) {
+                // fall through to the exception below
+            }
+        }
+        throw new IllegalArgumentException("Illegal value '" + value + "' for EvaluationExecutor");
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * The parallelism of a dedicated ForkJoinPool or a value lower than 1 to use the number of available processors
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public String toExternalForm() {
+        switch (type) {
+            case FORK_JOIN:
+                return parallelism > 0 ? "forkjoin:" + parallelism : "forkjoin";
+            case VIRTUAL_THREADS:
+                return "virtual";
+            case CUSTOM:
+                return "custom";
+            default:
+                return "shared";
+        }
+    }
+
+    private Object readResolve() {
+        return type == Type.CUSTOM && executorService == null ? SHARED : this;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, parallelism, executorService);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null || getClass() != obj.getClass() ) { return false; }
+        EvaluationExecutorOption other = (EvaluationExecutorOption) obj;
+        return type == other.type && parallelism == other.parallelism && executorService == other.executorService;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationExecutorOption( " + toExternalForm() + " )";
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * A class for the time, in milliseconds, after which a session that has not been borrowed from a sessions pool
+ * of a KieBase is evicted and disposed. A value lower than 1 means that the idle sessions are never evicted.
+ */
+public class SessionsPoolIdleTimeoutOption implements SingleValueRuleBaseOption {
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.sessionPool.idleTimeout";
+
+    public static OptionKey<SessionsPoolIdleTimeoutOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    /**
+     * The default value for this option
+     */
+    public static final long DEFAULT_VALUE = -1;
+
+    /**
+     * idle timeout in milliseconds
+     */
+    private final long idleTimeout;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param idleTimeout
+     */
+    private SessionsPoolIdleTimeoutOption( long idleTimeout ) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * This is a factory method for this Sessions Pool Idle Timeout configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param idleTimeout the idle time in milliseconds after which a pooled session is evicted
+     *
+     * @return the actual type safe sessions pool idle timeout configuration.
+     */
+    public static SessionsPoolIdleTimeoutOption get( long idleTimeout ) {
+        return new SessionsPoolIdleTimeoutOption( idleTimeout );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the idle time in milliseconds after which a pooled session is evicted
+     *
+     * @return
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + (int) (idleTimeout ^ (idleTimeout >>> 32));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        SessionsPoolIdleTimeoutOption other = (SessionsPoolIdleTimeoutOption) obj;
+        if ( idleTimeout != other.idleTimeout ) {
+            return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * A class for the maximum number of idle sessions that a sessions pool of a KieBase keeps for each session
+ * configuration. A session released to a pool that is already full is disposed, evicting the least recently
+ * used one. A value lower than 1 means that the pool is unbounded.
+ */
+public class SessionsPoolMaxSizeOption implements SingleValueRuleBaseOption {
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.sessionPool.maxSize";
+
+    public static OptionKey<SessionsPoolMaxSizeOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    /**
+     * The default value for this option
+     */
+    public static final int DEFAULT_VALUE = -1;
+
+    /**
+     * maximum pool size
+     */
+    private final int maxSize;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param maxSize
+     */
+    private SessionsPoolMaxSizeOption( int maxSize ) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * This is a factory method for this Sessions Pool Max Size configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param maxSize the maximum number of idle sessions kept by the pool
+     *
+     * @return the actual type safe sessions pool max size configuration.
+     */
+    public static SessionsPoolMaxSizeOption get( int maxSize ) {
+        return new SessionsPoolMaxSizeOption( maxSize );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the maximum number of idle sessions kept by the pool
+     *
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + maxSize;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        SessionsPoolMaxSizeOption other = (SessionsPoolMaxSizeOption) obj;
+        if ( maxSize != other.maxSize ) {
+            return false;
+        }
+        return true;
+    }
+
+}
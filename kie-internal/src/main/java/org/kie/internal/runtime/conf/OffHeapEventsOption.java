@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueRuleRuntimeOption;
+
+/**
+ * Option to also store off-heap the events inserted in a session whose facts are kept off-heap through the
+ * {@link OffHeapFactsOption}. The events retained by sliding windows then only occupy their handle on heap,
+ * which makes very wide windows over high-rate streams affordable, while an accumulate incrementally maintaining
+ * its result over the window doesn't need the events once they have been accumulated.
+ *
+ * drools.offHeapEvents = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum OffHeapEventsOption implements SingleValueRuleRuntimeOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = "drools.offHeapEvents";
+
+    public static OptionKey<OffHeapEventsOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final boolean offHeapEvents;
+
+    OffHeapEventsOption( final boolean offHeapEvents ) {
+        this.offHeapEvents = offHeapEvents;
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isOffHeapEvents() {
+        return offHeapEvents;
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import java.util.Objects;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueRuleRuntimeOption;
+
+/**
+ * Option to keep a serialized copy of the facts inserted in a session out of the java heap, either in direct memory
+ * or in memory mapped files created in the given directory. A fact handle then only softly references its fact,
+ * so when the fact is no longer used by the application the garbage collector can reclaim it and the engine will
+ * deserialize a copy of it the next time a rule or a query needs it.
+ *
+ * Only the facts implementing java.io.Serializable and not declared as events are stored off-heap: this is meant
+ * for very large sets of long-lived reference facts whose identity isn't relevant, since a deserialized copy is
+ * equal to the inserted fact, but not the same instance. Events can be stored off-heap as well through the
+ * {@link OffHeapEventsOption}.
+ *
+ * drools.offHeapFacts = &lt;disabled|memory|mapped:directory&gt;
+ *
+ * DEFAULT = disabled
+ */
+public class OffHeapFactsOption implements SingleValueRuleRuntimeOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public enum Type {
+        DISABLED, DIRECT_MEMORY, MAPPED_FILES
+    }
+
+    public static final String PROPERTY_NAME = "drools.offHeapFacts";
+
+    public static OptionKey<OffHeapFactsOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    public static final OffHeapFactsOption DISABLED = new OffHeapFactsOption(Type.DISABLED, null);
+
+    public static final OffHeapFactsOption DIRECT_MEMORY = new OffHeapFactsOption(Type.DIRECT_MEMORY, null);
+
+    private static final String MAPPED_FILES_PREFIX = "mapped:";
+
+    private final Type type;
+
+    private final String directory;
+
+    private OffHeapFactsOption(Type type, String directory) {
+        this.type = type;
+        this.directory = directory;
+    }
+
+    /**
+     * Stores the facts in memory mapped files created in the given directory
+     */
+    public static OffHeapFactsOption mappedFiles(String directory) {
+        return new OffHeapFactsOption(Type.MAPPED_FILES, Objects.requireNonNull(directory));
+    }
+
+    public static OffHeapFactsOption determineOffHeapFacts(String value) {
+        if (value == null || value.trim().isEmpty() || "disabled".equalsIgnoreCase(value.trim())) {
+            return DISABLED;
+        }
+        String trimmed = value.trim();
+        if ("memory".equalsIgnoreCase(trimmed)) {
+            return DIRECT_MEMORY;
+        }
+        if (trimmed.regionMatches(true, 0, MAPPED_FILES_PREFIX, 0, MAPPED_FILES_PREFIX.length()) && trimmed.length() > MAPPED_FILES_PREFIX.length()) {
+            return mappedFiles(trimmed.substring(MAPPED_FILES_PREFIX.length()));
+        }
+        throw new IllegalArgumentException("Illegal value '" + value + "' for OffHeapFactsOption");
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isEnabled() {
+        return type != Type.DISABLED;
+    }
+
+    /**
+     * The directory where the memory mapped files are created, or null if the facts are not stored in files
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    public String getAsString() {
+        switch (type) {
+            case DIRECT_MEMORY:
+                return "memory";
+            case MAPPED_FILES:
+                return MAPPED_FILES_PREFIX + directory;
+            default:
+                return "disabled";
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, directory);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null || getClass() != obj.getClass() ) { return false; }
+        OffHeapFactsOption other = (OffHeapFactsOption) obj;
+        return type == other.type && Objects.equals(directory, other.directory);
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapFactsOption( " + getAsString() + " )";
+    }
+}
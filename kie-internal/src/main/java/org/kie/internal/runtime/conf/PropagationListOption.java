@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueRuleRuntimeOption;
+
+/**
+ * An enum to configure the list collecting the propagations of a thread safe session before the engine evaluates them.
+ *
+ * The "SYNCHRONIZED" list serializes on a monitor all the threads adding or taking propagations. The "LOCK_FREE"
+ * one lets many threads concurrently add propagations, e.g. inserting facts or events at a high rate in the same
+ * session, without contending a lock. It has no effect on a non thread safe session or on one forcing
+ * the eager activation of its rules, which use their own dedicated lists.
+ *
+ * drools.propagationList = &lt;synchronized|lockfree&gt;
+ *
+ * DEFAULT = synchronized
+ */
+public enum PropagationListOption implements SingleValueRuleRuntimeOption {
+
+    SYNCHRONIZED("synchronized"),
+    LOCK_FREE("lockfree");
+
+    /**
+     * The property name for the propagation list configuration
+     */
+    public static final String PROPERTY_NAME = "drools.propagationList";
+
+    public static OptionKey<PropagationListOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final String option;
+
+    PropagationListOption(String option) {
+        this.option = option;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return option;
+    }
+
+    public String toString() {
+        return "PropagationListOption( " + option + " )";
+    }
+
+    public static PropagationListOption determinePropagationList(String option) {
+        if ( SYNCHRONIZED.getAsString().equalsIgnoreCase( option ) ) {
+            return SYNCHRONIZED;
+        } else if ( LOCK_FREE.getAsString().equalsIgnoreCase( option ) ) {
+            return LOCK_FREE;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for PropagationListOption" );
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * Option to keep the jobs scheduled by a session, like the event expirations and the timers of the rules, in a
+ * hierarchical timing wheel instead of a priority queue, with both the pseudo and the realtime clock. Scheduling
+ * and cancelling a job then take constant time, which pays off for sessions with millions of pending expirations.
+ * The jobs expiring at the same time are executed in the order they have been scheduled.
+ *
+ * drools.timingWheel = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum TimingWheelOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = "drools.timingWheel";
+
+    public static OptionKey<TimingWheelOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final boolean timingWheel;
+
+    TimingWheelOption( final boolean timingWheel ) {
+        this.timingWheel = timingWheel;
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+}
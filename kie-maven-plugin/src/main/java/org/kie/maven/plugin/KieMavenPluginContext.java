@@ -50,6 +50,7 @@ public class KieMavenPluginContext {
     private final boolean isModelParameterEnabled;
     private final boolean isModelCompilerInClass;
     private final JavaConfiguration.CompilerType compilerType;
+    private final boolean prebuildKieBases;
     private final Log log;
 
     public static KieMavenPluginContext getKieMavenPluginContext(AbstractKieMojo abstractKieMojo) {
@@ -69,6 +70,7 @@ public class KieMavenPluginContext {
                                          abstractKieMojo.getResourceFolder(),
                                          abstractKieMojo.isModelParameterEnabled(),
                                          abstractKieMojo.getCompilerType(),
+                                         abstractKieMojo.isPrebuildKieBases(),
                                          abstractKieMojo.getLog());
     }
 
@@ -78,7 +80,7 @@ public class KieMavenPluginContext {
                                  File projectDir, File targetDirectory, Map<String, String> properties, MavenProject project,
                                  MavenSession mavenSession, List<Resource> resourcesDirectories, File outputDirectory,
                                  File testDir, File resourceFolder, boolean isModelParameterEnabled,
-                                 JavaConfiguration.CompilerType compilerType, Log log) {
+                                 JavaConfiguration.CompilerType compilerType, boolean prebuildKieBases, Log log) {
         this.dumpKieSourcesFolder = dumpKieSourcesFolder;
         this.generateModel = generateModel;
         this.generateDMNModel = generateDMNModel;
@@ -96,6 +98,7 @@ public class KieMavenPluginContext {
         this.isModelParameterEnabled = isModelParameterEnabled;
         this.isModelCompilerInClass = isModelCompilerInClassPath(project.getDependencies());
         this.compilerType = compilerType;
+        this.prebuildKieBases = prebuildKieBases;
         this.log = log;
     }
 
@@ -167,6 +170,10 @@ public class KieMavenPluginContext {
         return compilerType;
     }
 
+    public boolean isPrebuildKieBases() {
+        return prebuildKieBases;
+    }
+
     public Log getLog() {
         return log;
     }
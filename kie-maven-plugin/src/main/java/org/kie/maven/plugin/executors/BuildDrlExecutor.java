@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -49,10 +50,16 @@ import org.drools.compiler.kie.builder.impl.CompilationCacheProvider;
 import org.drools.compiler.kie.builder.impl.DrlProject;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
 import org.drools.compiler.kie.builder.impl.KieBuilderImpl;
+import org.drools.compiler.kie.builder.impl.KieModuleKieProject;
+import org.drools.compiler.kie.builder.impl.KiePackagesSnapshot;
+import org.drools.compiler.kie.builder.impl.KieProject;
 import org.drools.compiler.kie.builder.impl.MemoryKieModule;
 import org.drools.compiler.kie.builder.impl.ResultsImpl;
+import org.drools.compiler.kproject.models.KieBaseModelImpl;
 import org.kie.api.KieServices;
 import org.kie.api.builder.Message;
+import org.kie.api.builder.model.KieBaseModel;
+import org.kie.api.definition.KiePackage;
 import org.kie.maven.plugin.DiskResourceStore;
 import org.kie.maven.plugin.KieMavenPluginContext;
 import org.kie.maven.plugin.ProjectPomModel;
@@ -126,6 +133,7 @@ public class BuildDrlExecutor {
                 throw new MojoFailureException("Build failed!");
             } else {
                 writeClassFiles(kModule, outputDirectory);
+                writePrebuiltKieBases(kModule, outputDirectory, kieMavenPluginContext.isPrebuildKieBases(), log);
             }
 
             if (shallPerformDMNDTAnalysis(validateDMN, log)) {
@@ -153,6 +161,31 @@ public class BuildDrlExecutor {
                 } );
     }
 
+    private static void writePrebuiltKieBases(InternalKieModule kModule, File outputDirectory, boolean prebuildKieBases, Log log) {
+        DiskResourceStore resourceStore = new DiskResourceStore(outputDirectory);
+        KieProject kProject = null;
+        for (KieBaseModel kBaseModel : kModule.getKieModuleModel().getKieBaseModels().values()) {
+            String snapshotPath = KiePackagesSnapshot.getSnapshotPath(kBaseModel.getName());
+            Collection<KiePackage> pkgs = prebuildKieBases ? kModule.getKnowledgePackagesForKieBase(kBaseModel.getName()) : null;
+            if (pkgs == null) {
+                // an image left in the output by a previous build would otherwise be packaged with the new sources
+                resourceStore.remove(snapshotPath);
+                continue;
+            }
+            if (kProject == null) {
+                kProject = new KieModuleKieProject(kModule, Thread.currentThread().getContextClassLoader());
+                kProject.init();
+            }
+            String digest = kProject.getKieBaseDigest((KieBaseModelImpl) kBaseModel);
+            if (digest == null) {
+                resourceStore.remove(snapshotPath);
+                continue;
+            }
+            resourceStore.write(snapshotPath, KiePackagesSnapshot.write(digest, pkgs), true);
+            log.info("Prebuilt KieBase " + kBaseModel.getName());
+        }
+    }
+
     private static void saveFile(MemoryFileSystem mfs, String fileName, File outputDirectory) throws MojoFailureException {
         MemoryFile memFile = (MemoryFile)mfs.getFile(fileName);
         final Path path = Paths.get(outputDirectory.getPath(), memFile.getPath().asString());
@@ -85,6 +85,13 @@ public abstract class AbstractKieMojo extends AbstractMojo {
     @Parameter(property = "javaCompiler", defaultValue = "ecj")
     private String javaCompiler;
 
+    /**
+     * Stores in the kjar the compiled packages of each KieBase built from DRL, so that at runtime
+     * the KieBase is created without compiling its sources again.
+     */
+    @Parameter(property = "prebuildKieBases", defaultValue = "false")
+    private boolean prebuildKieBases;
+
     public String getDumpKieSourcesFolder() {
         return dumpKieSourcesFolder;
     }
@@ -145,6 +152,10 @@ public abstract class AbstractKieMojo extends AbstractMojo {
         return javaCompiler;
     }
 
+    public boolean isPrebuildKieBases() {
+        return prebuildKieBases;
+    }
+
     public boolean isModelParameterEnabled() {
         return execModelParameterEnabled(generateModel);
     }